@@ -0,0 +1,230 @@
+package com.mycompany.ums;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-student index over academic history entries such as "CS101: A".
+ * Every entry is parsed once into a completed-course bitset and a grade-point
+ * array, both indexed by the course ordinals of a PrerequisiteGraph so they can
+ * be tested directly against prerequisite closures.
+ *
+ * The backing history map keeps working for display; new entries must go
+ * through {@link #addEntry} so the index stays in sync. A student's record is
+ * built on first access, so creating the index over a large or lazily loaded
+ * history map costs nothing up front. Builds take the same lock as
+ * {@link #addEntry}, so a reader never sees a list being appended to.
+ *
+ * A course counts as completed only if its latest entry has a passing
+ * grade; see {@link #isPassing}.
+ */
+public final class AcademicHistoryIndex {
+    private static final char GRADE_SEPARATOR = ':';
+    private static final String FAILING_GRADE = "F";
+    private static final StudentRecord EMPTY_RECORD = new StudentRecord(new BitSet(), new double[0]);
+
+    private final Map<String, List<String>> academicHistory;
+    private final PrerequisiteGraph courses;
+    private final Map<String, StudentRecord> records = new ConcurrentHashMap<>();
+
+    public AcademicHistoryIndex(Map<String, List<String>> academicHistory) {
+        this(academicHistory, new PrerequisiteGraph());
+    }
+
+    public AcademicHistoryIndex(Map<String, List<String>> academicHistory, PrerequisiteGraph courses) {
+        if (academicHistory == null) {
+            throw new IllegalArgumentException("Academic history map cannot be null");
+        }
+        if (courses == null) {
+            throw new IllegalArgumentException("Course graph cannot be null");
+        }
+        this.academicHistory = academicHistory;
+        this.courses = courses;
+    }
+
+    /**
+     * Course dictionary whose ordinals this index uses.
+     */
+    public PrerequisiteGraph courses() {
+        return courses;
+    }
+
+    /**
+     * Appends an entry to the student's history and updates the index in place.
+     */
+    public synchronized void addEntry(String studentId, String entry) {
+        if (studentId == null || studentId.isBlank()) {
+            throw new IllegalArgumentException("Student ID cannot be null or empty");
+        }
+        if (entry == null || entry.isBlank()) {
+            throw new IllegalArgumentException("History entry cannot be null or empty");
+        }
+        StudentRecord current = record(studentId);
+        academicHistory.computeIfAbsent(studentId, k -> new ArrayList<>()).add(entry);
+
+        BitSet completed = (BitSet) current.completed.clone();
+        double[] grades = current.grades;
+        int course = courses.intern(courseCodeOf(entry));
+        if (course >= grades.length) {
+            grades = grow(grades, course + 1);
+        } else {
+            grades = grades.clone();
+        }
+        apply(entry, course, completed, grades);
+        records.put(studentId, new StudentRecord(completed, grades));
+    }
+
+    /**
+     * Completed courses as ordinals of {@link #courses()}. The returned set must not be modified.
+     */
+    public BitSet completedCourses(String studentId) {
+        return record(studentId).completed;
+    }
+
+    public boolean hasCompleted(String studentId, String courseCode) {
+        // Build the record first, as building interns the student's courses
+        BitSet completed = completedCourses(studentId);
+        int course = courses.ordinalOf(courseCode);
+        return course >= 0 && completed.get(course);
+    }
+
+    public boolean hasCompletedAll(String studentId, Collection<String> courseCodes) {
+        BitSet completed = completedCourses(studentId);
+        for (String code : courseCodes) {
+            int course = courses.ordinalOf(code);
+            if (course < 0 || !completed.get(course)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the student has completed every transitive prerequisite of the course.
+     */
+    public boolean meetsPrerequisites(String studentId, String courseCode) {
+        BitSet completed = completedCourses(studentId);
+        return courses.isSatisfiedBy(courseCode, completed);
+    }
+
+    /**
+     * Transitive prerequisites of the course the student has not completed.
+     */
+    public List<String> missingPrerequisites(String studentId, String courseCode) {
+        BitSet completed = completedCourses(studentId);
+        return courses.missingPrerequisites(courseCode, completed);
+    }
+
+    /**
+     * Latest grade points recorded for the course, or NaN if none.
+     */
+    public double gradePoints(String studentId, String courseCode) {
+        double[] grades = record(studentId).grades;
+        int course = courses.ordinalOf(courseCode);
+        return course < 0 || course >= grades.length ? Double.NaN : grades[course];
+    }
+
+    /**
+     * Extracts the course code from an entry like "CS101: A".
+     */
+    public static String courseCodeOf(String entry) {
+        int separator = entry.indexOf(GRADE_SEPARATOR);
+        return (separator < 0 ? entry : entry.substring(0, separator)).trim();
+    }
+
+    /**
+     * Whether the entry completes its course: a grade of D or better. Fails,
+     * withdrawals, unknown letters and entries without a grade do not.
+     */
+    public static boolean isPassing(String entry) {
+        return gradePointsOf(entry) > 0.0;
+    }
+
+    /**
+     * Grade points for the letter grade of an entry, or NaN if it has none.
+     */
+    public static double gradePointsOf(String entry) {
+        int separator = entry.indexOf(GRADE_SEPARATOR);
+        if (separator < 0) {
+            return Double.NaN;
+        }
+        switch (entry.substring(separator + 1).trim().toUpperCase()) {
+            case "A": return 4.0;
+            case "A-": return 3.7;
+            case "B+": return 3.3;
+            case "B": return 3.0;
+            case "B-": return 2.7;
+            case "C+": return 2.3;
+            case "C": return 2.0;
+            case "C-": return 1.7;
+            case "D+": return 1.3;
+            case "D": return 1.0;
+            case FAILING_GRADE: return 0.0;
+            default: return Double.NaN;
+        }
+    }
+
+    private StudentRecord record(String studentId) {
+        StudentRecord record = records.get(studentId);
+        return record != null ? record : buildRecord(studentId);
+    }
+
+    private synchronized StudentRecord buildRecord(String studentId) {
+        StudentRecord record = records.get(studentId);
+        if (record != null) {
+            return record;
+        }
+        List<String> entries = academicHistory.get(studentId);
+        if (entries == null) {
+            return EMPTY_RECORD;
+        }
+        record = build(entries);
+        records.put(studentId, record);
+        return record;
+    }
+
+    private StudentRecord build(List<String> entries) {
+        BitSet completed = new BitSet();
+        double[] grades = new double[0];
+        for (String entry : entries) {
+            int course = courses.intern(courseCodeOf(entry));
+            if (course >= grades.length) {
+                grades = grow(grades, course + 1);
+            }
+            apply(entry, course, completed, grades);
+        }
+        return new StudentRecord(completed, grades);
+    }
+
+    // A failed or ungraded attempt records the grade but does not count as completion
+    private static void apply(String entry, int course, BitSet completed, double[] grades) {
+        grades[course] = gradePointsOf(entry);
+        if (isPassing(entry)) {
+            completed.set(course);
+        } else {
+            completed.clear(course);
+        }
+    }
+
+    private static double[] grow(double[] grades, int minLength) {
+        int oldLength = grades.length;
+        double[] grown = Arrays.copyOf(grades, Math.max(minLength, oldLength * 2));
+        Arrays.fill(grown, oldLength, grown.length, Double.NaN);
+        return grown;
+    }
+
+    private static final class StudentRecord {
+        final BitSet completed;
+        final double[] grades;
+
+        StudentRecord(BitSet completed, double[] grades) {
+            this.completed = completed;
+            this.grades = grades;
+        }
+    }
+}
@@ -7,49 +7,76 @@ import java.util.List;
 // Generic validator interface
 interface Validator<T> {
     void validate(T obj) throws IllegalArgumentException;
+
+    default ValidationResult check(T obj) {
+        return ValidationResult.capture(() -> validate(obj));
+    }
 }
 
 // Concrete validators:
 
 class CourseCodeValidator implements Validator<Assessment> {
+    private static final ValidationResult EMPTY_CODE =
+            ValidationResult.failure(CommonErrorCode.MISSING, "Course code cannot be empty");
+
     @Override
     public void validate(Assessment assessment) {
+        check(assessment).orThrow();
+    }
+
+    @Override
+    public ValidationResult check(Assessment assessment) {
         String code = assessment.getCourseCode();
-        if (code == null || code.trim().isEmpty()) {
-            throw new IllegalArgumentException("Course code cannot be empty");
-        }
+        return code == null || code.trim().isEmpty() ? EMPTY_CODE : ValidationResult.valid();
     }
 }
 
 class TypeValidator implements Validator<Assessment> {
     private static final List<String> VALID_TYPES = List.of("quiz", "assignment", "exam");
+    private static final ValidationResult INVALID_TYPE =
+            ValidationResult.failure(CommonErrorCode.INVALID, "Invalid assessment type");
 
     @Override
     public void validate(Assessment assessment) {
+        check(assessment).orThrow();
+    }
+
+    @Override
+    public ValidationResult check(Assessment assessment) {
         String type = assessment.getType();
-        if (type == null || !VALID_TYPES.contains(type.toLowerCase())) {
-            throw new IllegalArgumentException("Invalid assessment type");
-        }
+        return type == null || !VALID_TYPES.contains(type.toLowerCase()) ? INVALID_TYPE : ValidationResult.valid();
     }
 }
 
 class DueDateValidator implements Validator<Assessment> {
+    private static final ValidationResult NO_DUE_DATE =
+            ValidationResult.failure(CommonErrorCode.MISSING, "Due date cannot be null");
+
     @Override
     public void validate(Assessment assessment) {
+        check(assessment).orThrow();
+    }
+
+    @Override
+    public ValidationResult check(Assessment assessment) {
         LocalDate date = assessment.getDueDate();
-        if (date == null) {
-            throw new IllegalArgumentException("Due date cannot be null");
-        }
+        return date == null ? NO_DUE_DATE : ValidationResult.valid();
     }
 }
 
 class SubmissionValidator implements Validator<Assessment> {
+    private static final ValidationResult EMPTY_SUBMISSION =
+            ValidationResult.failure(CommonErrorCode.MISSING, "Submission text cannot be empty");
+
     @Override
     public void validate(Assessment assessment) {
+        check(assessment).orThrow();
+    }
+
+    @Override
+    public ValidationResult check(Assessment assessment) {
         String submission = assessment.getSubmission();
-        if (submission == null || submission.trim().isEmpty()) {
-            throw new IllegalArgumentException("Submission text cannot be empty");
-        }
+        return submission == null || submission.trim().isEmpty() ? EMPTY_SUBMISSION : ValidationResult.valid();
     }
 }
 
@@ -67,4 +94,15 @@ public final class AssessmentValidator implements Validator<Assessment> {
             validator.validate(assessment);
         }
     }
+
+    @Override
+    public ValidationResult check(Assessment assessment) {
+        for (Validator<Assessment> validator : validators) {
+            ValidationResult result = validator.check(assessment);
+            if (!result.isValid()) {
+                return result;
+            }
+        }
+        return ValidationResult.valid();
+    }
 }
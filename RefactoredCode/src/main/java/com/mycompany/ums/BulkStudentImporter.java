@@ -0,0 +1,250 @@
+package com.mycompany.ums;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming CSV import of students (id,name,email,phone).
+ * Rows are read in fixed-size batches so memory stays bounded, each batch is
+ * validated in parallel with the StudentValidator rules, and valid rows are
+ * then deduplicated against the registry in file order.
+ */
+public final class BulkStudentImporter {
+    public static final int DEFAULT_BATCH_SIZE = 4096;
+
+    private static final int EXPECTED_FIELDS = 4;
+    private static final String HEADER_ID = "id";
+
+    private final StudentRepository registry;
+    private final int batchSize;
+
+    public BulkStudentImporter(StudentRepository registry) {
+        this(registry, DEFAULT_BATCH_SIZE);
+    }
+
+    public BulkStudentImporter(StudentRepository registry, int batchSize) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Registry cannot be null");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.registry = registry;
+        this.batchSize = batchSize;
+    }
+
+    public ImportReport importCsv(Reader source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Source cannot be null");
+        }
+        long start = System.nanoTime();
+        ImportReport.Builder report = new ImportReport.Builder();
+        List<CsvRow> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(source)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> fields = parseLine(line);
+                if (lineNumber == 1 && HEADER_ID.equalsIgnoreCase(fields.get(0).trim())) {
+                    continue;
+                }
+                batch.add(new CsvRow(lineNumber, fields));
+                if (batch.size() == batchSize) {
+                    processBatch(batch, report);
+                    batch.clear();
+                }
+            }
+            processBatch(batch, report);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read student CSV", e);
+        }
+
+        return report.build(System.nanoTime() - start);
+    }
+
+    private void processBatch(List<CsvRow> batch, ImportReport.Builder report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<RowOutcome> outcomes = batch.parallelStream()
+                .map(BulkStudentImporter::validateRow)
+                .collect(Collectors.toList());
+
+        // Dedupe sequentially so earlier rows in the file win
+        for (RowOutcome outcome : outcomes) {
+            if (outcome.error != null) {
+                report.reject(outcome.lineNumber, outcome.error);
+                continue;
+            }
+            Student student = outcome.student;
+            if (registry.existsById(student.getId())) {
+                report.reject(outcome.lineNumber, "Student ID already exists: " + student.getId());
+            } else if (registry.existsByEmail(student.getEmail())) {
+                report.reject(outcome.lineNumber, "Email already registered: " + student.getEmail());
+            } else if (registry.existsByPhone(student.getPhone())) {
+                report.reject(outcome.lineNumber, "Phone already registered: " + student.getPhone());
+            } else {
+                registry.add(student);
+                report.accept();
+            }
+        }
+    }
+
+    private static RowOutcome validateRow(CsvRow row) {
+        if (row.fields.size() != EXPECTED_FIELDS) {
+            return RowOutcome.failed(row.lineNumber,
+                    String.format("Expected %d fields but found %d", EXPECTED_FIELDS, row.fields.size()));
+        }
+        try {
+            String id = apply(StudentValidator::validateId, row.fields.get(0));
+            String name = apply(StudentValidator::validateName, row.fields.get(1));
+            String email = apply(StudentValidator::validateEmail, row.fields.get(2));
+            String phone = apply(StudentValidator::validatePhone, row.fields.get(3));
+            return RowOutcome.valid(row.lineNumber, new Student(id, name, email, phone));
+        } catch (IllegalArgumentException e) {
+            return RowOutcome.failed(row.lineNumber, e.getMessage());
+        }
+    }
+
+    private static String apply(Function<String, String> rule, String value) {
+        return rule.apply(value.trim());
+    }
+
+    /**
+     * Splits one CSV line, honouring double-quoted fields and "" escapes.
+     */
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>(EXPECTED_FIELDS);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static final class CsvRow {
+        final int lineNumber;
+        final List<String> fields;
+
+        CsvRow(int lineNumber, List<String> fields) {
+            this.lineNumber = lineNumber;
+            this.fields = fields;
+        }
+    }
+
+    private static final class RowOutcome {
+        final int lineNumber;
+        final Student student;
+        final String error;
+
+        private RowOutcome(int lineNumber, Student student, String error) {
+            this.lineNumber = lineNumber;
+            this.student = student;
+            this.error = error;
+        }
+
+        static RowOutcome valid(int lineNumber, Student student) {
+            return new RowOutcome(lineNumber, student, null);
+        }
+
+        static RowOutcome failed(int lineNumber, String error) {
+            return new RowOutcome(lineNumber, null, error);
+        }
+    }
+}
+
+/**
+ * Result of a bulk import: counts plus an error entry for each of the first
+ * MAX_REPORTED_ERRORS rejected rows. Later rejections are only counted, so a
+ * malformed file cannot grow the report without bound.
+ */
+final class ImportReport {
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final int imported;
+    private final int rejected;
+    private final List<RowError> errors;
+    private final long elapsedNanos;
+
+    private ImportReport(int imported, int rejected, List<RowError> errors, long elapsedNanos) {
+        this.imported = imported;
+        this.rejected = rejected;
+        this.errors = Collections.unmodifiableList(errors);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getImported() { return imported; }
+    public int getRejected() { return rejected; }
+    /** The first MAX_REPORTED_ERRORS rejections, in file order. */
+    public List<RowError> getErrors() { return errors; }
+    /** Rejections counted in getRejected() but not listed in getErrors(). */
+    public int getOmittedErrors() { return rejected - errors.size(); }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    @Override
+    public String toString() {
+        String summary = String.format("Imported %d, rejected %d in %d ms",
+                imported, rejected, elapsedNanos / 1_000_000);
+        return getOmittedErrors() == 0 ? summary
+                : summary + " (" + getOmittedErrors() + " errors not listed)";
+    }
+
+    record RowError(int lineNumber, String message) {
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + ": " + message;
+        }
+    }
+
+    static final class Builder {
+        private int imported;
+        private int rejected;
+        private final List<RowError> errors = new ArrayList<>();
+
+        void accept() {
+            imported++;
+        }
+
+        void reject(int lineNumber, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(lineNumber, message));
+            }
+        }
+
+        ImportReport build(long elapsedNanos) {
+            return new ImportReport(imported, rejected, errors, elapsedNanos);
+        }
+    }
+}
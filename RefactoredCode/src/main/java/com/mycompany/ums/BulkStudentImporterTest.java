@@ -0,0 +1,139 @@
+package com.mycompany.ums;
+
+import java.io.StringReader;
+import java.util.List;
+
+/**
+ * Test for the parallel validate-then-dedupe CSV import.
+ *
+ * Checks that duplicates are caught within one batch, across batches and
+ * against students already in the repository, with the earliest row in the
+ * file winning; that malformed rows are reported by line number; and that
+ * the report lists at most MAX_REPORTED_ERRORS errors while still counting
+ * every rejection.
+ */
+public class BulkStudentImporterTest {
+
+    public static void main(String[] args) {
+        checkDuplicatesWithinBatch();
+        checkDuplicatesAgainstRepository();
+        checkDuplicatesAcrossBatches();
+        checkMalformedRows();
+        checkErrorCap();
+        System.out.println("BulkStudentImporterTest passed");
+    }
+
+    private static void checkDuplicatesWithinBatch() {
+        InMemoryStudentRepository registry = new InMemoryStudentRepository();
+        String csv = """
+                id,name,email,phone
+                S1,Ayesha,ayesha@uni.edu,0300000001
+                S1,Bilal,bilal@uni.edu,0300000002
+                S2,Bilal,AYESHA@uni.edu,0300000002
+                S3,Sana,sana@uni.edu,0300000001
+                S4,Omar,omar@uni.edu,0300000004
+                """;
+        ImportReport report = new BulkStudentImporter(registry).importCsv(new StringReader(csv));
+
+        check(report.getImported() == 2, "Expected 2 imported, got " + report);
+        check(report.getRejected() == 3, "Expected 3 rejected, got " + report);
+        List<ImportReport.RowError> errors = report.getErrors();
+        checkError(errors.get(0), 3, "Student ID already exists: S1");
+        checkError(errors.get(1), 4, "Email already registered: AYESHA@uni.edu");
+        checkError(errors.get(2), 5, "Phone already registered: 0300000001");
+        check("Ayesha".equals(registry.findById("S1").orElseThrow().getName()), "First row for S1 should win");
+        check(registry.existsById("S4"), "S4 should be imported");
+    }
+
+    private static void checkDuplicatesAgainstRepository() {
+        InMemoryStudentRepository registry = new InMemoryStudentRepository(List.of(
+                new Student("S100", "Hina", "hina@uni.edu", "0311000000")));
+        String csv = """
+                s100,Hamza,hamza@uni.edu,0311000001
+                S101,Hamza,Hina@Uni.edu,0311000001
+                S102,Hamza,hamza@uni.edu,0311000000
+                S103,Hamza,hamza@uni.edu,0311000001
+                """;
+        ImportReport report = new BulkStudentImporter(registry).importCsv(new StringReader(csv));
+
+        check(report.getImported() == 1, "Expected 1 imported, got " + report);
+        List<ImportReport.RowError> errors = report.getErrors();
+        checkError(errors.get(0), 1, "Student ID already exists: s100");
+        checkError(errors.get(1), 2, "Email already registered: Hina@Uni.edu");
+        checkError(errors.get(2), 3, "Phone already registered: 0311000000");
+        check(registry.size() == 2, "Registry should hold S100 and S103, has " + registry.size());
+    }
+
+    // Many small batches validated in parallel; every tenth row repeats an earlier student
+    private static void checkDuplicatesAcrossBatches() {
+        int rows = 20_000;
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            int student = i % 10 == 9 ? i - 7 : i;
+            csv.append(String.format("S%05d,Name %d,s%05d@uni.edu,03%08d%n", student, i, student, student));
+        }
+        InMemoryStudentRepository registry = new InMemoryStudentRepository();
+        ImportReport report = new BulkStudentImporter(registry, 64).importCsv(new StringReader(csv.toString()));
+
+        check(report.getImported() == rows - rows / 10, "Expected " + (rows - rows / 10) + " imported, got " + report);
+        check(report.getRejected() == rows / 10, "Expected " + rows / 10 + " rejected, got " + report);
+        check(report.getErrors().get(0).lineNumber() == 10, "First duplicate is on line 10, got "
+                + report.getErrors().get(0));
+        check("Name 2".equals(registry.findById("S00002").orElseThrow().getName()),
+                "Earliest row should win across batches");
+        List<Student> all = registry.findAll();
+        check("S00000".equals(all.get(0).getId()) && "S19998".equals(all.get(all.size() - 1).getId()),
+                "Students should be added in file order");
+    }
+
+    private static void checkMalformedRows() {
+        String csv = """
+                S1,"Khan, Ali",ali@uni.edu,0300000001
+
+                S2,Sara,sara@uni.edu
+                S3,,s3@uni.edu,0300000003
+                S4,Zara,zara.uni.edu,0300000004
+                S5,Zain,zain@uni.edu,03000
+                """;
+        InMemoryStudentRepository registry = new InMemoryStudentRepository();
+        ImportReport report = new BulkStudentImporter(registry).importCsv(new StringReader(csv));
+
+        check(report.getImported() == 1, "Expected 1 imported, got " + report);
+        check("Khan, Ali".equals(registry.findById("S1").orElseThrow().getName()), "Quoted comma lost");
+        List<ImportReport.RowError> errors = report.getErrors();
+        checkError(errors.get(0), 3, "Expected 4 fields but found 3");
+        checkError(errors.get(1), 4, "Name cannot be empty");
+        checkError(errors.get(2), 5, StudentFieldRules.EMAIL_NO_AT);
+        checkError(errors.get(3), 6, StudentFieldRules.PHONE_NOT_TEN_DIGITS);
+    }
+
+    private static void checkErrorCap() {
+        int badRows = ImportReport.MAX_REPORTED_ERRORS + 500;
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < badRows; i++) {
+            csv.append("not,a,student\n");
+        }
+        csv.append("S1,Ayesha,ayesha@uni.edu,0300000001\n");
+        ImportReport report = new BulkStudentImporter(new InMemoryStudentRepository(), 256)
+                .importCsv(new StringReader(csv.toString()));
+
+        check(report.getImported() == 1, "Expected 1 imported, got " + report);
+        check(report.getRejected() == badRows, "Every bad row should be counted, got " + report);
+        check(report.getErrors().size() == ImportReport.MAX_REPORTED_ERRORS,
+                "Errors should be capped, got " + report.getErrors().size());
+        check(report.getOmittedErrors() == 500, "Expected 500 omitted, got " + report.getOmittedErrors());
+        check(report.getErrors().get(0).lineNumber() == 1, "The earliest errors should be kept");
+        check(report.toString().endsWith("(500 errors not listed)"), "Summary should mention omissions: " + report);
+    }
+
+    private static void checkError(ImportReport.RowError error, int lineNumber, String message) {
+        check(error.lineNumber() == lineNumber && error.message().equals(message),
+                "Expected line " + lineNumber + ": " + message + ", got " + error);
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+}
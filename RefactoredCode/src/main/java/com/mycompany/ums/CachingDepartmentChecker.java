@@ -0,0 +1,181 @@
+package com.mycompany.ums;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Decorator that remembers a department's clearance decisions, so repeated
+ * verifications do not re-ask a remote department whose status rarely
+ * changes.
+ *
+ * Decisions are cached per student, plus one department-wide entry for
+ * isClear(). Each entry lives for the department's TTL. The cache holds at
+ * most {@code maxEntries} decisions and evicts the least recently used one.
+ * Lookups that throw are not cached.
+ *
+ * Callers invalidate a student's decision when they record something that
+ * changes it, e.g. a fee payment through a FinanceManager.PaymentListener or
+ * a library return. A lookup that started before an invalidation does not
+ * store its result, so a stale answer cannot outlive the event.
+ *
+ * The cache lock is held only for map access, never across the remote
+ * lookup; concurrent misses for the same student may each ask the department.
+ */
+public final class CachingDepartmentChecker implements DepartmentChecker {
+    // Key for the department-wide answer; student IDs are never empty
+    private static final String DEPARTMENT_WIDE = "";
+
+    private final DepartmentChecker delegate;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final Map<String, CachedDecision> decisions;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long invalidations;
+
+    /**
+     * @param ttl        how long this department's answers stay valid
+     * @param maxEntries decisions kept before the least recently used is evicted
+     */
+    public CachingDepartmentChecker(DepartmentChecker delegate, Duration ttl, int maxEntries) {
+        this(delegate, ttl, maxEntries, System::nanoTime);
+    }
+
+    CachingDepartmentChecker(DepartmentChecker delegate, Duration ttl, int maxEntries, LongSupplier clock) {
+        if (delegate == null || ttl == null || clock == null) {
+            throw new IllegalArgumentException("Dependencies cannot be null");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be positive");
+        }
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache must hold at least one entry");
+        }
+        this.delegate = delegate;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        // Access order makes iteration order least recently used first
+        this.decisions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedDecision> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public String getDepartmentName() {
+        return delegate.getDepartmentName();
+    }
+
+    @Override
+    public boolean isClear() {
+        return cached(DEPARTMENT_WIDE, delegate::isClear);
+    }
+
+    @Override
+    public boolean isClear(String studentId) {
+        if (studentId == null || studentId.isBlank()) {
+            throw new IllegalArgumentException("Student ID cannot be null or empty");
+        }
+        return cached(studentId, () -> delegate.isClear(studentId));
+    }
+
+    /**
+     * Drops the student's decision, and the department-wide one, which may
+     * have depended on it.
+     */
+    public synchronized void invalidate(String studentId) {
+        invalidations++;
+        decisions.remove(studentId);
+        decisions.remove(DEPARTMENT_WIDE);
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations++;
+        decisions.clear();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Lookups that went to the department: never cached, expired or invalidated.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public synchronized int size() {
+        return decisions.size();
+    }
+
+    private boolean cached(String key, BooleanSupplier lookup) {
+        long generation;
+        synchronized (this) {
+            CachedDecision decision = decisions.get(key);
+            if (decision != null && clock.getAsLong() - decision.expiresAt() < 0) {
+                hits.increment();
+                return decision.clear();
+            }
+            if (decision != null) {
+                decisions.remove(key);
+            }
+            generation = invalidations;
+        }
+        misses.increment();
+        boolean clear = lookup.getAsBoolean();
+        synchronized (this) {
+            if (generation == invalidations) {
+                decisions.put(key, new CachedDecision(clear, clock.getAsLong() + ttlNanos));
+            }
+        }
+        return clear;
+    }
+
+    private record CachedDecision(boolean clear, long expiresAt) {}
+
+    // Example main: repeated verifications hit the cache until a payment invalidates Finance
+    public static void main(String[] args) {
+        Map<String, Boolean> feeStatus = new HashMap<>(Map.of("S001", false));
+        DepartmentChecker remoteFinance = new DepartmentChecker() {
+            @Override
+            public String getDepartmentName() {
+                return "Finance";
+            }
+
+            @Override
+            public boolean isClear() {
+                return !feeStatus.containsValue(false);
+            }
+
+            @Override
+            public boolean isClear(String studentId) {
+                return feeStatus.getOrDefault(studentId, false);
+            }
+        };
+        CachingDepartmentChecker finance = new CachingDepartmentChecker(remoteFinance, Duration.ofMinutes(10), 10_000);
+        CachingDepartmentChecker library = new CachingDepartmentChecker(
+                new LibraryDepartmentChecker(), Duration.ofHours(1), 10_000);
+
+        FinanceManager manager = new FinanceManager();
+        manager.addPaymentListener((studentId, paidInFull) -> finance.invalidate(studentId));
+
+        DepartmentClearanceService service = new DepartmentClearanceService(List.of(finance, library));
+        System.out.println("S001 before payment: " + service.verifyAsync("S001").join().overall().label());
+        System.out.println("S001 again (cached): " + service.verifyAsync("S001").join().overall().label());
+        manager.updatePaymentStatus("S001", feeStatus, manager.getFullFeeAmount());
+        System.out.println("S001 after payment: " + service.verifyAsync("S001").join().overall().label());
+        // A library return would call library.invalidate(studentId) the same way
+
+        System.out.printf("Finance cache: %d hits, %d misses; Library cache: %d hits, %d misses%n",
+                finance.getHitCount(), finance.getMissCount(), library.getHitCount(), library.getMissCount());
+    }
+}
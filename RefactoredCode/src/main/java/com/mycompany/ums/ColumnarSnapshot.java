@@ -0,0 +1,916 @@
+package com.mycompany.ums;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Columnar, memory-mapped snapshot of the student, course, enrollment and
+ * result tables, for fast cold starts.
+ *
+ * Every column is a flat array of ints, doubles or bytes; strings live once in
+ * a shared pool and columns refer to them by index. Students are sorted by
+ * the UTF-8 bytes of their normalized ID, so a lookup is a binary search that
+ * compares bytes in place without decoding any strings. Per-student lists (enrollments, results, history) use offset arrays:
+ * student i owns entries start[i] until start[i + 1].
+ *
+ * Opening maps the file and reads only the header. Nothing else is decoded
+ * until a lookup asks for it, so open time does not depend on the table
+ * sizes once the file is in the page cache. A single mapping is limited to
+ * 2 GB.
+ */
+public final class ColumnarSnapshot {
+    private static final int MAGIC = 0x554D5343; // "UMSC"
+    private static final int VERSION = 1;
+    private static final int NO_STRING = -1;
+    private static final byte ABSENT = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+
+    private enum Column {
+        STRING_OFFSETS, STRING_BYTES,
+        STUDENT_ID, STUDENT_KEY, STUDENT_NAME, STUDENT_EMAIL, STUDENT_PHONE,
+        STUDENT_GPA, STUDENT_CREDITS, STUDENT_FEE_PAID, STUDENT_FYP, STUDENT_CLEARANCE,
+        EMAIL_INDEX, EMAIL_KEY, PHONE_INDEX,
+        COURSE_CODE, COURSE_NAME, COURSE_CREDITS, COURSE_CAPACITY, COURSE_ENROLLED,
+        PREREQ_START, PREREQ_CODE,
+        ENROLL_START, ENROLL_CODE,
+        RESULT_START, RESULT_CODE, RESULT_GRADE,
+        HISTORY_START, HISTORY_ENTRY,
+        COURSE_EXAM
+    }
+
+    private static final int HEADER_BYTES = 4 * Integer.BYTES + Column.values().length * 2 * Long.BYTES;
+
+    private final int studentCount;
+    private final int courseCount;
+    private final ByteBuffer[] columns = new ByteBuffer[Column.values().length];
+    // Views are created once; absolute gets on them are safe from any thread
+    private final IntBuffer[] intColumns = new IntBuffer[Column.values().length];
+    private final IntBuffer stringOffsets;
+    private final ByteBuffer stringBytes;
+
+    private ColumnarSnapshot(ByteBuffer file) throws IOException {
+        if (file.getInt(0) != MAGIC) {
+            throw new IOException("Not a UMS columnar snapshot");
+        }
+        if (file.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Unsupported snapshot version " + file.getInt(Integer.BYTES));
+        }
+        studentCount = file.getInt(2 * Integer.BYTES);
+        courseCount = file.getInt(3 * Integer.BYTES);
+        int position = 4 * Integer.BYTES;
+        for (Column column : Column.values()) {
+            long offset = file.getLong(position);
+            long length = file.getLong(position + Long.BYTES);
+            position += 2 * Long.BYTES;
+            if (offset < HEADER_BYTES || length < 0 || offset + length > file.capacity()) {
+                throw new IOException("Corrupt snapshot column " + column);
+            }
+            columns[column.ordinal()] = file.slice((int) offset, (int) length);
+            intColumns[column.ordinal()] = columns[column.ordinal()].asIntBuffer();
+        }
+        stringOffsets = ints(Column.STRING_OFFSETS);
+        stringBytes = columns[Column.STRING_BYTES.ordinal()];
+    }
+
+    /**
+     * Maps the snapshot read-only. The file may be replaced by a new snapshot
+     * while mapped; this instance keeps reading the old contents.
+     */
+    public static ColumnarSnapshot open(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Snapshot file cannot be null");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Truncated snapshot: " + file);
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot larger than 2 GB: " + file);
+            }
+            return new ColumnarSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    public int studentCount() {
+        return studentCount;
+    }
+
+    public int courseCount() {
+        return courseCount;
+    }
+
+    /**
+     * Position of the student in the sorted student table, or -1.
+     */
+    public int studentOrdinal(String studentId) {
+        if (studentId == null || studentId.isBlank()) {
+            return -1;
+        }
+        byte[] key = utf8(normalize(studentId));
+        IntBuffer keys = ints(Column.STUDENT_KEY);
+        int low = 0;
+        int high = studentCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(keys.get(mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    public String studentId(int ordinal) {
+        return string(ints(Column.STUDENT_ID).get(ordinal));
+    }
+
+    /**
+     * Decodes the profile of one student; empty if the ID only has academic data.
+     */
+    public Optional<Student> findStudent(String studentId) {
+        int ordinal = studentOrdinal(studentId);
+        return ordinal < 0 ? Optional.empty() : studentAt(ordinal);
+    }
+
+    public Optional<Student> findStudentByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        IntBuffer keys = ints(Column.EMAIL_KEY);
+        return searchIndex(Column.EMAIL_INDEX, keys::get, utf8(normalize(email)));
+    }
+
+    public Optional<Student> findStudentByPhone(String phone) {
+        if (phone == null) {
+            return Optional.empty();
+        }
+        IntBuffer ordinals = ints(Column.PHONE_INDEX);
+        IntBuffer phones = ints(Column.STUDENT_PHONE);
+        return searchIndex(Column.PHONE_INDEX, i -> phones.get(ordinals.get(i)), utf8(phone));
+    }
+
+    Optional<Student> studentAt(int ordinal) {
+        int name = ints(Column.STUDENT_NAME).get(ordinal);
+        if (name == NO_STRING) {
+            return Optional.empty();
+        }
+        return Optional.of(new Student(studentId(ordinal), string(name),
+                string(ints(Column.STUDENT_EMAIL).get(ordinal)), string(ints(Column.STUDENT_PHONE).get(ordinal))));
+    }
+
+    public List<CourseRow> courses() {
+        IntBuffer codes = ints(Column.COURSE_CODE);
+        IntBuffer names = ints(Column.COURSE_NAME);
+        IntBuffer credits = ints(Column.COURSE_CREDITS);
+        IntBuffer capacities = ints(Column.COURSE_CAPACITY);
+        List<CourseRow> rows = new ArrayList<>(courseCount);
+        for (int i = 0; i < courseCount; i++) {
+            rows.add(new CourseRow(string(codes.get(i)), string(names.get(i)), credits.get(i), capacities.get(i)));
+        }
+        return rows;
+    }
+
+    /**
+     * Seats taken per course code, precomputed when the snapshot was written.
+     */
+    public Map<String, Integer> seatsTaken() {
+        IntBuffer codes = ints(Column.COURSE_CODE);
+        IntBuffer enrolled = ints(Column.COURSE_ENROLLED);
+        Map<String, Integer> result = new HashMap<>();
+        for (int i = 0; i < courseCount; i++) {
+            result.put(string(codes.get(i)), enrolled.get(i));
+        }
+        return result;
+    }
+
+    public Map<String, List<String>> prerequisites() {
+        IntBuffer codes = ints(Column.COURSE_CODE);
+        Map<String, List<String>> result = new HashMap<>();
+        for (int i = 0; i < courseCount; i++) {
+            List<String> prereqs = stringList(Column.PREREQ_START, Column.PREREQ_CODE, i);
+            if (prereqs != null) {
+                result.put(string(codes.get(i)), prereqs);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Exam session start per course code, for courses that have one.
+     */
+    public Map<String, LocalDateTime> examSessions() {
+        IntBuffer codes = ints(Column.COURSE_CODE);
+        IntBuffer exams = ints(Column.COURSE_EXAM);
+        Map<String, LocalDateTime> result = new HashMap<>();
+        for (int i = 0; i < exams.limit(); i++) {
+            if (exams.get(i) != NO_STRING) {
+                result.put(string(codes.get(i)), LocalDateTime.parse(string(exams.get(i))));
+            }
+        }
+        return result;
+    }
+
+    // Lazy read-only views keyed by student ID; each get decodes one row
+
+    public Map<String, Double> gpaView() {
+        DoubleBuffer gpas = doubles(Column.STUDENT_GPA);
+        return new StudentColumnView<>(ordinal -> {
+            double gpa = gpas.get(ordinal);
+            return Double.isNaN(gpa) ? null : gpa;
+        });
+    }
+
+    public Map<String, Integer> completedCreditsView() {
+        IntBuffer credits = ints(Column.STUDENT_CREDITS);
+        return new StudentColumnView<>(ordinal -> {
+            int value = credits.get(ordinal);
+            return value < 0 ? null : value;
+        });
+    }
+
+    public Map<String, Boolean> feePaidView() {
+        return flagView(Column.STUDENT_FEE_PAID);
+    }
+
+    public Map<String, Boolean> fypStatusView() {
+        return flagView(Column.STUDENT_FYP);
+    }
+
+    public Map<String, Boolean> degreeClearanceView() {
+        return flagView(Column.STUDENT_CLEARANCE);
+    }
+
+    public Map<String, List<String>> enrollmentView() {
+        return new StudentColumnView<>(ordinal -> stringList(Column.ENROLL_START, Column.ENROLL_CODE, ordinal));
+    }
+
+    public Map<String, List<String>> academicHistoryView() {
+        return new StudentColumnView<>(ordinal -> stringList(Column.HISTORY_START, Column.HISTORY_ENTRY, ordinal));
+    }
+
+    public Map<String, Map<String, Double>> resultView() {
+        IntBuffer starts = ints(Column.RESULT_START);
+        IntBuffer codes = ints(Column.RESULT_CODE);
+        DoubleBuffer grades = doubles(Column.RESULT_GRADE);
+        return new StudentColumnView<>(ordinal -> {
+            int start = starts.get(ordinal);
+            int end = starts.get(ordinal + 1);
+            if (start == end) {
+                return null;
+            }
+            Map<String, Double> results = new LinkedHashMap<>();
+            for (int i = start; i < end; i++) {
+                results.put(string(codes.get(i)), grades.get(i));
+            }
+            return Collections.unmodifiableMap(results);
+        });
+    }
+
+    private Map<String, Boolean> flagView(Column column) {
+        ByteBuffer flags = columns[column.ordinal()];
+        return new StudentColumnView<>(ordinal -> {
+            byte flag = flags.get(ordinal);
+            return flag == ABSENT ? null : flag == TRUE;
+        });
+    }
+
+    private List<String> stringList(Column startColumn, Column valueColumn, int ordinal) {
+        IntBuffer starts = ints(startColumn);
+        int start = starts.get(ordinal);
+        int end = starts.get(ordinal + 1);
+        if (start == end) {
+            return null;
+        }
+        IntBuffer values = ints(valueColumn);
+        String[] result = new String[end - start];
+        for (int i = start; i < end; i++) {
+            result[i - start] = string(values.get(i));
+        }
+        return List.of(result);
+    }
+
+    // keyRefAt maps a position in the index to the string it is sorted by
+    private Optional<Student> searchIndex(Column index, IntUnaryOperator keyRefAt, byte[] key) {
+        IntBuffer ordinals = ints(index);
+        int low = 0;
+        int high = ordinals.limit() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(keyRefAt.applyAsInt(mid), key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return studentAt(ordinals.get(mid));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private String string(int ref) {
+        int start = stringOffsets.get(ref);
+        byte[] bytes = new byte[stringOffsets.get(ref + 1) - start];
+        stringBytes.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Unsigned byte order, the order the writer sorts keys in
+    private int compare(int ref, byte[] key) {
+        int start = stringOffsets.get(ref);
+        int length = stringOffsets.get(ref + 1) - start;
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Byte.toUnsignedInt(stringBytes.get(start + i)) - Byte.toUnsignedInt(key[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return length - key.length;
+    }
+
+    private IntBuffer ints(Column column) {
+        return intColumns[column.ordinal()];
+    }
+
+    private DoubleBuffer doubles(Column column) {
+        return columns[column.ordinal()].asDoubleBuffer();
+    }
+
+    private static String normalize(String key) {
+        return key.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read-only map over one per-student column. get() is a binary search plus
+     * one row decode; iteration walks the table in ID order.
+     */
+    private final class StudentColumnView<V> extends AbstractMap<String, V> {
+        private final IntFunction<V> valueAt;
+
+        StudentColumnView(IntFunction<V> valueAt) {
+            this.valueAt = valueAt;
+        }
+
+        @Override
+        public V get(Object key) {
+            if (!(key instanceof String)) {
+                return null;
+            }
+            int ordinal = studentOrdinal((String) key);
+            return ordinal < 0 ? null : valueAt.apply(ordinal);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Set<Entry<String, V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, V>> iterator() {
+                    return new Iterator<>() {
+                        private int next = advance(0);
+
+                        private int advance(int from) {
+                            while (from < studentCount && valueAt.apply(from) == null) {
+                                from++;
+                            }
+                            return from;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < studentCount;
+                        }
+
+                        @Override
+                        public Entry<String, V> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, V> entry = new SimpleImmutableEntry<>(studentId(next), valueAt.apply(next));
+                            next = advance(next + 1);
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    int size = 0;
+                    for (int i = 0; i < studentCount; i++) {
+                        if (valueAt.apply(i) != null) {
+                            size++;
+                        }
+                    }
+                    return size;
+                }
+            };
+        }
+    }
+
+    /**
+     * Course catalog row.
+     */
+    public record CourseRow(String code, String name, int creditHours, int capacity) {
+    }
+
+    /**
+     * Collects table rows in memory and writes them as one snapshot file.
+     * Rows are keyed by student ID; setters for the same ID fill in one row.
+     */
+    public static final class Writer {
+        private final Map<String, StudentRow> students = new HashMap<>();
+        private final Map<String, CourseEntry> courses = new LinkedHashMap<>();
+        private final StringPool strings = new StringPool();
+
+        public Writer student(Student student) {
+            row(student.getId()).profile = student;
+            return this;
+        }
+
+        public Writer gpa(String studentId, double gpa) {
+            row(studentId).gpa = gpa;
+            return this;
+        }
+
+        public Writer completedCredits(String studentId, int credits) {
+            row(studentId).credits = credits;
+            return this;
+        }
+
+        public Writer feePaid(String studentId, boolean paid) {
+            row(studentId).feePaid = paid ? TRUE : FALSE;
+            return this;
+        }
+
+        public Writer fypRegistered(String studentId, boolean registered) {
+            row(studentId).fyp = registered ? TRUE : FALSE;
+            return this;
+        }
+
+        public Writer degreeCleared(String studentId, boolean cleared) {
+            row(studentId).clearance = cleared ? TRUE : FALSE;
+            return this;
+        }
+
+        public Writer enrollments(String studentId, List<String> courseCodes) {
+            row(studentId).enrollments = List.copyOf(courseCodes);
+            return this;
+        }
+
+        public Writer result(String studentId, String courseCode, double grade) {
+            row(studentId).results.put(courseCode, grade);
+            return this;
+        }
+
+        public Writer history(String studentId, List<String> entries) {
+            row(studentId).history = List.copyOf(entries);
+            return this;
+        }
+
+        public Writer course(String code, String name, int creditHours, int capacity) {
+            courses.computeIfAbsent(code, k -> new CourseEntry()).row = new CourseRow(code, name, creditHours, capacity);
+            return this;
+        }
+
+        public Writer prerequisites(String courseCode, List<String> prerequisites) {
+            courses.computeIfAbsent(courseCode, k -> new CourseEntry()).prerequisites = List.copyOf(prerequisites);
+            return this;
+        }
+
+        public Writer exam(String courseCode, LocalDateTime session) {
+            courses.computeIfAbsent(courseCode, k -> new CourseEntry()).exam = session;
+            return this;
+        }
+
+        /**
+         * Writes to a temporary file and renames it over {@code file}, so readers
+         * never map a half-written snapshot.
+         */
+        public void write(Path file) throws IOException {
+            if (file == null) {
+                throw new IllegalArgumentException("Snapshot file cannot be null");
+            }
+            List<StudentRow> rows = new ArrayList<>(students.values());
+            rows.sort((a, b) -> Arrays.compareUnsigned(a.keyBytes, b.keyBytes));
+            List<CourseEntry> catalog = new ArrayList<>();
+            courses.values().stream().filter(c -> c.row != null).forEach(catalog::add);
+            int n = rows.size();
+            int c = catalog.size();
+
+            ByteBuffer[] data = new ByteBuffer[Column.values().length];
+            int[] ids = new int[n];
+            int[] keys = new int[n];
+            int[] names = new int[n];
+            int[] emails = new int[n];
+            int[] phones = new int[n];
+            double[] gpas = new double[n];
+            int[] credits = new int[n];
+            byte[] fees = new byte[n];
+            byte[] fyps = new byte[n];
+            byte[] clearances = new byte[n];
+            List<Integer> withProfile = new ArrayList<>();
+            IntColumnBuilder enrollments = new IntColumnBuilder(n);
+            IntColumnBuilder results = new IntColumnBuilder(n);
+            double[] grades = new double[rows.stream().mapToInt(row -> row.results.size()).sum()];
+            IntColumnBuilder history = new IntColumnBuilder(n);
+            Map<String, Integer> seats = new HashMap<>();
+
+            for (int i = 0; i < n; i++) {
+                StudentRow row = rows.get(i);
+                ids[i] = strings.add(row.id);
+                keys[i] = row.key.equals(row.id) ? ids[i] : strings.add(row.key);
+                Student profile = row.profile;
+                names[i] = profile == null ? NO_STRING : strings.add(profile.getName());
+                emails[i] = profile == null ? NO_STRING : strings.add(profile.getEmail());
+                phones[i] = profile == null ? NO_STRING : strings.add(profile.getPhone());
+                if (profile != null) {
+                    withProfile.add(i);
+                }
+                gpas[i] = row.gpa;
+                credits[i] = row.credits;
+                fees[i] = row.feePaid;
+                fyps[i] = row.fyp;
+                clearances[i] = row.clearance;
+                enrollments.startRow();
+                for (String code : row.enrollments) {
+                    enrollments.add(ref(code));
+                    seats.merge(code, 1, Integer::sum);
+                }
+                results.startRow();
+                for (Map.Entry<String, Double> result : row.results.entrySet()) {
+                    grades[results.size] = result.getValue();
+                    results.add(ref(result.getKey()));
+                }
+                history.startRow();
+                row.history.forEach(entry -> history.add(ref(entry)));
+            }
+
+            int[] courseCodes = new int[c];
+            int[] courseNames = new int[c];
+            int[] courseCredits = new int[c];
+            int[] courseCapacities = new int[c];
+            int[] courseEnrolled = new int[c];
+            int[] courseExams = new int[c];
+            IntColumnBuilder prereqs = new IntColumnBuilder(c);
+            for (int i = 0; i < c; i++) {
+                CourseRow row = catalog.get(i).row;
+                courseCodes[i] = ref(row.code());
+                courseNames[i] = ref(row.name());
+                courseCredits[i] = row.creditHours();
+                courseCapacities[i] = row.capacity();
+                courseEnrolled[i] = seats.getOrDefault(row.code(), 0);
+                LocalDateTime exam = catalog.get(i).exam;
+                courseExams[i] = exam == null ? NO_STRING : ref(exam.toString());
+                prereqs.startRow();
+                catalog.get(i).prerequisites.forEach(code -> prereqs.add(ref(code)));
+            }
+
+            byte[][] emailKeys = new byte[n][];
+            byte[][] phoneKeys = new byte[n][];
+            for (int i : withProfile) {
+                emailKeys[i] = utf8(normalize(rows.get(i).profile.getEmail()));
+                phoneKeys[i] = utf8(rows.get(i).profile.getPhone());
+            }
+            List<Integer> byEmail = new ArrayList<>(withProfile);
+            byEmail.sort((a, b) -> Arrays.compareUnsigned(emailKeys[a], emailKeys[b]));
+            List<Integer> byPhone = new ArrayList<>(withProfile);
+            byPhone.sort((a, b) -> Arrays.compareUnsigned(phoneKeys[a], phoneKeys[b]));
+            int[] emailKeyRefs = new int[byEmail.size()];
+            for (int j = 0; j < emailKeyRefs.length; j++) {
+                int i = byEmail.get(j);
+                String normalized = new String(emailKeys[i], StandardCharsets.UTF_8);
+                emailKeyRefs[j] = normalized.equals(rows.get(i).profile.getEmail()) ? emails[i] : strings.add(normalized);
+            }
+
+            data[Column.STUDENT_ID.ordinal()] = toBuffer(ids);
+            data[Column.STUDENT_KEY.ordinal()] = toBuffer(keys);
+            data[Column.STUDENT_NAME.ordinal()] = toBuffer(names);
+            data[Column.STUDENT_EMAIL.ordinal()] = toBuffer(emails);
+            data[Column.STUDENT_PHONE.ordinal()] = toBuffer(phones);
+            data[Column.STUDENT_GPA.ordinal()] = toBuffer(gpas);
+            data[Column.STUDENT_CREDITS.ordinal()] = toBuffer(credits);
+            data[Column.STUDENT_FEE_PAID.ordinal()] = ByteBuffer.wrap(fees);
+            data[Column.STUDENT_FYP.ordinal()] = ByteBuffer.wrap(fyps);
+            data[Column.STUDENT_CLEARANCE.ordinal()] = ByteBuffer.wrap(clearances);
+            data[Column.EMAIL_INDEX.ordinal()] = toBuffer(byEmail.stream().mapToInt(Integer::intValue).toArray());
+            data[Column.EMAIL_KEY.ordinal()] = toBuffer(emailKeyRefs);
+            data[Column.PHONE_INDEX.ordinal()] = toBuffer(byPhone.stream().mapToInt(Integer::intValue).toArray());
+            data[Column.COURSE_CODE.ordinal()] = toBuffer(courseCodes);
+            data[Column.COURSE_NAME.ordinal()] = toBuffer(courseNames);
+            data[Column.COURSE_CREDITS.ordinal()] = toBuffer(courseCredits);
+            data[Column.COURSE_CAPACITY.ordinal()] = toBuffer(courseCapacities);
+            data[Column.COURSE_ENROLLED.ordinal()] = toBuffer(courseEnrolled);
+            data[Column.PREREQ_START.ordinal()] = toBuffer(prereqs.starts());
+            data[Column.PREREQ_CODE.ordinal()] = toBuffer(prereqs.values());
+            data[Column.ENROLL_START.ordinal()] = toBuffer(enrollments.starts());
+            data[Column.ENROLL_CODE.ordinal()] = toBuffer(enrollments.values());
+            data[Column.RESULT_START.ordinal()] = toBuffer(results.starts());
+            data[Column.RESULT_CODE.ordinal()] = toBuffer(results.values());
+            data[Column.RESULT_GRADE.ordinal()] = toBuffer(grades);
+            data[Column.HISTORY_START.ordinal()] = toBuffer(history.starts());
+            data[Column.HISTORY_ENTRY.ordinal()] = toBuffer(history.values());
+            data[Column.COURSE_EXAM.ordinal()] = toBuffer(courseExams);
+            // Pool last: every string above has been added
+            data[Column.STRING_OFFSETS.ordinal()] = toBuffer(strings.offsets());
+            data[Column.STRING_BYTES.ordinal()] = strings.bytes();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putInt(n).putInt(c);
+            long offset = align(HEADER_BYTES);
+            for (ByteBuffer column : data) {
+                header.putLong(offset).putLong(column.remaining());
+                offset = align(offset + column.remaining());
+            }
+            if (offset > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot would exceed 2 GB");
+            }
+            header.flip();
+
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeFully(out, header, 0);
+                long position = align(HEADER_BYTES);
+                for (ByteBuffer column : data) {
+                    int length = column.remaining();
+                    writeFully(out, column, position);
+                    position = align(position + length);
+                }
+                // Pad to the last aligned offset so empty trailing columns still lie inside the file
+                writeFully(out, ByteBuffer.allocate((int) (position - out.size())), out.size());
+                out.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        private StudentRow row(String studentId) {
+            if (studentId == null || studentId.isBlank()) {
+                throw new IllegalArgumentException("Student ID cannot be null or empty");
+            }
+            return students.computeIfAbsent(normalize(studentId), key -> new StudentRow(key, studentId));
+        }
+
+        private int ref(String value) {
+            return strings.intern(value);
+        }
+
+        private static long align(long offset) {
+            return (offset + 7) & ~7L;
+        }
+
+        private static void writeFully(FileChannel out, ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                position += out.write(buffer, position);
+            }
+        }
+
+        private static ByteBuffer toBuffer(int[] values) {
+            ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES);
+            buffer.asIntBuffer().put(values);
+            return buffer;
+        }
+
+        private static ByteBuffer toBuffer(double[] values) {
+            ByteBuffer buffer = ByteBuffer.allocate(values.length * Double.BYTES);
+            buffer.asDoubleBuffer().put(values);
+            return buffer;
+        }
+
+        private static final class StudentRow {
+            final String key;
+            final byte[] keyBytes;
+            final String id;
+            Student profile;
+            double gpa = Double.NaN;
+            int credits = -1;
+            byte feePaid = ABSENT;
+            byte fyp = ABSENT;
+            byte clearance = ABSENT;
+            List<String> enrollments = List.of();
+            final Map<String, Double> results = new LinkedHashMap<>();
+            List<String> history = List.of();
+
+            StudentRow(String key, String id) {
+                this.key = key;
+                this.keyBytes = utf8(key);
+                this.id = id;
+            }
+        }
+
+        private static final class CourseEntry {
+            CourseRow row;
+            List<String> prerequisites = List.of();
+            LocalDateTime exam;
+        }
+
+        /**
+         * UTF-8 string pool. Per-student values are unique and appended as is;
+         * repeated values such as course codes are interned and stored once.
+         */
+        private static final class StringPool {
+            private final Map<String, Integer> interned = new HashMap<>();
+            private int[] offsets = new int[1 << 12];
+            private byte[] bytes = new byte[1 << 16];
+            private int count;
+            private int size;
+
+            int add(String value) {
+                byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                if (size + encoded.length > bytes.length) {
+                    bytes = Arrays.copyOf(bytes, Math.max(size + encoded.length, bytes.length * 2));
+                }
+                if (count + 1 == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                }
+                System.arraycopy(encoded, 0, bytes, size, encoded.length);
+                offsets[count] = size;
+                size += encoded.length;
+                return count++;
+            }
+
+            int intern(String value) {
+                Integer ref = interned.get(value);
+                if (ref == null) {
+                    ref = add(value);
+                    interned.put(value, ref);
+                }
+                return ref;
+            }
+
+            // One start per string plus a trailing end
+            int[] offsets() {
+                int[] result = Arrays.copyOf(offsets, count + 1);
+                result[count] = size;
+                return result;
+            }
+
+            ByteBuffer bytes() {
+                return ByteBuffer.wrap(bytes, 0, size);
+            }
+        }
+
+        /**
+         * Offset-array column: one start per row plus a trailing end.
+         */
+        private static final class IntColumnBuilder {
+            private final int[] starts;
+            private int[] values = new int[16];
+            private int rows;
+            private int size;
+
+            IntColumnBuilder(int rowCount) {
+                starts = new int[rowCount + 1];
+            }
+
+            void startRow() {
+                starts[rows++] = size;
+            }
+
+            void add(int value) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                values[size++] = value;
+            }
+
+            int[] starts() {
+                starts[rows] = size;
+                return starts;
+            }
+
+            int[] values() {
+                return Arrays.copyOf(values, size);
+            }
+        }
+    }
+}
+
+/**
+ * Student repository over a mapped snapshot. Lookups decode a single row;
+ * students added after the snapshot was taken live in an in-memory overlay.
+ */
+class MappedStudentRepository implements StudentRepository {
+    private final ColumnarSnapshot snapshot;
+    private final StudentRepository added = new InMemoryStudentRepository();
+
+    MappedStudentRepository(ColumnarSnapshot snapshot) {
+        if (snapshot == null) {
+            throw new IllegalArgumentException("Snapshot cannot be null");
+        }
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public synchronized void add(Student student) {
+        if (student == null) {
+            throw new IllegalArgumentException("Student cannot be null");
+        }
+        if (snapshot.findStudent(student.getId()).isPresent()) {
+            throw new IllegalArgumentException("Student ID already exists: " + student.getId());
+        }
+        if (snapshot.findStudentByEmail(student.getEmail()).isPresent()) {
+            throw new IllegalArgumentException("Email already registered: " + student.getEmail());
+        }
+        if (snapshot.findStudentByPhone(student.getPhone()).isPresent()) {
+            throw new IllegalArgumentException("Phone already registered: " + student.getPhone());
+        }
+        added.add(student);
+    }
+
+    @Override
+    public Optional<Student> findById(String id) {
+        Optional<Student> found = snapshot.findStudent(id);
+        return found.isPresent() ? found : added.findById(id);
+    }
+
+    @Override
+    public Optional<Student> findByEmail(String email) {
+        Optional<Student> found = snapshot.findStudentByEmail(email);
+        return found.isPresent() ? found : added.findByEmail(email);
+    }
+
+    @Override
+    public Optional<Student> findByPhone(String phone) {
+        Optional<Student> found = snapshot.findStudentByPhone(phone);
+        return found.isPresent() ? found : added.findByPhone(phone);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return findById(id).isPresent();
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return findByEmail(email).isPresent();
+    }
+
+    @Override
+    public boolean existsByPhone(String phone) {
+        return findByPhone(phone).isPresent();
+    }
+
+    /**
+     * Decodes every student; O(n), meant for exports rather than lookups.
+     */
+    @Override
+    public List<Student> findAll() {
+        List<Student> all = new ArrayList<>();
+        for (int i = 0; i < snapshot.studentCount(); i++) {
+            snapshot.studentAt(i).ifPresent(all::add);
+        }
+        all.addAll(added.findAll());
+        return all;
+    }
+
+    @Override
+    public int size() {
+        int count = 0;
+        for (int i = 0; i < snapshot.studentCount(); i++) {
+            if (snapshot.studentAt(i).isPresent()) {
+                count++;
+            }
+        }
+        return count + added.size();
+    }
+}
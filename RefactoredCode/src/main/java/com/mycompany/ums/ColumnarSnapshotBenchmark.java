@@ -0,0 +1,135 @@
+package com.mycompany.ums;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Cold-start cost of the columnar snapshot.
+ *
+ * Writes a snapshot of synthetic students, each with a profile, GPA, credits,
+ * enrollments and results, then compares mapping it and serving the first
+ * lookups against deserializing every table into HashMaps, which is what a
+ * restart without the snapshot has to do. Open is measured on a warm page
+ * cache, since the file was just written.
+ *
+ * Usage: ColumnarSnapshotBenchmark [students] [directory]
+ */
+public class ColumnarSnapshotBenchmark {
+    private static final int COURSES = 500;
+    private static final int ENROLLMENTS_PER_STUDENT = 4;
+    private static final int RESULTS_PER_STUDENT = 6;
+    private static final int LOOKUPS = 10_000;
+    private static final int LOOKUP_ROUNDS = 20;
+
+    public static void main(String[] args) throws Exception {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path dir = args.length > 1 ? Path.of(args[1]) : Files.createTempDirectory("ums-snapshot-bench");
+        Path file = dir.resolve("ums.columns");
+
+        long start = System.nanoTime();
+        write(file, studentCount);
+        System.out.printf("Wrote %,d students (%,d enrollments, %,d results) in %d ms, %,d MB%n",
+                studentCount, (long) studentCount * ENROLLMENTS_PER_STUDENT, (long) studentCount * RESULTS_PER_STUDENT,
+                millisSince(start), Files.size(file) >> 20);
+
+        // First open includes class loading; report the second as well
+        for (int run = 1; run <= 2; run++) {
+            start = System.nanoTime();
+            ColumnarSnapshot snapshot = ColumnarSnapshot.open(file);
+            MappedStudentRepository students = new MappedStudentRepository(snapshot);
+            Map<String, Double> gpas = new OverlayMap<>(snapshot.gpaView());
+            Map<String, List<String>> enrollments = new OverlayMap<>(snapshot.enrollmentView());
+            Map<String, Map<String, Double>> results = new OverlayMap<>(snapshot.resultView(), HashMap::new);
+            long opened = System.nanoTime() - start;
+
+            check(students.findById(id(42)).isPresent(), "student 42 missing");
+            check(students.findByEmail(email(studentCount - 1)).isPresent(), "email lookup failed");
+            check(enrollments.get(id(7)).size() == ENROLLMENTS_PER_STUDENT, "enrollments of student 7");
+            long firstLookup = System.nanoTime() - start;
+
+            SplittableRandom random = new SplittableRandom(run);
+            String[] ids = new String[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                ids[i] = id(random.nextInt(studentCount));
+            }
+            // Several rounds so the last one runs compiled code
+            double checksum = 0;
+            long lookupNanos = 0;
+            for (int round = 0; round < LOOKUP_ROUNDS; round++) {
+                long lookupStart = System.nanoTime();
+                for (String id : ids) {
+                    checksum += gpas.get(id) + enrollments.get(id).size() + results.get(id).size();
+                }
+                lookupNanos = System.nanoTime() - lookupStart;
+            }
+            System.out.printf("Run %d: open %.2f ms, first lookups done at %.2f ms, %,d random lookups at %,d ns each after warm-up (checksum %.0f)%n",
+                    run, opened / 1e6, firstLookup / 1e6, LOOKUPS, lookupNanos / LOOKUPS / 3, checksum);
+        }
+
+        start = System.nanoTime();
+        ColumnarSnapshot snapshot = ColumnarSnapshot.open(file);
+        Map<String, Student> students = new HashMap<>();
+        new MappedStudentRepository(snapshot).findAll().forEach(s -> students.put(s.getId(), s));
+        Map<String, Double> gpas = new HashMap<>(snapshot.gpaView());
+        Map<String, Integer> credits = new HashMap<>(snapshot.completedCreditsView());
+        Map<String, List<String>> enrollments = new HashMap<>(snapshot.enrollmentView());
+        Map<String, Map<String, Double>> results = new HashMap<>(snapshot.resultView());
+        long rows = (long) students.size() + gpas.size() + credits.size() + enrollments.size() + results.size();
+        System.out.printf("Eager load of the same tables into HashMaps: %,d ms (%,d rows)%n", millisSince(start), rows);
+    }
+
+    private static void write(Path file, int studentCount) throws Exception {
+        ColumnarSnapshot.Writer writer = new ColumnarSnapshot.Writer();
+        for (int c = 0; c < COURSES; c++) {
+            writer.course(course(c), "Course " + c, 3, studentCount);
+            if (c > 0) {
+                writer.prerequisites(course(c), List.of(course(c - 1)));
+            }
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < studentCount; i++) {
+            String id = id(i);
+            writer.student(new Student(id, "Student " + i, email(i), String.format("03%09d", i)))
+                  .gpa(id, Math.round(random.nextDouble(0.0, 4.0) * 100) / 100.0)
+                  .completedCredits(id, random.nextInt(0, 140))
+                  .feePaid(id, random.nextBoolean());
+            List<String> enrolled = new ArrayList<>(ENROLLMENTS_PER_STUDENT);
+            int first = random.nextInt(COURSES - ENROLLMENTS_PER_STUDENT);
+            for (int e = 0; e < ENROLLMENTS_PER_STUDENT; e++) {
+                enrolled.add(course(first + e));
+            }
+            writer.enrollments(id, enrolled);
+            for (int r = 0; r < RESULTS_PER_STUDENT; r++) {
+                writer.result(id, course((first + COURSES / 2 + r) % COURSES), random.nextInt(40, 101));
+            }
+        }
+        writer.write(file);
+    }
+
+    private static String id(int i) {
+        return String.format("S%07d", i);
+    }
+
+    private static String email(int i) {
+        return "student" + i + "@university.edu";
+    }
+
+    private static String course(int c) {
+        return "CS" + (1000 + c);
+    }
+
+    private static long millisSince(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+}
@@ -0,0 +1,443 @@
+package com.mycompany.ums;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Thread-safe course registration with per-section seat limits.
+ *
+ * Seats are reserved optimistically with a CAS on each section's counter, so
+ * different students never contend on a shared lock. A student's own
+ * enrollment list is guarded by one of a fixed set of striped locks, which
+ * makes a multi-course request all-or-nothing: if any seat cannot be reserved,
+ * the seats already taken for that request are released again.
+ *
+ * Each student also has a running credit-hour total, maintained under the
+ * same lock, so the credit-limit check is O(1) and cannot be raced by two
+ * concurrent requests for the same student.
+ *
+ * Enrollment lists are published copy-on-write into the shared
+ * enrolledCourses map, so readers never observe a partial update.
+ */
+public final class CourseRegistrationEngine {
+    private static final int DEFAULT_STRIPES = 64;
+    public static final int DEFAULT_CREDIT_HOURS = 3;
+
+    private final ConcurrentMap<String, List<String>> enrolledCourses;
+    private final ConcurrentMap<String, Section> sections = new ConcurrentHashMap<>();
+    private final Map<String, Integer> existingEnrollment;
+    private final ReentrantLock[] stripes;
+    private final List<Consumer<String>> seatReleaseListeners = new CopyOnWriteArrayList<>();
+    private final List<EnrollmentListener> enrollmentListeners = new CopyOnWriteArrayList<>();
+    private final List<EnrollmentGuard> enrollmentGuards = new CopyOnWriteArrayList<>();
+    private final ConcurrentMap<String, CreditLoad> creditLoads = new ConcurrentHashMap<>();
+    // Bumped whenever a section opens, so loads summed before it knew its credits are summed again
+    private final AtomicLong sectionGeneration = new AtomicLong();
+    private final ToIntFunction<String> maxCreditsFor;
+
+    public CourseRegistrationEngine(ConcurrentMap<String, List<String>> enrolledCourses) {
+        this(enrolledCourses, studentId -> Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxCreditsFor credit limit per student, e.g. backed by CreditDecisionMaker.getMaxCredits(gpa)
+     */
+    public CourseRegistrationEngine(ConcurrentMap<String, List<String>> enrolledCourses,
+                                    ToIntFunction<String> maxCreditsFor) {
+        this(enrolledCourses, maxCreditsFor, DEFAULT_STRIPES);
+    }
+
+    public CourseRegistrationEngine(ConcurrentMap<String, List<String>> enrolledCourses,
+                                    ToIntFunction<String> maxCreditsFor,
+                                    int stripeCount) {
+        this(enrolledCourses, maxCreditsFor, stripeCount, null);
+    }
+
+    /**
+     * @param seatsTaken seats already held per course, e.g. stored in a snapshot;
+     *                   saves a scan of every enrollment list at startup
+     */
+    public CourseRegistrationEngine(ConcurrentMap<String, List<String>> enrolledCourses,
+                                    ToIntFunction<String> maxCreditsFor,
+                                    Map<String, Integer> seatsTaken) {
+        this(enrolledCourses, maxCreditsFor, DEFAULT_STRIPES, seatsTaken);
+        if (seatsTaken == null) {
+            throw new IllegalArgumentException("Seat counts cannot be null");
+        }
+    }
+
+    private CourseRegistrationEngine(ConcurrentMap<String, List<String>> enrolledCourses,
+                                     ToIntFunction<String> maxCreditsFor,
+                                     int stripeCount,
+                                     Map<String, Integer> seatsTaken) {
+        if (enrolledCourses == null) {
+            throw new IllegalArgumentException("Enrolled courses map cannot be null");
+        }
+        if (maxCreditsFor == null) {
+            throw new IllegalArgumentException("Credit limit policy cannot be null");
+        }
+        if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("Stripe count must be a positive power of two");
+        }
+        this.enrolledCourses = enrolledCourses;
+        this.maxCreditsFor = maxCreditsFor;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.existingEnrollment = seatsTaken != null ? Map.copyOf(seatsTaken) : countExisting(enrolledCourses);
+    }
+
+    /**
+     * Opens a section for registration. Seats already held in the enrolled
+     * courses map count against the capacity. Re-registering is a no-op.
+     */
+    public void registerSection(String courseCode, int capacity) {
+        registerSection(courseCode, capacity, DEFAULT_CREDIT_HOURS);
+    }
+
+    public void registerSection(String courseCode, int capacity, int creditHours) {
+        if (courseCode == null || courseCode.isBlank()) {
+            throw new IllegalArgumentException("Course code cannot be null or empty");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (creditHours <= 0) {
+            throw new IllegalArgumentException("Credit hours must be positive");
+        }
+        if (!sections.containsKey(courseCode) && sections.putIfAbsent(courseCode,
+                new Section(courseCode, capacity, creditHours, existingEnrollment.getOrDefault(courseCode, 0))) == null) {
+            sectionGeneration.incrementAndGet();
+        }
+    }
+
+    /**
+     * Registers a callback invoked with the course code whenever a seat is freed.
+     * Callbacks run on the releasing thread, outside the student lock, and should hand off quickly.
+     */
+    public void addSeatReleaseListener(Consumer<String> listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        seatReleaseListeners.add(listener);
+    }
+
+    /**
+     * Registers a callback for successful enrollments and drops. Callbacks run
+     * while the student's lock is held, so they observe each student's changes
+     * in order; they must not block, e.g. queue a journal record and return.
+     */
+    public void addEnrollmentListener(EnrollmentListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        enrollmentListeners.add(listener);
+    }
+
+    /**
+     * Registers a check that can veto a request, e.g. for timetable clashes.
+     * Guards run under the student's lock, after the credit check and before
+     * any seat is reserved, so a listener can record what they approved
+     * without a race.
+     */
+    public void addEnrollmentGuard(EnrollmentGuard guard) {
+        if (guard == null) {
+            throw new IllegalArgumentException("Guard cannot be null");
+        }
+        enrollmentGuards.add(guard);
+    }
+
+    public RegistrationResult enroll(String studentId, String courseCode) {
+        return enrollAll(studentId, List.of(courseCode));
+    }
+
+    /**
+     * Enrolls the student in every requested course, or in none of them.
+     */
+    public RegistrationResult enrollAll(String studentId, List<String> courseCodes) {
+        validateStudentId(studentId);
+        if (courseCodes == null || courseCodes.isEmpty()) {
+            throw new IllegalArgumentException("Course list cannot be null or empty");
+        }
+
+        List<String> rolledBack = Collections.emptyList();
+        ReentrantLock lock = lockFor(studentId);
+        lock.lock();
+        try {
+            List<String> current = getEnrolledCourses(studentId);
+            Set<String> requested = new HashSet<>();
+            List<Section> targets = new ArrayList<>(courseCodes.size());
+            for (String code : courseCodes) {
+                if (!requested.add(code)) {
+                    return RegistrationResult.failed(RegistrationStatus.DUPLICATE_REQUEST, code);
+                }
+                if (current.contains(code)) {
+                    return RegistrationResult.failed(RegistrationStatus.ALREADY_ENROLLED, code);
+                }
+                Section section = sections.get(code);
+                if (section == null) {
+                    return RegistrationResult.failed(RegistrationStatus.UNKNOWN_COURSE, code);
+                }
+                targets.add(section);
+            }
+
+            int requestedCredits = 0;
+            for (Section section : targets) {
+                requestedCredits += section.creditHours;
+            }
+            CreditLoad load = creditLoad(studentId);
+            if ((long) load.credits() + requestedCredits > maxCreditsFor.applyAsInt(studentId)) {
+                return RegistrationResult.failed(RegistrationStatus.CREDIT_LIMIT_EXCEEDED,
+                        courseCodes.get(courseCodes.size() - 1));
+            }
+            for (EnrollmentGuard guard : enrollmentGuards) {
+                RegistrationResult veto = guard.check(studentId, courseCodes);
+                if (veto != null) {
+                    return veto;
+                }
+            }
+
+            for (int reserved = 0; reserved < targets.size(); reserved++) {
+                if (!targets.get(reserved).tryReserve()) {
+                    rolledBack = new ArrayList<>(reserved);
+                    for (int i = 0; i < reserved; i++) {
+                        targets.get(i).release();
+                        rolledBack.add(targets.get(i).code);
+                    }
+                    return RegistrationResult.failed(RegistrationStatus.COURSE_FULL, targets.get(reserved).code);
+                }
+            }
+
+            List<String> updated = new ArrayList<>(current.size() + courseCodes.size());
+            updated.addAll(current);
+            updated.addAll(courseCodes);
+            enrolledCourses.put(studentId, Collections.unmodifiableList(updated));
+            creditLoads.put(studentId, load.plus(requestedCredits));
+            for (EnrollmentListener listener : enrollmentListeners) {
+                listener.onEnrolled(studentId, courseCodes);
+            }
+            return RegistrationResult.enrolled(courseCodes);
+        } finally {
+            lock.unlock();
+            // Seats briefly held by a failed batch may be wanted by someone else
+            rolledBack.forEach(this::fireSeatReleased);
+        }
+    }
+
+    /**
+     * Drops a course and frees its seat.
+     *
+     * @return false if the student was not enrolled in the course
+     */
+    public boolean drop(String studentId, String courseCode) {
+        validateStudentId(studentId);
+        ReentrantLock lock = lockFor(studentId);
+        lock.lock();
+        try {
+            List<String> current = getEnrolledCourses(studentId);
+            if (!current.contains(courseCode)) {
+                return false;
+            }
+            // Taken before the list shrinks, so a stale load is re-summed with the dropped course still in it
+            CreditLoad load = creditLoad(studentId);
+            List<String> updated = new ArrayList<>(current);
+            updated.remove(courseCode);
+            enrolledCourses.put(studentId, Collections.unmodifiableList(updated));
+            Section section = sections.get(courseCode);
+            if (section != null) {
+                section.release();
+                creditLoads.put(studentId, load.plus(-section.creditHours));
+            }
+            for (EnrollmentListener listener : enrollmentListeners) {
+                listener.onDropped(studentId, courseCode);
+            }
+        } finally {
+            lock.unlock();
+        }
+        fireSeatReleased(courseCode);
+        return true;
+    }
+
+    public List<String> getEnrolledCourses(String studentId) {
+        return enrolledCourses.getOrDefault(studentId, Collections.emptyList());
+    }
+
+    /**
+     * Current credit-hour load of the student, O(1) while no new section
+     * opens. The load is summed from the enrollment list on first access, and
+     * again after any section opens, since its credits counted as 0 before.
+     */
+    public int getCreditLoad(String studentId) {
+        return creditLoad(studentId).credits();
+    }
+
+    private CreditLoad creditLoad(String studentId) {
+        // Read before summing: a section opening mid-sum leaves this load stale, not wrong for good
+        long generation = sectionGeneration.get();
+        CreditLoad cached = creditLoads.get(studentId);
+        if (cached != null && cached.generation() == generation) {
+            return cached;
+        }
+        int total = 0;
+        for (String code : getEnrolledCourses(studentId)) {
+            Section section = sections.get(code);
+            total += section == null ? 0 : section.creditHours;
+        }
+        CreditLoad load = new CreditLoad(generation, total);
+        // Callers outside the student lock must not overwrite a load enroll() or drop() just stored
+        return creditLoads.compute(studentId,
+                (id, current) -> current != null && current.generation() >= generation ? current : load);
+    }
+
+    public int getMaxCredits(String studentId) {
+        return maxCreditsFor.applyAsInt(studentId);
+    }
+
+    public int getCreditHours(String courseCode) {
+        Section section = sections.get(courseCode);
+        return section == null ? 0 : section.creditHours;
+    }
+
+    public boolean isSectionOpen(String courseCode) {
+        return sections.containsKey(courseCode);
+    }
+
+    public int getCapacity(String courseCode) {
+        Section section = sections.get(courseCode);
+        return section == null ? 0 : section.capacity;
+    }
+
+    public int getSeatsTaken(String courseCode) {
+        Section section = sections.get(courseCode);
+        return section == null ? 0 : section.taken.get();
+    }
+
+    public int getSeatsAvailable(String courseCode) {
+        Section section = sections.get(courseCode);
+        return section == null ? 0 : Math.max(0, section.capacity - section.taken.get());
+    }
+
+    private void fireSeatReleased(String courseCode) {
+        for (Consumer<String> listener : seatReleaseListeners) {
+            listener.accept(courseCode);
+        }
+    }
+
+    private ReentrantLock lockFor(String studentId) {
+        int h = studentId.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static void validateStudentId(String studentId) {
+        if (studentId == null || studentId.isBlank()) {
+            throw new IllegalArgumentException("Student ID cannot be null or empty");
+        }
+    }
+
+    private static Map<String, Integer> countExisting(Map<String, List<String>> enrolledCourses) {
+        Map<String, Integer> counts = new HashMap<>();
+        enrolledCourses.values().forEach(list -> list.forEach(code -> counts.merge(code, 1, Integer::sum)));
+        return counts;
+    }
+
+    private record CreditLoad(long generation, int credits) {
+        CreditLoad plus(int delta) {
+            return new CreditLoad(generation, credits + delta);
+        }
+    }
+
+    private static final class Section {
+        final String code;
+        final int capacity;
+        final int creditHours;
+        final AtomicInteger taken;
+
+        Section(String code, int capacity, int creditHours, int alreadyTaken) {
+            this.code = code;
+            this.capacity = capacity;
+            this.creditHours = creditHours;
+            this.taken = new AtomicInteger(alreadyTaken);
+        }
+
+        boolean tryReserve() {
+            while (true) {
+                int current = taken.get();
+                if (current >= capacity) {
+                    return false;
+                }
+                if (taken.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            taken.decrementAndGet();
+        }
+    }
+}
+
+/**
+ * Callbacks for changes to a student's enrollment list.
+ */
+interface EnrollmentListener {
+    void onEnrolled(String studentId, List<String> courseCodes);
+
+    void onDropped(String studentId, String courseCode);
+}
+
+/**
+ * Veto over a registration request, checked under the student's lock.
+ */
+interface EnrollmentGuard {
+    /**
+     * @return a failed result to reject the request, or null to allow it
+     */
+    RegistrationResult check(String studentId, List<String> courseCodes);
+}
+
+/**
+ * Outcome of a registration request.
+ */
+enum RegistrationStatus {
+    ENROLLED,
+    ALREADY_ENROLLED,
+    DUPLICATE_REQUEST,
+    UNKNOWN_COURSE,
+    COURSE_FULL,
+    CREDIT_LIMIT_EXCEEDED,
+    TIMETABLE_CLASH,
+    // Rejected before reaching the engine, e.g. by the waitlist's eligibility re-check
+    NOT_ELIGIBLE
+}
+
+/**
+ * Registration outcome plus the course that caused a failure, if any.
+ */
+record RegistrationResult(RegistrationStatus status, String courseCode, List<String> enrolled) {
+    static RegistrationResult enrolled(List<String> courseCodes) {
+        return new RegistrationResult(RegistrationStatus.ENROLLED, null, List.copyOf(courseCodes));
+    }
+
+    static RegistrationResult failed(RegistrationStatus status, String courseCode) {
+        return new RegistrationResult(status, courseCode, List.of());
+    }
+
+    boolean isSuccess() {
+        return status == RegistrationStatus.ENROLLED;
+    }
+}
@@ -41,13 +41,36 @@ class HighGpaRule implements CreditRule {
 // Manager class applying the rules with injected dependencies
 public class CreditDecisionMaker {
     private final List<CreditRule> rules;
+    private final GpaBandTable<Integer> table;
 
-    // Inject rules from outside to comply with DIP and OCP
+    // Inject rules from outside to comply with DIP and OCP.
+    // Rules are compiled once into a band table; overlapping or gapped rules are rejected here.
     public CreditDecisionMaker(List<CreditRule> rules) {
-        this.rules = rules;
+        if (rules == null) {
+            throw new IllegalArgumentException("Rules cannot be null");
+        }
+        this.rules = List.copyOf(rules);
+        this.table = GpaBandTable.compile(this.rules, CreditRule::applies, CreditRule::credits);
     }
 
     public int getMaxCredits(double gpa) {
+        if (table.covers(gpa)) {
+            return table.lookup(gpa);
+        }
+        return walkRules(gpa);
+    }
+
+    // Reads the student's current GPA from a store, e.g. one kept up to date by CumulativeGpaEngine.
+    // Students with no GPA yet are treated as 0.0, as UMS does.
+    public int getMaxCredits(String studentId, GpaStore studentGPAs) {
+        if (studentGPAs == null) {
+            throw new IllegalArgumentException("Student GPA store cannot be null");
+        }
+        return getMaxCredits(studentGPAs.getGpa(studentId, 0.0));
+    }
+
+    // Out-of-range GPAs keep the original rule-walk semantics
+    int walkRules(double gpa) {
         for (CreditRule rule : rules) {
             if (rule.applies(gpa)) {
                 return rule.credits();
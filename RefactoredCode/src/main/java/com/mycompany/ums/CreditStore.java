@@ -0,0 +1,268 @@
+package com.mycompany.ums;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Per-student completed credits read by degree clearance and FYP eligibility.
+ *
+ * DIP: readers depend on this interface, so the same code runs against a
+ * legacy {@code Map<String, Integer>} or against the primitive columnar store.
+ */
+public interface CreditStore {
+    /**
+     * Completed credits of the student, or {@code defaultCredits} if none are recorded.
+     */
+    int getCredits(String studentId, int defaultCredits);
+
+    void setCredits(String studentId, int credits);
+
+    void remove(String studentId);
+
+    /**
+     * Visits every recorded credit count; iteration order is unspecified.
+     */
+    void forEach(ObjIntConsumer<String> action);
+
+    int size();
+
+    /**
+     * Map view for callers that still take {@code Map<String, Integer>}.
+     * Values are boxed on access only, never at rest.
+     */
+    default Map<String, Integer> asMap() {
+        return new CreditStoreMap(this);
+    }
+
+    /**
+     * Adapts a legacy map; reads and writes go straight to it.
+     */
+    static CreditStore of(Map<String, Integer> completedCredits) {
+        return new MapCreditStore(completedCredits);
+    }
+}
+
+/**
+ * Credits in an int[] indexed by student ordinal, -1 meaning "not recorded".
+ * Shares its StudentOrdinals with the GPA store, so both columns line up.
+ *
+ * Writes are serialized; reads are lock-free. The array grows copy-on-write
+ * and slots are written with release semantics.
+ */
+class ColumnarCreditStore implements CreditStore {
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final int ABSENT = -1;
+
+    private final StudentOrdinals ordinals;
+    private volatile int[] values = new int[0];
+    private volatile int size;
+
+    ColumnarCreditStore(StudentOrdinals ordinals) {
+        if (ordinals == null) {
+            throw new IllegalArgumentException("Student ordinals cannot be null");
+        }
+        this.ordinals = ordinals;
+    }
+
+    @Override
+    public int getCredits(String studentId, int defaultCredits) {
+        int ordinal = ordinals.ordinalOf(studentId);
+        int[] current = values;
+        if (ordinal < 0 || ordinal >= current.length) {
+            return defaultCredits;
+        }
+        int credits = (int) VALUES.getAcquire(current, ordinal);
+        return credits == ABSENT ? defaultCredits : credits;
+    }
+
+    @Override
+    public synchronized void setCredits(String studentId, int credits) {
+        if (credits < 0) {
+            throw new IllegalArgumentException("Credits cannot be negative");
+        }
+        int ordinal = ordinals.intern(studentId);
+        int[] current = values;
+        if (ordinal >= current.length) {
+            int oldLength = current.length;
+            current = Arrays.copyOf(current, Math.max(ordinal + 1, Math.max(16, oldLength * 2)));
+            Arrays.fill(current, oldLength, current.length, ABSENT);
+            values = current;
+        }
+        if (current[ordinal] == ABSENT) {
+            size++;
+        }
+        VALUES.setRelease(current, ordinal, credits);
+    }
+
+    @Override
+    public synchronized void remove(String studentId) {
+        int ordinal = ordinals.ordinalOf(studentId);
+        int[] current = values;
+        if (ordinal >= 0 && ordinal < current.length && current[ordinal] != ABSENT) {
+            VALUES.setRelease(current, ordinal, ABSENT);
+            size--;
+        }
+    }
+
+    @Override
+    public void forEach(ObjIntConsumer<String> action) {
+        int[] current = values;
+        int limit = Math.min(current.length, ordinals.size());
+        for (int ordinal = 0; ordinal < limit; ordinal++) {
+            int credits = (int) VALUES.getAcquire(current, ordinal);
+            if (credits != ABSENT) {
+                action.accept(ordinals.idOf(ordinal), credits);
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
+
+/**
+ * Legacy map behind the CreditStore interface.
+ */
+class MapCreditStore implements CreditStore {
+    private final Map<String, Integer> completedCredits;
+
+    MapCreditStore(Map<String, Integer> completedCredits) {
+        if (completedCredits == null) {
+            throw new IllegalArgumentException("Completed credits map cannot be null");
+        }
+        this.completedCredits = completedCredits;
+    }
+
+    @Override
+    public int getCredits(String studentId, int defaultCredits) {
+        Integer credits = completedCredits.get(studentId);
+        return credits == null ? defaultCredits : credits;
+    }
+
+    @Override
+    public void setCredits(String studentId, int credits) {
+        completedCredits.put(studentId, credits);
+    }
+
+    @Override
+    public void remove(String studentId) {
+        completedCredits.remove(studentId);
+    }
+
+    @Override
+    public void forEach(ObjIntConsumer<String> action) {
+        completedCredits.forEach(action::accept);
+    }
+
+    @Override
+    public int size() {
+        return completedCredits.size();
+    }
+
+    @Override
+    public Map<String, Integer> asMap() {
+        return completedCredits;
+    }
+}
+
+/**
+ * Map view over any CreditStore. get/put/remove are O(1) on the columnar
+ * store; iteration snapshots the entries first.
+ */
+class CreditStoreMap extends AbstractMap<String, Integer> {
+    private final CreditStore store;
+
+    CreditStoreMap(CreditStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Integer get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        int credits = store.getCredits((String) key, -1);
+        return credits < 0 ? null : credits;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Integer put(String key, Integer value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Credits cannot be null");
+        }
+        Integer previous = get(key);
+        store.setCredits(key, value);
+        return previous;
+    }
+
+    @Override
+    public Integer remove(Object key) {
+        Integer previous = get(key);
+        if (previous != null) {
+            store.remove((String) key);
+        }
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return store.size();
+    }
+
+    @Override
+    public Set<Entry<String, Integer>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Integer>> iterator() {
+                List<Entry<String, Integer>> entries = new ArrayList<>(store.size());
+                store.forEach((id, credits) -> entries.add(new SimpleImmutableEntry<>(id, credits)));
+                Iterator<Entry<String, Integer>> snapshot = entries.iterator();
+                return new Iterator<>() {
+                    private String last;
+
+                    @Override
+                    public boolean hasNext() {
+                        return snapshot.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Integer> next() {
+                        Entry<String, Integer> entry = snapshot.next();
+                        last = entry.getKey();
+                        return entry;
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (last == null) {
+                            throw new IllegalStateException();
+                        }
+                        store.remove(last);
+                        last = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return store.size();
+            }
+        };
+    }
+}
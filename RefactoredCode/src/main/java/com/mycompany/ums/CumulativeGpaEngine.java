@@ -0,0 +1,250 @@
+package com.mycompany.ums;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keeps every student's CGPA current as grades are posted, instead of
+ * recomputing it from semester results in a nightly batch.
+ *
+ * For each student, and for each of the student's semesters, the engine holds
+ * a running pair (sum of credits x points, sum of credits). Posting a grade
+ * adds to both pairs; changing or withdrawing one first subtracts the grade it
+ * replaces, which is remembered per (student, course). Every update is O(1)
+ * and no history is ever rescanned.
+ *
+ * Points are kept in hundredths, the precision of the grading scale, so the
+ * sums are exact longs and do not drift however many times grades change.
+ *
+ * Each update writes the student's new CGPA into the target GpaStore, which
+ * ScholarshipCalculator and CreditDecisionMaker read. Posted grade points are
+ * checked with the injected GPAValidator first. Updates are serialized; reads
+ * of the target store are as concurrent as the store itself.
+ *
+ * Grades posted before the engine existed, e.g. mapped from a snapshot, are
+ * read from the grade source the first time a student is touched, so the
+ * engine never scans every student up front.
+ */
+public final class CumulativeGpaEngine {
+    private static final double CENTI = 100.0;
+
+    private final GpaStore target;
+    private final GPAValidator validator;
+    private final Function<String, List<PostedGrade>> gradeSource;
+    private final StudentOrdinals students = new StudentOrdinals();
+    private final BitSet loaded = new BitSet();
+    private final Map<String, Integer> courseOrdinals = new HashMap<>();
+    private final Map<Long, Posting> postings = new HashMap<>();
+    private final Map<Long, Totals> semesterTotals = new HashMap<>();
+    private long[] qualityPoints = new long[16];
+    private int[] credits = new int[16];
+
+    /**
+     * @param target    store that receives each student's CGPA, e.g. UMS's GPA column
+     * @param validator checks the grade points of every posting
+     */
+    public CumulativeGpaEngine(GpaStore target, GPAValidator validator) {
+        this(target, validator, studentId -> List.of());
+    }
+
+    /**
+     * @param gradeSource a student's grades posted before this engine existed;
+     *                    trusted as already validated
+     */
+    public CumulativeGpaEngine(GpaStore target, GPAValidator validator,
+                               Function<String, List<PostedGrade>> gradeSource) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target GPA store cannot be null");
+        }
+        if (validator == null) {
+            throw new IllegalArgumentException("GPA validator cannot be null");
+        }
+        if (gradeSource == null) {
+            throw new IllegalArgumentException("Grade source cannot be null");
+        }
+        this.target = target;
+        this.validator = validator;
+        this.gradeSource = gradeSource;
+    }
+
+    /**
+     * Posts a grade, or replaces the one already posted for this course.
+     * A replacement may move the course to another semester or credit weight.
+     */
+    public synchronized void postGrade(String studentId, String courseCode, int semester,
+                                       int creditHours, double gradePoints) {
+        if (courseCode == null || courseCode.isBlank()) {
+            throw new IllegalArgumentException("Course code cannot be null or empty");
+        }
+        if (semester < 0) {
+            throw new IllegalArgumentException("Invalid semester: " + semester);
+        }
+        if (creditHours < 0) {
+            throw new IllegalArgumentException("Credit hours cannot be negative");
+        }
+        validator.validate(gradePoints);
+        int student = load(studentId);
+        post(student, courseCode, semester, creditHours, gradePoints);
+        publish(studentId, student);
+    }
+
+    /**
+     * Removes a posted grade, e.g. after a course withdrawal.
+     *
+     * @return false if no grade was posted for this course
+     */
+    public synchronized boolean withdrawGrade(String studentId, String courseCode) {
+        int student = load(studentId);
+        Integer course = courseCode == null ? null : courseOrdinals.get(courseCode);
+        if (course == null) {
+            return false;
+        }
+        Posting removed = postings.remove(postingKey(student, course));
+        if (removed == null) {
+            return false;
+        }
+        apply(student, removed, -1);
+        publish(studentId, student);
+        return true;
+    }
+
+    /**
+     * CGPA as last published to the target store, or {@code defaultGpa}.
+     */
+    public double cgpa(String studentId, double defaultGpa) {
+        return target.getGpa(studentId, defaultGpa);
+    }
+
+    /**
+     * GPA of one semester, or {@code defaultGpa} if it has no graded credits.
+     */
+    public synchronized double semesterGpa(String studentId, int semester, double defaultGpa) {
+        int student = load(studentId);
+        Totals totals = semesterTotals.get(semesterKey(student, semester));
+        if (totals == null || totals.credits == 0) {
+            return defaultGpa;
+        }
+        return totals.qualityPoints / CENTI / totals.credits;
+    }
+
+    public synchronized int gradedCredits(String studentId) {
+        return credits[load(studentId)];
+    }
+
+    /**
+     * The store the engine publishes to, for readers that take a GpaStore.
+     */
+    public GpaStore gpaStore() {
+        return target;
+    }
+
+    // The student's ordinal, after folding in their grades from the source on first touch
+    private int load(String studentId) {
+        int student = students.intern(studentId);
+        ensureCapacity(student);
+        if (!loaded.get(student)) {
+            loaded.set(student);
+            for (PostedGrade grade : gradeSource.apply(studentId)) {
+                post(student, grade.courseCode(), grade.semester(), grade.creditHours(), grade.gradePoints());
+            }
+        }
+        return student;
+    }
+
+    private void post(int student, String courseCode, int semester, int creditHours, double gradePoints) {
+        long key = postingKey(student, courseOrdinal(courseCode));
+        Posting posting = new Posting(semester, creditHours, (int) Math.round(gradePoints * CENTI));
+        Posting replaced = postings.put(key, posting);
+        if (replaced != null) {
+            apply(student, replaced, -1);
+        }
+        apply(student, posting, 1);
+    }
+
+    private void apply(int student, Posting posting, int sign) {
+        long weighted = (long) posting.creditHours() * posting.centiPoints();
+        qualityPoints[student] += sign * weighted;
+        credits[student] += sign * posting.creditHours();
+
+        long key = semesterKey(student, posting.semester());
+        Totals totals = semesterTotals.computeIfAbsent(key, k -> new Totals());
+        totals.qualityPoints += sign * weighted;
+        totals.credits += sign * posting.creditHours();
+        if (totals.credits == 0 && totals.qualityPoints == 0) {
+            semesterTotals.remove(key);
+        }
+    }
+
+    // Students with no graded credits have no GPA rather than 0.0
+    private void publish(String studentId, int student) {
+        if (credits[student] == 0) {
+            target.remove(studentId);
+        } else {
+            target.setGpa(studentId, qualityPoints[student] / CENTI / credits[student]);
+        }
+    }
+
+    private void ensureCapacity(int student) {
+        if (student >= credits.length) {
+            int length = Math.max(student + 1, credits.length * 2);
+            qualityPoints = Arrays.copyOf(qualityPoints, length);
+            credits = Arrays.copyOf(credits, length);
+        }
+    }
+
+    private int courseOrdinal(String courseCode) {
+        return courseOrdinals.computeIfAbsent(courseCode, code -> courseOrdinals.size());
+    }
+
+    private static long postingKey(int student, int course) {
+        return ((long) student << 32) | (course & 0xFFFFFFFFL);
+    }
+
+    private static long semesterKey(int student, int semester) {
+        return ((long) student << 32) | (semester & 0xFFFFFFFFL);
+    }
+
+    private record Posting(int semester, int creditHours, int centiPoints) {}
+
+    /**
+     * A grade already on record, as read from the engine's grade source.
+     */
+    public record PostedGrade(String courseCode, int semester, int creditHours, double gradePoints) {}
+
+    private static final class Totals {
+        long qualityPoints;
+        int credits;
+    }
+
+    // Example main: grades posted over two semesters feed scholarship and credit decisions
+    public static void main(String[] args) {
+        GpaStore gpas = new ColumnarGpaStore(new StudentOrdinals());
+        CumulativeGpaEngine engine = new CumulativeGpaEngine(gpas, new GPAValidator(new NonNegativeGPARule()));
+        ScholarshipCalculator scholarships = new ScholarshipCalculator();
+        CreditDecisionMaker advisor = new CreditDecisionMaker(
+                List.of(new LowGpaRule(), new MidGpaRule(), new HighGpaRule()));
+
+        engine.postGrade("S001", "CS101", 1, 3, 4.0);
+        engine.postGrade("S001", "MATH101", 1, 3, 3.3);
+        engine.postGrade("S001", "CS201", 2, 3, 2.7);
+        engine.postGrade("S001", "CS801", 2, 6, 3.0);
+        report(engine, scholarships, advisor);
+
+        // Re-graded after appeal: only the old and new contributions are touched
+        engine.postGrade("S001", "CS201", 2, 3, 4.0);
+        System.out.printf("After CS201 re-grade, semester 2 GPA: %.2f%n", engine.semesterGpa("S001", 2, 0.0));
+        report(engine, scholarships, advisor);
+    }
+
+    private static void report(CumulativeGpaEngine engine, ScholarshipCalculator scholarships,
+                               CreditDecisionMaker advisor) {
+        double cgpa = scholarships.getGPA("S001", engine.gpaStore());
+        System.out.printf("S001 CGPA %.2f over %d credits; max credits %d; %s%n", cgpa,
+                engine.gradedCredits("S001"), advisor.getMaxCredits("S001", engine.gpaStore()),
+                scholarships.determineScholarshipMessage(cgpa));
+    }
+}
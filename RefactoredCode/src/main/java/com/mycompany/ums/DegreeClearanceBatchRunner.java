@@ -0,0 +1,233 @@
+package com.mycompany.ums;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Clears a convocation's worth of graduates in one run: the Validator chain
+ * is applied to every student in parallel, failures are collected as
+ * structured reasons, and the grants are written back in a single batch.
+ *
+ * Each validator is asked for a ValidationResult instead of throwing; the
+ * clearance rules return shared failure constants, so rejected students cost
+ * no exception. Validators without their own check() still work; their
+ * IllegalArgumentException is captured as REJECTED with its message. Any
+ * other exception is a bug and fails the whole batch before anything is
+ * granted.
+ *
+ * Students are evaluated in chunks on a fixed pool with a bounded queue; when
+ * the queue is full the submitting thread runs the chunk itself, so a large
+ * batch never queues more than a few chunks ahead of the workers.
+ */
+public final class DegreeClearanceBatchRunner implements AutoCloseable {
+    private static final int CHUNK_SIZE = 256;
+
+    private final Validator<String> chain;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param validators chain applied in order; the first failure decides the reason
+     * @param threads    worker threads, e.g. the number of cores
+     */
+    public DegreeClearanceBatchRunner(List<Validator<String>> validators, int threads) {
+        if (validators == null || validators.isEmpty()) {
+            throw new IllegalArgumentException("Validators cannot be null or empty");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads must be at least 1");
+        }
+        this.chain = ValidationChain.all(validators);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 2), runnable -> {
+                    Thread thread = new Thread(runnable, "degree-clearance");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Evaluates every student without granting anything. Duplicate IDs are
+     * evaluated once.
+     */
+    public ClearanceBatchResult evaluate(Collection<String> studentIds) {
+        if (studentIds == null) {
+            throw new IllegalArgumentException("Student IDs cannot be null");
+        }
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(studentIds));
+        ValidationResult[] results = new ValidationResult[ids.size()];
+        List<Future<?>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            int start = from;
+            int end = Math.min(ids.size(), from + CHUNK_SIZE);
+            // Each chunk writes only its own slots; Future.get() publishes them
+            chunks.add(executor.submit(() -> {
+                for (int i = start; i < end; i++) {
+                    results[i] = chain.check(ids.get(i));
+                }
+            }));
+        }
+        for (Future<?> chunk : chunks) {
+            await(chunk);
+        }
+
+        Set<String> granted = new LinkedHashSet<>();
+        Map<String, ValidationResult> rejected = new LinkedHashMap<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i].isValid()) {
+                granted.add(ids.get(i));
+            } else {
+                rejected.put(ids.get(i), results[i]);
+            }
+        }
+        return new ClearanceBatchResult(granted, rejected);
+    }
+
+    /**
+     * Evaluates every student, then hands all grants to the writer in one call.
+     * Nothing is written if evaluation fails.
+     */
+    public ClearanceBatchResult run(Collection<String> studentIds, ClearanceGrantWriter writer) {
+        if (writer == null) {
+            throw new IllegalArgumentException("Grant writer cannot be null");
+        }
+        ClearanceBatchResult result = evaluate(studentIds);
+        if (!result.granted().isEmpty()) {
+            writer.grantAll(result.granted());
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private static void await(Future<?> chunk) {
+        try {
+            chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while clearing batch", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Clearance batch failed", e.getCause());
+        }
+    }
+
+    // Example main: a convocation batch of 8,000 graduates, a few hundred of them held back
+    public static void main(String[] args) {
+        int graduates = args.length > 0 ? Integer.parseInt(args[0]) : 8_000;
+        Map<String, Boolean> feeStatus = new HashMap<>();
+        Map<String, Integer> completedCredits = new HashMap<>();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < graduates; i++) {
+            String id = String.format("S%05d", i);
+            ids.add(id);
+            feeStatus.put(id, i % 40 != 0);
+            completedCredits.put(id, i % 25 == 0 ? 110 : 130);
+        }
+        AtomicReference<Map<String, Boolean>> degreeClearance = new AtomicReference<>(Map.of(ids.get(1), true));
+
+        // The graduation requirements form a chain of their own, nested in the runner's
+        Validator<String> requirements = ValidationChain.all(List.of(
+                new FeesPaidValidator(feeStatus),
+                new RequiredCreditsValidator(completedCredits, 120)));
+        List<Validator<String>> chain = List.of(
+                new StudentIdValidator(),
+                new ClearanceInProgressValidator(degreeClearance.get()),
+                requirements);
+        try (DegreeClearanceBatchRunner runner =
+                     new DegreeClearanceBatchRunner(chain, Runtime.getRuntime().availableProcessors())) {
+            long start = System.nanoTime();
+            ClearanceBatchResult result = runner.run(ids, ClearanceGrantWriter.copyOnWrite(degreeClearance));
+            long micros = (System.nanoTime() - start) / 1_000;
+            System.out.printf("Cleared %,d of %,d graduates in %,d us; rejections %s%n",
+                    result.granted().size(), graduates, micros, result.failureCounts());
+            System.out.println("S00000: " + result.rejected().get("S00000"));
+            System.out.println("Clearance map now holds " + degreeClearance.get().size() + " students");
+        }
+    }
+}
+
+/**
+ * Outcome of one batch: who can be cleared and why the others cannot.
+ */
+final class ClearanceBatchResult {
+    private final Set<String> granted;
+    private final Map<String, ValidationResult> rejected;
+
+    ClearanceBatchResult(Set<String> granted, Map<String, ValidationResult> rejected) {
+        this.granted = Collections.unmodifiableSet(granted);
+        this.rejected = Collections.unmodifiableMap(rejected);
+    }
+
+    public Set<String> granted() {
+        return granted;
+    }
+
+    /**
+     * Failure result per rejected student, in input order.
+     */
+    public Map<String, ValidationResult> rejected() {
+        return rejected;
+    }
+
+    public Map<ErrorCode, Integer> failureCounts() {
+        Map<ErrorCode, Integer> counts = new LinkedHashMap<>();
+        rejected.values().forEach(rejection -> counts.merge(rejection.code(), 1, Integer::sum));
+        return counts;
+    }
+}
+
+/**
+ * Publishes a batch of clearance grants in one step, so readers see either
+ * none or all of them.
+ */
+interface ClearanceGrantWriter {
+    void grantAll(Set<String> studentIds);
+
+    /**
+     * Swaps in a copy of the map with the grants added. Readers that take the
+     * map from the reference never see a partial batch, and need no lock.
+     */
+    static ClearanceGrantWriter copyOnWrite(AtomicReference<Map<String, Boolean>> degreeClearance) {
+        if (degreeClearance == null) {
+            throw new IllegalArgumentException("Degree clearance reference cannot be null");
+        }
+        return studentIds -> degreeClearance.updateAndGet(current -> {
+            Map<String, Boolean> updated = new HashMap<>(current);
+            studentIds.forEach(id -> updated.put(id, true));
+            return Collections.unmodifiableMap(updated);
+        });
+    }
+
+    /**
+     * Adds the grants with one putAll while holding the map's monitor. Atomic
+     * for readers that also lock the map, as Collections.synchronizedMap does;
+     * other writers that lock the map, such as OverlayMap's, are kept out.
+     */
+    static ClearanceGrantWriter into(Map<String, Boolean> degreeClearance) {
+        if (degreeClearance == null) {
+            throw new IllegalArgumentException("Degree clearance map cannot be null");
+        }
+        return studentIds -> {
+            Map<String, Boolean> grants = new HashMap<>();
+            studentIds.forEach(id -> grants.put(id, true));
+            synchronized (degreeClearance) {
+                degreeClearance.putAll(grants);
+            }
+        };
+    }
+}
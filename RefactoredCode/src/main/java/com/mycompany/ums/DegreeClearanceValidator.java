@@ -8,6 +8,52 @@ import java.util.Map;
  */
 interface Validator<T> {
     void validate(T input) throws IllegalArgumentException;
+
+    default ValidationResult check(T input) {
+        return ValidationResult.capture(() -> validate(input));
+    }
+}
+
+/**
+ * Why a student cannot be cleared; the message matches the exception the
+ * same check throws from validate().
+ */
+enum ClearanceFailure implements ErrorCode {
+    INVALID_STUDENT_ID("Student ID cannot be null or empty"),
+    ALREADY_IN_PROGRESS("Degree clearance already in progress"),
+    UNPAID_FEES("Unpaid fees"),
+    INSUFFICIENT_CREDITS("Insufficient credits");
+
+    private final ValidationResult result;
+
+    ClearanceFailure(String message) {
+        this.result = ValidationResult.failure(this, message);
+    }
+
+    public String message() {
+        return result.message();
+    }
+
+    /**
+     * Shared failure result, so rejecting a student allocates nothing.
+     */
+    public ValidationResult result() {
+        return result;
+    }
+}
+
+/**
+ * Student ID validator whose check() is the primary implementation, so
+ * batch clearance does not pay for an exception per rejected student.
+ */
+interface ClearanceRule extends Validator<String> {
+    @Override
+    ValidationResult check(String studentId);
+
+    @Override
+    default void validate(String studentId) {
+        check(studentId).orThrow();
+    }
 }
 
 /**
@@ -30,12 +76,11 @@ class MapBundle {
 /**
  * Validate student ID is not null or empty
  */
-class StudentIdValidator implements Validator<String> {
+class StudentIdValidator implements ClearanceRule {
     @Override
-    public void validate(String studentId) {
-        if (studentId == null || studentId.isBlank()) {
-            throw new IllegalArgumentException("Student ID cannot be null or empty");
-        }
+    public ValidationResult check(String studentId) {
+        return studentId == null || studentId.isBlank()
+                ? ClearanceFailure.INVALID_STUDENT_ID.result() : ValidationResult.valid();
     }
 }
 
@@ -43,18 +88,27 @@ class StudentIdValidator implements Validator<String> {
  * Validate maps are not null
  */
 class MapsNotNullValidator implements Validator<MapBundle> {
+    private static final ValidationResult MAPS_MISSING =
+            ValidationResult.failure(CommonErrorCode.MISSING, "Maps cannot be null");
+
     @Override
     public void validate(MapBundle maps) {
+        check(maps).orThrow();
+    }
+
+    @Override
+    public ValidationResult check(MapBundle maps) {
         if (maps.degreeClearance == null || maps.feeStatus == null || maps.completedCredits == null) {
-            throw new IllegalArgumentException("Maps cannot be null");
+            return MAPS_MISSING;
         }
+        return ValidationResult.valid();
     }
 }
 
 /**
  * Validate clearance is not already in progress
  */
-class ClearanceInProgressValidator implements Validator<String> {
+class ClearanceInProgressValidator implements ClearanceRule {
     private final Map<String, Boolean> degreeClearance;
 
     public ClearanceInProgressValidator(Map<String, Boolean> degreeClearance) {
@@ -62,17 +116,16 @@ class ClearanceInProgressValidator implements Validator<String> {
     }
 
     @Override
-    public void validate(String studentId) {
-        if (degreeClearance.getOrDefault(studentId, false)) {
-            throw new IllegalArgumentException("Degree clearance already in progress");
-        }
+    public ValidationResult check(String studentId) {
+        return degreeClearance.getOrDefault(studentId, false)
+                ? ClearanceFailure.ALREADY_IN_PROGRESS.result() : ValidationResult.valid();
     }
 }
 
 /**
  * Validate fees are paid
  */
-class FeesPaidValidator implements Validator<String> {
+class FeesPaidValidator implements ClearanceRule {
     private final Map<String, Boolean> feeStatus;
 
     public FeesPaidValidator(Map<String, Boolean> feeStatus) {
@@ -80,30 +133,35 @@ class FeesPaidValidator implements Validator<String> {
     }
 
     @Override
-    public void validate(String studentId) {
-        if (!feeStatus.getOrDefault(studentId, false)) {
-            throw new IllegalArgumentException("Unpaid fees");
-        }
+    public ValidationResult check(String studentId) {
+        return feeStatus.getOrDefault(studentId, false)
+                ? ValidationResult.valid() : ClearanceFailure.UNPAID_FEES.result();
     }
 }
 
 /**
  * Validate required credits completed
  */
-class RequiredCreditsValidator implements Validator<String> {
-    private final Map<String, Integer> completedCredits;
+class RequiredCreditsValidator implements ClearanceRule {
+    private final CreditStore completedCredits;
     private final int requiredCredits;
 
     public RequiredCreditsValidator(Map<String, Integer> completedCredits, int requiredCredits) {
+        this(CreditStore.of(completedCredits), requiredCredits);
+    }
+
+    public RequiredCreditsValidator(CreditStore completedCredits, int requiredCredits) {
+        if (completedCredits == null) {
+            throw new IllegalArgumentException("Completed credits cannot be null");
+        }
         this.completedCredits = completedCredits;
         this.requiredCredits = requiredCredits;
     }
 
     @Override
-    public void validate(String studentId) {
-        if (completedCredits.getOrDefault(studentId, 0) < requiredCredits) {
-            throw new IllegalArgumentException("Insufficient credits");
-        }
+    public ValidationResult check(String studentId) {
+        return completedCredits.getCredits(studentId, 0) < requiredCredits
+                ? ClearanceFailure.INSUFFICIENT_CREDITS.result() : ValidationResult.valid();
     }
 }
 
@@ -113,11 +171,15 @@ class RequiredCreditsValidator implements Validator<String> {
 public final class DegreeClearanceValidator {
     private final List<Validator<String>> stringValidators;
     private final List<Validator<MapBundle>> mapValidators;
+    private final ValidationChain<String> stringChain;
+    private final ValidationChain<MapBundle> mapChain;
 
     public DegreeClearanceValidator(List<Validator<String>> stringValidators,
                                     List<Validator<MapBundle>> mapValidators) {
         this.stringValidators = stringValidators;
         this.mapValidators = mapValidators;
+        this.stringChain = ValidationChain.all(stringValidators);
+        this.mapChain = ValidationChain.all(mapValidators);
     }
 
     public void validate(String studentId, MapBundle maps) {
@@ -128,4 +190,12 @@ public final class DegreeClearanceValidator {
             validator.validate(maps);
         }
     }
+
+    /**
+     * Same checks as validate(), returning the first failure instead of throwing it.
+     */
+    public ValidationResult check(String studentId, MapBundle maps) {
+        ValidationResult result = stringChain.check(studentId);
+        return result.isValid() ? mapChain.check(maps) : result;
+    }
 }
@@ -1,7 +1,18 @@
 package com.mycompany.ums;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 // -------------------------
 // DepartmentChecker Interface & Implementations
@@ -10,6 +21,11 @@ import java.util.Map;
 interface DepartmentChecker {
     String getDepartmentName();
     boolean isClear();
+
+    // Per-student lookup; departments that only know a global status ignore the ID
+    default boolean isClear(String studentId) {
+        return isClear();
+    }
 }
 
 class FinanceDepartmentChecker implements DepartmentChecker {
@@ -55,11 +71,52 @@ class LibraryDepartmentChecker implements DepartmentChecker {
 final class DepartmentClearanceService {
     private static final String HEADER = "Checking clearance from all departments...";
     private static final String FORMAT = "- %s: %s";
+    private static final String OVERALL_FORMAT = "Overall: %s (%d ms)";
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    // Remote lookups block, so each in-flight lookup gets its own (daemon) thread
+    private static final ExecutorService SHARED_LOOKUPS = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "department-lookup");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final ScheduledThreadPoolExecutor TIMEOUTS = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "department-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        TIMEOUTS.setRemoveOnCancelPolicy(true);
+    }
 
     private final List<DepartmentChecker> departmentCheckers;
+    private final Duration defaultTimeout;
+    private final Map<String, Duration> timeouts;
+    private final ExecutorService lookups;
 
     public DepartmentClearanceService(List<DepartmentChecker> departmentCheckers) {
-        this.departmentCheckers = departmentCheckers;
+        this(departmentCheckers, DEFAULT_TIMEOUT, Map.of(), SHARED_LOOKUPS);
+    }
+
+    /**
+     * @param defaultTimeout timeout for departments without their own entry
+     * @param timeouts       per-department timeouts, keyed by department name
+     * @param lookups        runs the isClear() calls; needs a free thread per checker
+     *                       for the lookups to overlap
+     */
+    public DepartmentClearanceService(List<DepartmentChecker> departmentCheckers, Duration defaultTimeout,
+                                      Map<String, Duration> timeouts, ExecutorService lookups) {
+        if (departmentCheckers == null || defaultTimeout == null || timeouts == null || lookups == null) {
+            throw new IllegalArgumentException("Dependencies cannot be null");
+        }
+        if (defaultTimeout.isNegative() || defaultTimeout.isZero()) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        this.departmentCheckers = List.copyOf(departmentCheckers);
+        this.defaultTimeout = defaultTimeout;
+        this.timeouts = Map.copyOf(timeouts);
+        this.lookups = lookups;
     }
 
     public void verifyDepartmentClearances() {
@@ -69,6 +126,178 @@ final class DepartmentClearanceService {
             System.out.println(String.format(FORMAT, checker.getDepartmentName(), status));
         }
     }
+
+    /**
+     * Queries every department at once and prints the same lines as
+     * verifyDepartmentClearances(), plus the overall status. Takes as long as
+     * the slowest department, capped by its timeout.
+     */
+    public DepartmentClearanceReport verifyDepartmentClearancesConcurrently() {
+        System.out.println(HEADER);
+        DepartmentClearanceReport report = await(verifyAsync());
+        for (DepartmentStatus department : report.departments()) {
+            System.out.println(String.format(FORMAT, department.department(), department.status().label()));
+        }
+        System.out.println(String.format(OVERALL_FORMAT, report.overall().label(), report.elapsedMillis()));
+        return report;
+    }
+
+    /**
+     * Starts every department's lookup in parallel. A lookup still running
+     * at its department's timeout is interrupted and reported as TIMED_OUT;
+     * one that throws is reported as FAILED. Cancelling the returned future
+     * interrupts all lookups still running.
+     */
+    public CompletableFuture<DepartmentClearanceReport> verifyAsync() {
+        return verify(DepartmentChecker::isClear);
+    }
+
+    /**
+     * As verifyAsync(), asking each department about one student.
+     */
+    public CompletableFuture<DepartmentClearanceReport> verifyAsync(String studentId) {
+        if (studentId == null || studentId.isBlank()) {
+            throw new IllegalArgumentException("Student ID cannot be null or empty");
+        }
+        return verify(checker -> checker.isClear(studentId));
+    }
+
+    private CompletableFuture<DepartmentClearanceReport> verify(Predicate<DepartmentChecker> isClear) {
+        long start = System.nanoTime();
+        List<CompletableFuture<DepartmentStatus>> statuses = new ArrayList<>(departmentCheckers.size());
+        for (DepartmentChecker checker : departmentCheckers) {
+            statuses.add(lookup(checker, isClear, start));
+        }
+        CompletableFuture<DepartmentClearanceReport> report = CompletableFuture
+                .allOf(statuses.toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> {
+                    List<DepartmentStatus> departments = new ArrayList<>(statuses.size());
+                    statuses.forEach(status -> departments.add(status.join()));
+                    return new DepartmentClearanceReport(departments, elapsedMillis(start));
+                });
+        report.whenComplete((result, error) -> {
+            if (report.isCancelled()) {
+                statuses.forEach(status -> status.cancel(true));
+            }
+        });
+        return report;
+    }
+
+    private CompletableFuture<DepartmentStatus> lookup(DepartmentChecker checker, Predicate<DepartmentChecker> isClear,
+                                                       long start) {
+        String department = checker.getDepartmentName();
+        CompletableFuture<DepartmentStatus> status = new CompletableFuture<>();
+        Future<?> call = lookups.submit(() -> {
+            try {
+                ClearanceStatus result = isClear.test(checker) ? ClearanceStatus.CLEAR : ClearanceStatus.PENDING;
+                status.complete(new DepartmentStatus(department, result, elapsedMillis(start)));
+            } catch (RuntimeException e) {
+                status.complete(new DepartmentStatus(department, ClearanceStatus.FAILED, elapsedMillis(start)));
+            }
+        });
+        ScheduledFuture<?> timer = TIMEOUTS.schedule(() -> {
+            status.complete(new DepartmentStatus(department, ClearanceStatus.TIMED_OUT, elapsedMillis(start)));
+        }, timeoutFor(department).toNanos(), TimeUnit.NANOSECONDS);
+        // Whichever finishes first wins; a lookup that lost is interrupted, a timer that lost is dropped
+        status.whenComplete((result, error) -> {
+            timer.cancel(false);
+            if (error != null || result.status() == ClearanceStatus.TIMED_OUT) {
+                call.cancel(true);
+            }
+        });
+        return status;
+    }
+
+    private Duration timeoutFor(String department) {
+        return timeouts.getOrDefault(department, defaultTimeout);
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static DepartmentClearanceReport await(CompletableFuture<DepartmentClearanceReport> report) {
+        try {
+            return report.get();
+        } catch (InterruptedException e) {
+            report.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while checking department clearances", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Department clearance check failed", e.getCause());
+        }
+    }
+}
+
+/**
+ * Outcome of one department's lookup.
+ */
+enum ClearanceStatus {
+    CLEAR("Clear"),
+    PENDING("Pending"),
+    TIMED_OUT("Timed out"),
+    FAILED("Failed");
+
+    private final String label;
+
+    ClearanceStatus(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+}
+
+record DepartmentStatus(String department, ClearanceStatus status, long elapsedMillis) {}
+
+/**
+ * All departments' statuses, in checker order, and their aggregate.
+ */
+final class DepartmentClearanceReport {
+    private final List<DepartmentStatus> departments;
+    private final long elapsedMillis;
+
+    DepartmentClearanceReport(List<DepartmentStatus> departments, long elapsedMillis) {
+        this.departments = List.copyOf(departments);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<DepartmentStatus> departments() {
+        return departments;
+    }
+
+    public long elapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * CLEAR only if every department is clear. A department that answered
+     * PENDING is a definite no and outranks lookups that timed out or failed,
+     * which only mean the answer is not known yet.
+     */
+    public ClearanceStatus overall() {
+        boolean timedOut = false;
+        boolean failed = false;
+        for (DepartmentStatus department : departments) {
+            switch (department.status()) {
+                case PENDING -> {
+                    return ClearanceStatus.PENDING;
+                }
+                case TIMED_OUT -> timedOut = true;
+                case FAILED -> failed = true;
+                default -> { }
+            }
+        }
+        if (timedOut) {
+            return ClearanceStatus.TIMED_OUT;
+        }
+        return failed ? ClearanceStatus.FAILED : ClearanceStatus.CLEAR;
+    }
+
+    public boolean isClear() {
+        return overall() == ClearanceStatus.CLEAR;
+    }
 }
 
 // -------------------------
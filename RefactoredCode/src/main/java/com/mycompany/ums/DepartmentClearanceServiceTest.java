@@ -0,0 +1,182 @@
+package com.mycompany.ums;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test for the concurrent department clearance mode, using local stub
+ * checkers that sleep to stand in for remote lookups.
+ *
+ * Checks that lookups overlap (total time is the slowest checker, not the
+ * sum), that a checker past its own timeout is reported TIMED_OUT and
+ * interrupted, that PENDING and FAILED aggregate correctly, and that
+ * cancelling the report interrupts lookups still running. Also checks the
+ * caching decorator's TTL, LRU bound, invalidation and counters.
+ */
+public class DepartmentClearanceServiceTest {
+    private static final Duration GENEROUS = Duration.ofSeconds(2);
+
+    public static void main(String[] args) throws Exception {
+        ExecutorService lookups = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-lookup");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // Lookups overlap: 300 + 500 + 700 ms sequentially, about 700 ms in parallel
+        DepartmentClearanceService service = new DepartmentClearanceService(List.of(
+                new SlowChecker("Finance", 300, true),
+                new SlowChecker("Academics", 500, true),
+                new SlowChecker("Library", 700, true)), GENEROUS, Map.of(), lookups);
+        DepartmentClearanceReport report = service.verifyDepartmentClearancesConcurrently();
+        check(report.overall() == ClearanceStatus.CLEAR, "Expected CLEAR, got " + report.overall());
+        check(report.elapsedMillis() < 1_200, "Lookups did not overlap: " + report.elapsedMillis() + " ms");
+
+        // Per-checker timeout: only the library has a short one, and its lookup is interrupted
+        SlowChecker stuck = new SlowChecker("Library", 10_000, true);
+        service = new DepartmentClearanceService(List.of(
+                new SlowChecker("Finance", 100, true), stuck), GENEROUS,
+                Map.of("Library", Duration.ofMillis(200)), lookups);
+        report = service.verifyDepartmentClearancesConcurrently();
+        check(report.overall() == ClearanceStatus.TIMED_OUT, "Expected TIMED_OUT, got " + report.overall());
+        check(report.departments().get(0).status() == ClearanceStatus.CLEAR, "Finance should still be clear");
+        check(report.elapsedMillis() < 1_000, "Timeout not honoured: " + report.elapsedMillis() + " ms");
+        check(stuck.interrupted.await(1, TimeUnit.SECONDS), "Timed-out lookup was not interrupted");
+
+        // A definite "pending" outranks an unknown answer
+        service = new DepartmentClearanceService(List.of(
+                new SlowChecker("Finance", 50, false),
+                new SlowChecker("Library", 10_000, true)), GENEROUS,
+                Map.of("Library", Duration.ofMillis(100)), lookups);
+        report = service.verifyAsync().get();
+        check(report.overall() == ClearanceStatus.PENDING, "Expected PENDING, got " + report.overall());
+
+        // A checker that throws is reported, not propagated
+        service = new DepartmentClearanceService(List.of(
+                new SlowChecker("Finance", 50, true),
+                new FailingChecker("Academics")), GENEROUS, Map.of(), lookups);
+        report = service.verifyAsync().get();
+        check(report.overall() == ClearanceStatus.FAILED, "Expected FAILED, got " + report.overall());
+
+        // Cancelling the report interrupts every lookup still in flight
+        SlowChecker slowFinance = new SlowChecker("Finance", 10_000, true);
+        SlowChecker slowLibrary = new SlowChecker("Library", 10_000, true);
+        service = new DepartmentClearanceService(List.of(slowFinance, slowLibrary), GENEROUS, Map.of(), lookups);
+        CompletableFuture<DepartmentClearanceReport> pending = service.verifyAsync();
+        check(slowFinance.started.await(1, TimeUnit.SECONDS) && slowLibrary.started.await(1, TimeUnit.SECONDS),
+                "Lookups did not start");
+        pending.cancel(true);
+        check(slowFinance.interrupted.await(1, TimeUnit.SECONDS)
+                && slowLibrary.interrupted.await(1, TimeUnit.SECONDS), "Cancelled lookups were not interrupted");
+
+        checkCache();
+
+        lookups.shutdownNow();
+        System.out.println("Department clearance tests passed");
+    }
+
+    // TTL expiry, LRU eviction, invalidation and counters, on a fake clock
+    private static void checkCache() {
+        AtomicLong now = new AtomicLong();
+        AtomicInteger remoteCalls = new AtomicInteger();
+        DepartmentChecker remote = new DepartmentChecker() {
+            @Override
+            public String getDepartmentName() {
+                return "Library";
+            }
+
+            @Override
+            public boolean isClear() {
+                remoteCalls.incrementAndGet();
+                return true;
+            }
+        };
+        CachingDepartmentChecker cache = new CachingDepartmentChecker(remote, Duration.ofSeconds(10), 2, now::get);
+
+        cache.isClear("S1");
+        cache.isClear("S1");
+        check(remoteCalls.get() == 1 && cache.getHitCount() == 1, "Second lookup should be a hit");
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        cache.isClear("S1");
+        check(remoteCalls.get() == 2, "Expired decision should be looked up again");
+
+        cache.isClear("S2");
+        cache.isClear("S1"); // S2 is now least recently used
+        cache.isClear("S3");
+        check(cache.size() == 2, "Cache should stay bounded, size " + cache.size());
+        int before = remoteCalls.get();
+        cache.isClear("S1");
+        check(remoteCalls.get() == before, "Recently used S1 should survive eviction");
+        cache.isClear("S2");
+        check(remoteCalls.get() == before + 1, "Least recently used S2 should have been evicted");
+
+        cache.invalidate("S1");
+        cache.isClear("S1");
+        check(remoteCalls.get() == before + 2, "Invalidated decision should be looked up again");
+        check(cache.getHitCount() + cache.getMissCount() == 9, "Every lookup should count as a hit or a miss");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    private static final class SlowChecker implements DepartmentChecker {
+        private final String name;
+        private final long delayMillis;
+        private final boolean clear;
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        SlowChecker(String name, long delayMillis, boolean clear) {
+            this.name = name;
+            this.delayMillis = delayMillis;
+            this.clear = clear;
+        }
+
+        @Override
+        public String getDepartmentName() {
+            return name;
+        }
+
+        @Override
+        public boolean isClear() {
+            started.countDown();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(name + " lookup interrupted");
+            }
+            return clear;
+        }
+    }
+
+    private static final class FailingChecker implements DepartmentChecker {
+        private final String name;
+
+        FailingChecker(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getDepartmentName() {
+            return name;
+        }
+
+        @Override
+        public boolean isClear() {
+            throw new IllegalStateException(name + " service unavailable");
+        }
+    }
+}
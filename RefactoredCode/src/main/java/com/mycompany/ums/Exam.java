@@ -32,7 +32,6 @@ public class Exam {
             throw new IllegalArgumentException("Student ID cannot be null or empty");
         }
         List<String> courses = enrollmentService.getEnrolledCourses(studentId);
-        // List<ExamScheduleProvider> schedules = scheduleProvider.getExamSchedule(courses);
-        // examView.displayExamSchedule(schedules);
+        examView.displayExamSchedule(courses, scheduleProvider);
     }
 }
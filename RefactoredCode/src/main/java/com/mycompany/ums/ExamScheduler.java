@@ -0,0 +1,283 @@
+package com.mycompany.ums;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates a conflict-free exam schedule: no student sits two exams in the
+ * same session, and no session seats more candidates than the exam halls
+ * hold.
+ *
+ * Courses are the vertices of a conflict graph with an edge between every
+ * two courses some student takes together. The adjacency matrix is one
+ * bitset row per course, so building it is one bit set per co-enrolled pair
+ * and a course's degree is a popcount. The graph is then colored with
+ * DSatur: the next course is the one whose neighbours already occupy the
+ * most distinct sessions, and it gets the earliest session none of them
+ * has that still has seats for it.
+ *
+ * Sessions run on weekdays from the first exam day; the schedule is only
+ * as long as the coloring needs.
+ */
+public final class ExamScheduler {
+    private final LocalDate firstDay;
+    private final int days;
+    private final List<LocalTime> sessions;
+    private final int seatsPerSession;
+
+    /**
+     * @param days            number of weekdays available for exams
+     * @param sessions        start times of each day's exam sessions
+     * @param seatsPerSession seats across all exam halls in one session
+     */
+    public ExamScheduler(LocalDate firstDay, int days, List<LocalTime> sessions, int seatsPerSession) {
+        if (firstDay == null || sessions == null || sessions.isEmpty()) {
+            throw new IllegalArgumentException("First day and sessions cannot be null or empty");
+        }
+        if (days < 1 || seatsPerSession < 1) {
+            throw new IllegalArgumentException("Days and seats must be positive");
+        }
+        this.firstDay = firstDay;
+        this.days = days;
+        this.sessions = List.copyOf(sessions);
+        this.seatsPerSession = seatsPerSession;
+    }
+
+    /**
+     * Schedules an exam for every course the given students are enrolled in.
+     *
+     * @throws IllegalArgumentException if a course has more candidates than a
+     *                                  session seats, or the courses cannot be
+     *                                  fitted into the available sessions
+     */
+    public ExamTimetable schedule(Collection<String> studentIds, EnrollmentService enrollmentService) {
+        if (studentIds == null || enrollmentService == null) {
+            throw new IllegalArgumentException("Students and enrollment service cannot be null");
+        }
+        Map<String, Integer> ordinals = new LinkedHashMap<>();
+        List<int[]> enrollments = new ArrayList<>(studentIds.size());
+        for (String studentId : studentIds) {
+            enrollments.add(enrollmentService.getEnrolledCourses(studentId).stream()
+                    .mapToInt(code -> ordinals.computeIfAbsent(code, c -> ordinals.size())).distinct().toArray());
+        }
+        int courses = ordinals.size();
+        String[] codes = ordinals.keySet().toArray(new String[0]);
+
+        // Conflict graph, one adjacency bitset per course
+        int words = (courses + 63) >>> 6;
+        long[][] adjacency = new long[courses][words];
+        int[] candidates = new int[courses];
+        for (int[] taken : enrollments) {
+            for (int a : taken) {
+                candidates[a]++;
+                for (int b : taken) {
+                    if (a != b) {
+                        adjacency[a][b >>> 6] |= 1L << b;
+                    }
+                }
+            }
+        }
+        int[] degree = new int[courses];
+        for (int c = 0; c < courses; c++) {
+            if (candidates[c] > seatsPerSession) {
+                throw new IllegalArgumentException(codes[c] + " has " + candidates[c]
+                        + " candidates, more than the " + seatsPerSession + " seats in a session");
+            }
+            for (long word : adjacency[c]) {
+                degree[c] += Long.bitCount(word);
+            }
+        }
+
+        int slots = days * sessions.size();
+        int slotWords = (slots + 63) >>> 6;
+        // blocked[c]: sessions already taken by c's neighbours; its popcount is c's saturation
+        long[][] blocked = new long[courses][slotWords];
+        int[] saturation = new int[courses];
+        int[] seatsLeft = new int[slots];
+        Arrays.fill(seatsLeft, seatsPerSession);
+        int[] slotOf = new int[courses];
+        Arrays.fill(slotOf, -1);
+        int slotsUsed = 0;
+
+        for (int step = 0; step < courses; step++) {
+            int next = -1;
+            for (int c = 0; c < courses; c++) {
+                if (slotOf[c] < 0 && (next < 0 || saturation[c] > saturation[next]
+                        || saturation[c] == saturation[next] && (degree[c] > degree[next]
+                        || degree[c] == degree[next] && candidates[c] > candidates[next]))) {
+                    next = c;
+                }
+            }
+            int slot = 0;
+            while (slot < slots && ((blocked[next][slot >>> 6] & 1L << slot) != 0 || seatsLeft[slot] < candidates[next])) {
+                slot++;
+            }
+            if (slot == slots) {
+                throw new IllegalArgumentException("Cannot fit " + courses + " exams into " + days + " days of "
+                        + sessions.size() + " sessions without a clash; stuck at " + codes[next]);
+            }
+            slotOf[next] = slot;
+            seatsLeft[slot] -= candidates[next];
+            slotsUsed = Math.max(slotsUsed, slot + 1);
+            long[] neighbours = adjacency[next];
+            for (int w = 0; w < words; w++) {
+                for (long bits = neighbours[w]; bits != 0; bits &= bits - 1) {
+                    int n = w << 6 | Long.numberOfTrailingZeros(bits);
+                    long bit = 1L << slot;
+                    if (slotOf[n] < 0 && (blocked[n][slot >>> 6] & bit) == 0) {
+                        blocked[n][slot >>> 6] |= bit;
+                        saturation[n]++;
+                    }
+                }
+            }
+        }
+
+        List<LocalDate> examDays = examDays();
+        Map<String, ExamSlot> table = new HashMap<>();
+        for (int c = 0; c < courses; c++) {
+            table.put(codes[c], new ExamSlot(examDays.get(slotOf[c] / sessions.size()),
+                    sessions.get(slotOf[c] % sessions.size())));
+        }
+        return new ExamTimetable(table, slotsUsed);
+    }
+
+    private List<LocalDate> examDays() {
+        List<LocalDate> examDays = new ArrayList<>(days);
+        for (LocalDate day = firstDay; examDays.size() < days; day = day.plusDays(1)) {
+            if (day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                examDays.add(day);
+            }
+        }
+        return examDays;
+    }
+
+    // Example main: 50k students over 2k courses in 40 programs of four year cohorts each
+    public static void main(String[] args) {
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int courseCount = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        int examDays = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        int cohorts = 160;
+        int perCohort = courseCount / cohorts;
+
+        // Students take four courses of their own cohort, plus one elective from anywhere
+        Map<String, List<String>> enrollments = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < students; i++) {
+            int cohort = i % cohorts;
+            Set<String> courses = new LinkedHashSet<>();
+            while (courses.size() < 4) {
+                courses.add("C" + (cohort * perCohort + random.nextInt(perCohort)));
+            }
+            courses.add("C" + random.nextInt(courseCount));
+            enrollments.put(String.format("S%05d", i), new ArrayList<>(courses));
+        }
+
+        ExamScheduler scheduler = new ExamScheduler(LocalDate.of(2025, 5, 19), examDays,
+                List.of(LocalTime.of(9, 0), LocalTime.of(13, 0), LocalTime.of(16, 30)), 12_000);
+        long start = System.nanoTime();
+        ExamTimetable timetable = scheduler.schedule(enrollments.keySet(),
+                new EnrollmentService(new MapEnrollmentRepository(enrollments)));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Every student's exams checked pairwise
+        for (List<String> courses : enrollments.values()) {
+            for (int a = 0; a < courses.size(); a++) {
+                for (int b = a + 1; b < courses.size(); b++) {
+                    if (timetable.slotOf(courses.get(a)).equals(timetable.slotOf(courses.get(b)))) {
+                        throw new IllegalStateException("Exam clash: " + courses.get(a) + ", " + courses.get(b));
+                    }
+                }
+            }
+        }
+        System.out.printf("%,d students, %,d exams: %d sessions used, scheduled in %,d ms%n",
+                students, timetable.size(), timetable.slotsUsed(), elapsed.toMillis());
+        System.out.println("C0: " + timetable.getExamDate("C0") + " " + timetable.getExamTime("C0"));
+    }
+}
+
+/**
+ * One exam session.
+ */
+record ExamSlot(LocalDate date, LocalTime time) {
+    static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("hh:mm a", Locale.ENGLISH);
+
+    /**
+     * Like "2025-05-20 09:00 AM".
+     */
+    String describe() {
+        return date + " " + time.format(TIME_FORMAT);
+    }
+}
+
+/**
+ * A generated exam schedule; immutable, so it can be shared by every view
+ * without locking.
+ */
+final class ExamTimetable implements ExamScheduleProvider {
+    static final String NOT_SCHEDULED = "TBA";
+
+    private final Map<String, ExamSlot> slots;
+    private final int slotsUsed;
+
+    ExamTimetable(Map<String, ExamSlot> slots, int slotsUsed) {
+        this.slots = Map.copyOf(slots);
+        this.slotsUsed = slotsUsed;
+    }
+
+    @Override
+    public String getExamDate(String courseCode) {
+        ExamSlot slot = slotOf(courseCode);
+        return slot == null ? NOT_SCHEDULED : slot.date().toString();
+    }
+
+    @Override
+    public String getExamTime(String courseCode) {
+        ExamSlot slot = slotOf(courseCode);
+        return slot == null ? NOT_SCHEDULED : slot.time().format(ExamSlot.TIME_FORMAT);
+    }
+
+    ExamSlot slotOf(String courseCode) {
+        if (courseCode == null || courseCode.isBlank()) {
+            throw new IllegalArgumentException("Course code cannot be null or empty");
+        }
+        return slots.get(courseCode);
+    }
+
+    int size() {
+        return slots.size();
+    }
+
+    Set<String> courseCodes() {
+        return slots.keySet();
+    }
+
+    /**
+     * Sessions from the first up to the last one holding an exam.
+     */
+    int slotsUsed() {
+        return slotsUsed;
+    }
+
+    /**
+     * The schedule in the course code to exam list form the console menu uses.
+     */
+    Map<String, List<String>> asScheduleMap() {
+        Map<String, List<String>> schedule = new HashMap<>();
+        slots.forEach((code, slot) -> schedule.put(code, List.of(slot.describe())));
+        return schedule;
+    }
+}
@@ -0,0 +1,79 @@
+package com.mycompany.ums;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test for exam scheduling: no student has two exams in one session,
+ * session seats are respected, weekends are skipped, the provider formats
+ * dates and times, and impossible schedules are rejected.
+ */
+public class ExamSchedulerTest {
+    private static final List<LocalTime> SESSIONS = List.of(LocalTime.of(9, 0), LocalTime.of(14, 0));
+
+    public static void main(String[] args) {
+        // A chain of pairwise conflicts plus two courses nobody shares
+        Map<String, List<String>> enrollments = new HashMap<>();
+        enrollments.put("S1", List.of("CS101", "CS201", "CS301"));
+        enrollments.put("S2", List.of("CS301", "CS401"));
+        enrollments.put("S3", List.of("CS501"));
+        enrollments.put("S4", List.of("CS601"));
+        EnrollmentService service = new EnrollmentService(new MapEnrollmentRepository(enrollments));
+
+        // 2025-05-23 is a Friday, so the third day is the Monday after
+        ExamScheduler scheduler = new ExamScheduler(LocalDate.of(2025, 5, 23), 3, SESSIONS, 2);
+        ExamTimetable timetable = scheduler.schedule(enrollments.keySet(), service);
+        check(timetable.size() == 6, "Every course should have an exam");
+        enrollments.values().forEach(courses -> {
+            for (int a = 0; a < courses.size(); a++) {
+                for (int b = a + 1; b < courses.size(); b++) {
+                    check(!timetable.slotOf(courses.get(a)).equals(timetable.slotOf(courses.get(b))),
+                            "Clash between " + courses.get(a) + " and " + courses.get(b));
+                }
+            }
+        });
+
+        // Two seats per session: at most two single-candidate exams share one
+        Map<ExamSlot, Integer> seated = new HashMap<>();
+        enrollments.values().forEach(courses -> courses.forEach(code -> seated.merge(timetable.slotOf(code), 1, Integer::sum)));
+        seated.forEach((slot, candidates) -> check(candidates <= 2, "Session over capacity: " + slot));
+        check(timetable.slotsUsed() <= 6, "Schedule should fit in the available sessions");
+        timetable.asScheduleMap().keySet().forEach(code -> check(
+                !timetable.getExamDate(code).equals("2025-05-24") && !timetable.getExamDate(code).equals("2025-05-25"),
+                "No exams on the weekend"));
+
+        check(timetable.getExamTime("CS101").matches("(09:00|02:00) (AM|PM)"),
+                "Time should be formatted like 09:00 AM: " + timetable.getExamTime("CS101"));
+        check(timetable.getExamDate("MATH999").equals(ExamTimetable.NOT_SCHEDULED), "Unknown course should be TBA");
+
+        // Three mutually conflicting courses cannot fit into two sessions
+        Map<String, List<String>> triangle = Map.of("S1", List.of("A", "B", "C"));
+        expectRejected(() -> new ExamScheduler(LocalDate.of(2025, 5, 20), 1, SESSIONS, 100)
+                .schedule(triangle.keySet(), new EnrollmentService(new MapEnrollmentRepository(triangle))),
+                "Too few sessions should be rejected");
+        // Nor can a course with more candidates than a session seats
+        expectRejected(() -> new ExamScheduler(LocalDate.of(2025, 5, 20), 5, SESSIONS, 1)
+                .schedule(List.of("S1", "S2"), service), "Oversized exam should be rejected");
+        expectRejected(() -> timetable.getExamDate(" "), "Blank course code should be rejected");
+
+        System.out.println("Exam scheduler tests passed");
+    }
+
+    private static void expectRejected(Runnable action, String message) {
+        try {
+            action.run();
+        } catch (IllegalArgumentException expected) {
+            return;
+        }
+        throw new IllegalStateException(message);
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+}
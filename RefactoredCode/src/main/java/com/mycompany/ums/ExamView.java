@@ -19,4 +19,19 @@ public interface ExamView {
  * - LSP: ExamScheduleView ke jagah seamlessly use ho sakta hai.
  * - DIP: Client abstraction (ExamScheduleView) pe depend karta hai, concrete class pe nahi.
  */
-// 
\ No newline at end of file
+class ConsoleExamView implements ExamView {
+    private static final String ROW_FORMAT = "%-10s %-12s %-10s%n";
+
+    @Override
+    public void displayExamSchedule(List<String> courses, ExamScheduleProvider scheduleProvider) {
+        if (courses.isEmpty()) {
+            System.out.println("You are not enrolled in any courses.");
+            return;
+        }
+        System.out.println("Exam Schedule:");
+        System.out.printf(ROW_FORMAT, "Course", "Date", "Time");
+        for (String course : courses) {
+            System.out.printf(ROW_FORMAT, course, scheduleProvider.getExamDate(course), scheduleProvider.getExamTime(course));
+        }
+    }
+}
@@ -18,6 +18,9 @@ public class FYPModuleWithValidator {
         enrolledCourses.put(studentId, List.of("CS301", "CS302"));
         prerequisites.put(studentId, List.of("CS301", "CS302"));
 
+        Map<String, List<String>> academicHistory = new HashMap<>();
+        academicHistory.put(studentId, new ArrayList<>(List.of("CS301: A", "CS302: B+")));
+
         // Validate inputs first
         FYPValidator.validate(studentId, completedCredits, fypStatus, enrolledCourses, prerequisites, scanner);
 
@@ -25,7 +28,7 @@ public class FYPModuleWithValidator {
         List<EligibilityRule> rules = List.of(
             new SufficientCreditsRule(),
             new NotAlreadyRegisteredRule(),
-            new CompletedPrerequisitesRule()
+            new CompletedPrerequisitesRule(new AcademicHistoryIndex(academicHistory))
         );
 
         FYPInput input = new ConsoleFYPInput(scanner);
@@ -182,13 +185,31 @@ interface EligibilityRule {
 class SufficientCreditsRule implements EligibilityRule {
     private static final int REQUIRED_CREDITS = 130;
 
+    private final CreditStore credits;
+
+    // Reads the completedCredits map passed to each check
+    public SufficientCreditsRule() {
+        this.credits = null;
+    }
+
+    // Reads a shared store, such as the columnar one, instead of the map argument
+    public SufficientCreditsRule(CreditStore credits) {
+        if (credits == null) {
+            throw new IllegalArgumentException("Credit store cannot be null");
+        }
+        this.credits = credits;
+    }
+
     @Override
     public boolean isEligible(String studentId,
                               Map<String, Integer> completedCredits,
                               Map<String, Boolean> fypStatus,
                               Map<String, List<String>> enrolledCourses,
                               Map<String, List<String>> prerequisites) {
-        boolean result = completedCredits.getOrDefault(studentId, 0) >= REQUIRED_CREDITS;
+        int completed = credits != null
+                ? credits.getCredits(studentId, 0)
+                : completedCredits.getOrDefault(studentId, 0);
+        boolean result = completed >= REQUIRED_CREDITS;
         if (!result) {
             System.out.println("❌ You must have at least 130 credits to register for FYP.");
         }
@@ -212,6 +233,15 @@ class NotAlreadyRegisteredRule implements EligibilityRule {
 }
 
 class CompletedPrerequisitesRule implements EligibilityRule {
+    private final AcademicHistoryIndex history;
+
+    public CompletedPrerequisitesRule(AcademicHistoryIndex history) {
+        if (history == null) {
+            throw new IllegalArgumentException("History index cannot be null");
+        }
+        this.history = history;
+    }
+
     @Override
     public boolean isEligible(String studentId,
                               Map<String, Integer> completedCredits,
@@ -219,8 +249,7 @@ class CompletedPrerequisitesRule implements EligibilityRule {
                               Map<String, List<String>> enrolledCourses,
                               Map<String, List<String>> prerequisites) {
         List<String> required = prerequisites.getOrDefault(studentId, List.of());
-        List<String> enrolled = enrolledCourses.getOrDefault(studentId, List.of());
-        boolean result = enrolled.containsAll(required);
+        boolean result = history.hasCompletedAll(studentId, required);
         if (!result) {
             System.out.println("❌ You must complete all prerequisite courses to register for FYP.");
         }
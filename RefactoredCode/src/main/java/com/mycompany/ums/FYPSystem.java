@@ -17,10 +17,13 @@ public class FYPSystem {
         enrolledCourses.put(studentId, List.of("CS301", "CS302"));
         prerequisites.put(studentId, List.of("CS301", "CS302"));
 
+        Map<String, List<String>> academicHistory = new HashMap<>();
+        academicHistory.put(studentId, new ArrayList<>(List.of("CS301: A", "CS302: B+")));
+
         List<EligibilityRule> rules = List.of(
             new SufficientCreditsRule(),
             new NotAlreadyRegisteredRule(),
-            new CompletedPrerequisitesRule()
+            new CompletedPrerequisitesRule(new AcademicHistoryIndex(academicHistory))
         );
 
         FYPManager manager = new FYPManager(new ConsoleInputHandler(scanner), rules, new FYPRegistrar());
@@ -124,13 +127,31 @@ interface EligibilityRule {
 class SufficientCreditsRule implements EligibilityRule {
     private static final int REQUIRED_CREDITS = 130;
 
+    private final CreditStore credits;
+
+    // Reads the completedCredits map passed to each check
+    public SufficientCreditsRule() {
+        this.credits = null;
+    }
+
+    // Reads a shared store, such as the columnar one, instead of the map argument
+    public SufficientCreditsRule(CreditStore credits) {
+        if (credits == null) {
+            throw new IllegalArgumentException("Credit store cannot be null");
+        }
+        this.credits = credits;
+    }
+
     @Override
     public boolean isEligible(String studentId,
                               Map<String, Integer> completedCredits,
                               Map<String, Boolean> fypStatus,
                               Map<String, List<String>> enrolledCourses,
                               Map<String, List<String>> prerequisites) {
-        boolean eligible = completedCredits.getOrDefault(studentId, 0) >= REQUIRED_CREDITS;
+        int completed = credits != null
+                ? credits.getCredits(studentId, 0)
+                : completedCredits.getOrDefault(studentId, 0);
+        boolean eligible = completed >= REQUIRED_CREDITS;
         if (!eligible) System.out.println("Insufficient credits for FYP.");
         return eligible;
     }
@@ -152,6 +173,15 @@ class NotAlreadyRegisteredRule implements EligibilityRule {
 
 // Rule: Student must have completed prerequisites
 class CompletedPrerequisitesRule implements EligibilityRule {
+    private final AcademicHistoryIndex history;
+
+    public CompletedPrerequisitesRule(AcademicHistoryIndex history) {
+        if (history == null) {
+            throw new IllegalArgumentException("History index cannot be null");
+        }
+        this.history = history;
+    }
+
     @Override
     public boolean isEligible(String studentId,
                               Map<String, Integer> completedCredits,
@@ -159,8 +189,7 @@ class CompletedPrerequisitesRule implements EligibilityRule {
                               Map<String, List<String>> enrolledCourses,
                               Map<String, List<String>> prerequisites) {
         List<String> required = prerequisites.getOrDefault(studentId, List.of());
-        List<String> enrolled = enrolledCourses.getOrDefault(studentId, List.of());
-        boolean eligible = enrolled.containsAll(required);
+        boolean eligible = history.hasCompletedAll(studentId, required);
         if (!eligible) System.out.println("You must complete all FYP prerequisites.");
         return eligible;
     }
@@ -21,17 +21,27 @@ public final class FeedbackValidator {
      */
     public interface Validator<T> {
         void validate(T input) throws IllegalArgumentException;
+
+        default ValidationResult check(T input) {
+            return ValidationResult.capture(() -> validate(input));
+        }
     }
 
     /**
      * Validator for student ID Strings.
      */
     public static class StudentIdValidator implements Validator<String> {
+        private static final ValidationResult MISSING_ID =
+                ValidationResult.failure(CommonErrorCode.MISSING, "Student ID cannot be null or empty");
+
         @Override
         public void validate(String studentId) {
-            if (studentId == null || studentId.isBlank()) {
-                throw new IllegalArgumentException("Student ID cannot be null or empty");
-            }
+            check(studentId).orThrow();
+        }
+
+        @Override
+        public ValidationResult check(String studentId) {
+            return studentId == null || studentId.isBlank() ? MISSING_ID : ValidationResult.valid();
         }
     }
 
@@ -39,11 +49,17 @@ public final class FeedbackValidator {
      * Validator for generic storage objects (e.g., feedback map).
      */
     public static class StorageValidator implements Validator<Object> {
+        private static final ValidationResult MISSING_STORAGE =
+                ValidationResult.failure(CommonErrorCode.MISSING, "Feedback storage cannot be null");
+
         @Override
         public void validate(Object storage) {
-            if (storage == null) {
-                throw new IllegalArgumentException("Feedback storage cannot be null");
-            }
+            check(storage).orThrow();
+        }
+
+        @Override
+        public ValidationResult check(Object storage) {
+            return storage == null ? MISSING_STORAGE : ValidationResult.valid();
         }
     }
 
@@ -51,11 +67,17 @@ public final class FeedbackValidator {
      * Validator for Scanner object.
      */
     public static class ScannerValidator implements Validator<Scanner> {
+        private static final ValidationResult MISSING_SCANNER =
+                ValidationResult.failure(CommonErrorCode.MISSING, "Scanner cannot be null");
+
         @Override
         public void validate(Scanner scanner) {
-            if (scanner == null) {
-                throw new IllegalArgumentException("Scanner cannot be null");
-            }
+            check(scanner).orThrow();
+        }
+
+        @Override
+        public ValidationResult check(Scanner scanner) {
+            return scanner == null ? MISSING_SCANNER : ValidationResult.valid();
         }
     }
 
@@ -71,4 +93,9 @@ public final class FeedbackValidator {
     public static void validateScanner(Scanner scanner) {
         new ScannerValidator().validate(scanner);
     }
+
+    // Result-mode counterpart of validateStudentId, for bulk callers
+    public static ValidationResult checkStudentId(String studentId) {
+        return new StudentIdValidator().check(studentId);
+    }
 }
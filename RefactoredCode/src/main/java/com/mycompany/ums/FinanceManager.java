@@ -1,6 +1,8 @@
 package com.mycompany.ums;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Manages student fee status and amount using an extensible policy-based design.
@@ -14,6 +16,7 @@ import java.util.Map;
  */
 public class FinanceManager {
     private final FeePolicy feePolicy;
+    private final List<PaymentListener> paymentListeners = new CopyOnWriteArrayList<>();
 
     // Default constructor with default policy
     public FinanceManager() {
@@ -59,9 +62,24 @@ public class FinanceManager {
         if (feeStatus == null) {
             throw new IllegalArgumentException("Fee status map cannot be null");
         }
-        if (feePolicy.isFullPayment(amount)) {
+        boolean paidInFull = feePolicy.isFullPayment(amount);
+        if (paidInFull) {
             feeStatus.put(studentId, true);
         }
+        for (PaymentListener listener : paymentListeners) {
+            listener.onPaymentRecorded(studentId, paidInFull);
+        }
+    }
+
+    /**
+     * Registers a listener told about every recorded payment, e.g. to
+     * invalidate a cached Finance clearance decision.
+     */
+    public void addPaymentListener(PaymentListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        paymentListeners.add(listener);
     }
 
     /**
@@ -73,6 +91,13 @@ public class FinanceManager {
         return feePolicy.getFullFeeAmount();
     }
 
+    /**
+     * Notified after updatePaymentStatus records a payment, full or partial.
+     */
+    public interface PaymentListener {
+        void onPaymentRecorded(String studentId, boolean paidInFull);
+    }
+
     /**
      * FeePolicy abstraction to apply OCP and DIP.
      */
@@ -5,6 +5,10 @@ package com.mycompany.ums;
  */
 interface Validator<T> {
     void validate(T value) throws IllegalArgumentException;
+
+    default ValidationResult check(T value) {
+        return ValidationResult.capture(() -> validate(value));
+    }
 }
 
 /**
@@ -18,14 +22,25 @@ interface GPAValidationRule extends Validator<Double> {}
  * Follows Liskov Substitution Principle as it can be substituted by any other GPAValidationRule.
  */
 class NonNegativeGPARule implements GPAValidationRule {
+    private static final ValidationResult GPA_MISSING =
+            ValidationResult.failure(CommonErrorCode.MISSING, "GPA cannot be null");
+    private static final ValidationResult GPA_NEGATIVE =
+            ValidationResult.failure(CommonErrorCode.NEGATIVE, "GPA cannot be negative");
+
     @Override
     public void validate(Double gpa) {
+        check(gpa).orThrow();
+    }
+
+    @Override
+    public ValidationResult check(Double gpa) {
         if (gpa == null) {
-            throw new IllegalArgumentException("GPA cannot be null");
+            return GPA_MISSING;
         }
         if (gpa < 0) {
-            throw new IllegalArgumentException("GPA cannot be negative");
+            return GPA_NEGATIVE;
         }
+        return ValidationResult.valid();
     }
 }
 
@@ -44,6 +59,13 @@ public class GPAValidator {
         rule.validate(gpa);
     }
 
+    /**
+     * Opt-in result mode: the rule's failure, without an exception.
+     */
+    public ValidationResult check(double gpa) {
+        return rule.check(gpa);
+    }
+
     public static void main(String[] args) {
         // Dependency injection of validation rule
         GPAValidator validator = new GPAValidator(new NonNegativeGPARule());
@@ -51,6 +73,9 @@ public class GPAValidator {
         // Valid input
         validator.validate(3.5);
 
+        // Result mode reports the failure without throwing
+        System.out.println(validator.check(-1.0));
+
         // Uncomment to test invalid input - will throw exception
         // validator.validate(-1.0);
     }
@@ -0,0 +1,246 @@
+package com.mycompany.ums;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Compiled GPA-band lookup, replacing a walk over threshold rules on every
+ * lookup. Bands are kept as a sorted array of lower bounds searched with
+ * binary search. When every boundary inside [0.0, 4.0] falls on the 0.01 grid,
+ * which is the case for all rule sets in this system, the table also keeps a
+ * direct-indexed band per grid cell, so in-range lookups are O(1).
+ *
+ * Tables are built either from explicit half-open bands via {@link Builder},
+ * or by compiling opaque rules such as CreditRule, which are probed on a 0.01
+ * GPA grid over [0.0, 4.0]. Both paths reject overlapping or gapped bands when
+ * the table is built, so a bad rule set fails at startup rather than on the
+ * first student who falls into the hole.
+ *
+ * Tables are immutable and safe to share between threads.
+ */
+public final class GpaBandTable<V> {
+    public static final double MIN_GPA = 0.0;
+    public static final double MAX_GPA = 4.0;
+    /** Grid steps per grade point used when compiling opaque rules. */
+    public static final int STEPS_PER_POINT = 100;
+
+    private final double[] lowerBounds;
+    private final Object[] values;
+    private final double upperBound;
+    private final double[] gridPoints;
+    private final int[] gridBands;
+
+    private GpaBandTable(double[] lowerBounds, Object[] values, double upperBound) {
+        this.lowerBounds = lowerBounds;
+        this.values = values;
+        this.upperBound = upperBound;
+        int steps = (int) Math.round((MAX_GPA - MIN_GPA) * STEPS_PER_POINT);
+        if (isGridAligned(lowerBounds) && covers(MIN_GPA) && covers(MAX_GPA)) {
+            this.gridPoints = new double[steps + 1];
+            this.gridBands = new int[steps + 1];
+            for (int step = 0; step <= steps; step++) {
+                gridPoints[step] = gridPoint(step);
+                gridBands[step] = search(gridPoints[step]);
+            }
+        } else {
+            this.gridPoints = null;
+            this.gridBands = null;
+        }
+    }
+
+    /**
+     * Compiles rules that each claim a GPA range through a predicate.
+     * Every grid point in [MIN_GPA, MAX_GPA] must be claimed by exactly one
+     * rule, and a rule's answer may only change on a grid point.
+     *
+     * @throws IllegalArgumentException on overlapping, gapped or misaligned rules
+     */
+    public static <R, V> GpaBandTable<V> compile(List<? extends R> rules,
+                                                 RulePredicate<? super R> applies,
+                                                 Function<? super R, ? extends V> value) {
+        if (rules == null || rules.isEmpty()) {
+            throw new IllegalArgumentException("Rules cannot be null or empty");
+        }
+        Objects.requireNonNull(applies, "Rule predicate cannot be null");
+        Objects.requireNonNull(value, "Rule value cannot be null");
+
+        int steps = (int) Math.round((MAX_GPA - MIN_GPA) * STEPS_PER_POINT);
+        List<Double> lowers = new ArrayList<>();
+        List<Object> bandValues = new ArrayList<>();
+        int previous = -1;
+        for (int step = 0; step <= steps; step++) {
+            double gpa = gridPoint(step);
+            int rule = matchingRule(rules, applies, gpa);
+            // Probe the far end of the cell too, so a threshold between grid points is caught
+            if (step < steps && matchingRule(rules, applies, Math.nextDown(gridPoint(step + 1))) != rule) {
+                throw new IllegalArgumentException(String.format(
+                        "Rule threshold between %.2f and %.2f is not aligned to the %.2f grid",
+                        gpa, gridPoint(step + 1), 1.0 / STEPS_PER_POINT));
+            }
+            if (rule != previous) {
+                lowers.add(gpa);
+                bandValues.add(Objects.requireNonNull(value.apply(rules.get(rule)), "Rule value cannot be null"));
+                previous = rule;
+            }
+        }
+        return new GpaBandTable<>(toArray(lowers), bandValues.toArray(), Math.nextUp(MAX_GPA));
+    }
+
+    /**
+     * Value of the band containing the GPA.
+     *
+     * @throws IllegalArgumentException if the GPA is NaN or outside the table
+     */
+    @SuppressWarnings("unchecked")
+    public V lookup(double gpa) {
+        if (!covers(gpa)) {
+            throw new IllegalArgumentException("Invalid GPA: " + gpa);
+        }
+        if (gridBands != null && gpa >= MIN_GPA && gpa <= MAX_GPA) {
+            int cell = (int) ((gpa - MIN_GPA) * STEPS_PER_POINT);
+            // The product can round across a grid point by one cell either way
+            if (cell + 1 < gridPoints.length && gridPoints[cell + 1] <= gpa) {
+                cell++;
+            } else if (gridPoints[cell] > gpa) {
+                cell--;
+            }
+            return (V) values[gridBands[cell]];
+        }
+        return (V) values[search(gpa)];
+    }
+
+    private int search(double gpa) {
+        int low = 0;
+        int high = lowerBounds.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (lowerBounds[mid] <= gpa) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    public boolean covers(double gpa) {
+        return gpa >= lowerBounds[0] && gpa < upperBound;
+    }
+
+    public int bandCount() {
+        return lowerBounds.length;
+    }
+
+    public boolean isDirectIndexed() {
+        return gridBands != null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("GpaBandTable[");
+        for (int i = 0; i < lowerBounds.length; i++) {
+            double upper = i + 1 < lowerBounds.length ? lowerBounds[i + 1] : upperBound;
+            sb.append(i == 0 ? "" : ", ")
+              .append('[').append(lowerBounds[i]).append(", ").append(upper).append(") -> ").append(values[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    private static boolean isGridAligned(double[] lowerBounds) {
+        for (double lower : lowerBounds) {
+            if (lower > MIN_GPA && lower <= MAX_GPA
+                    && lower != gridPoint((int) Math.round((lower - MIN_GPA) * STEPS_PER_POINT))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static double gridPoint(int step) {
+        return MIN_GPA + (double) step / STEPS_PER_POINT;
+    }
+
+    private static <R> int matchingRule(List<? extends R> rules, RulePredicate<? super R> applies, double gpa) {
+        int match = -1;
+        for (int i = 0; i < rules.size(); i++) {
+            if (applies.applies(rules.get(i), gpa)) {
+                if (match >= 0) {
+                    throw new IllegalArgumentException(String.format(
+                            "Rules %d and %d overlap at GPA %.2f", match, i, gpa));
+                }
+                match = i;
+            }
+        }
+        if (match < 0) {
+            throw new IllegalArgumentException(String.format("No rule covers GPA %.2f", gpa));
+        }
+        return match;
+    }
+
+    private static double[] toArray(List<Double> list) {
+        double[] array = new double[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * Adapts a rule type's GPA test without boxing, e.g. {@code CreditRule::applies}.
+     */
+    @FunctionalInterface
+    public interface RulePredicate<R> {
+        boolean applies(R rule, double gpa);
+    }
+
+    /**
+     * Collects explicit half-open bands [lower, upper). The bands must tile a
+     * single contiguous range; use Double.POSITIVE_INFINITY for an open top band.
+     */
+    public static final class Builder<V> {
+        private final List<Band<V>> bands = new ArrayList<>();
+
+        public Builder<V> band(double lower, double upper, V value) {
+            if (Double.isNaN(lower) || Double.isNaN(upper) || lower >= upper) {
+                throw new IllegalArgumentException("Band bounds must satisfy lower < upper: " + lower + ", " + upper);
+            }
+            bands.add(new Band<>(lower, upper, Objects.requireNonNull(value, "Band value cannot be null")));
+            return this;
+        }
+
+        /**
+         * @throws IllegalArgumentException if bands overlap or leave a gap
+         */
+        public GpaBandTable<V> build() {
+            if (bands.isEmpty()) {
+                throw new IllegalArgumentException("At least one band is required");
+            }
+            List<Band<V>> sorted = new ArrayList<>(bands);
+            sorted.sort(Comparator.comparingDouble(Band::lower));
+            double[] lowers = new double[sorted.size()];
+            Object[] values = new Object[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                Band<V> band = sorted.get(i);
+                if (i > 0) {
+                    double previousUpper = sorted.get(i - 1).upper();
+                    if (band.lower() < previousUpper) {
+                        throw new IllegalArgumentException("Bands overlap at GPA " + band.lower());
+                    }
+                    if (band.lower() > previousUpper) {
+                        throw new IllegalArgumentException(
+                                "Gap between GPA " + previousUpper + " and " + band.lower());
+                    }
+                }
+                lowers[i] = band.lower();
+                values[i] = band.value();
+            }
+            return new GpaBandTable<>(lowers, values, sorted.get(sorted.size() - 1).upper());
+        }
+
+        private record Band<V>(double lower, double upper, V value) {
+        }
+    }
+}
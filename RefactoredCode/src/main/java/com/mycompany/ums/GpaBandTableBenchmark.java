@@ -0,0 +1,96 @@
+package com.mycompany.ums;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.DoubleToIntFunction;
+
+/**
+ * Micro-benchmark comparing rule walks with compiled GpaBandTable lookups:
+ * the three CreditDecisionMaker rules, the ScholarshipCalculator tiers, and a
+ * 40-band rule set to show how both approaches scale with the number of rules.
+ * Every GPA is first checked to give the same answer both ways.
+ */
+public class GpaBandTableBenchmark {
+    private static final int STUDENTS = 1_000_000;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 30;
+    private static final int WIDE_BANDS = 40;
+
+    private static volatile int sink;
+
+    public static void main(String[] args) {
+        double[] gpas = new double[STUDENTS];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < STUDENTS; i++) {
+            gpas[i] = Math.round(random.nextDouble(0.0, 4.0) * 100) / 100.0;
+        }
+
+        CreditDecisionMaker credits = new CreditDecisionMaker(
+                List.of(new LowGpaRule(), new MidGpaRule(), new HighGpaRule()));
+        ScholarshipCalculator scholarships = new ScholarshipCalculator();
+        List<CreditRule> wideRules = wideRules();
+        CreditDecisionMaker wide = new CreditDecisionMaker(wideRules);
+
+        verify(gpas, "credit rules", credits::walkRules, credits::getMaxCredits);
+        verify(gpas, "scholarship tiers",
+                gpa -> ScholarshipCalculator.walkTiers(gpa).length(),
+                gpa -> scholarships.determineScholarshipMessage(gpa).length());
+        verify(gpas, "wide rules", wide::walkRules, wide::getMaxCredits);
+
+        run("credit rule walk", gpas, credits::walkRules);
+        run("credit table", gpas, credits::getMaxCredits);
+        run("tier walk", gpas, gpa -> ScholarshipCalculator.walkTiers(gpa).length());
+        run("tier table", gpas, gpa -> scholarships.determineScholarshipMessage(gpa).length());
+        run(WIDE_BANDS + "-rule walk", gpas, wide::walkRules);
+        run(WIDE_BANDS + "-rule table", gpas, wide::getMaxCredits);
+    }
+
+    // Bands of 0.1 GPA each, the last one open-ended
+    private static List<CreditRule> wideRules() {
+        List<CreditRule> rules = new ArrayList<>();
+        for (int i = 0; i < WIDE_BANDS; i++) {
+            int band = i;
+            double lower = band / 10.0;
+            double upper = (band + 1) / 10.0;
+            rules.add(new CreditRule() {
+                public boolean applies(double gpa) {
+                    return (band == 0 || gpa >= lower) && (band == WIDE_BANDS - 1 || gpa < upper);
+                }
+                public int credits() {
+                    return 9 + band % 10;
+                }
+            });
+        }
+        return rules;
+    }
+
+    private static void verify(double[] gpas, String label,
+                               DoubleToIntFunction expected, DoubleToIntFunction actual) {
+        for (double gpa : gpas) {
+            if (expected.applyAsInt(gpa) != actual.applyAsInt(gpa)) {
+                throw new IllegalStateException(label + " disagree at GPA " + gpa);
+            }
+        }
+    }
+
+    private static void run(String label, double[] gpas, DoubleToIntFunction lookup) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            lookupAll(gpas, lookup);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            lookupAll(gpas, lookup);
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-16s %8.2f ns/lookup%n", label, elapsed / ((double) STUDENTS * MEASURED_ROUNDS));
+    }
+
+    private static void lookupAll(double[] gpas, DoubleToIntFunction lookup) {
+        int total = 0;
+        for (double gpa : gpas) {
+            total += lookup.applyAsInt(gpa);
+        }
+        sink = total;
+    }
+}
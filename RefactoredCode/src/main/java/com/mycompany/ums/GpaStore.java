@@ -0,0 +1,269 @@
+package com.mycompany.ums;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * Per-student GPA storage read by scholarship and credit decisions.
+ *
+ * DIP: readers depend on this interface, so the same code runs against a
+ * legacy {@code Map<String, Double>} or against the primitive columnar store.
+ */
+public interface GpaStore {
+    /**
+     * GPA of the student, or {@code defaultGpa} if none is recorded.
+     */
+    double getGpa(String studentId, double defaultGpa);
+
+    void setGpa(String studentId, double gpa);
+
+    void remove(String studentId);
+
+    /**
+     * Visits every recorded GPA; iteration order is unspecified.
+     */
+    void forEach(ObjDoubleConsumer<String> action);
+
+    int size();
+
+    /**
+     * Map view for callers that still take {@code Map<String, Double>}.
+     * Values are boxed on access only, never at rest.
+     */
+    default Map<String, Double> asMap() {
+        return new GpaStoreMap(this);
+    }
+
+    /**
+     * Adapts a legacy map; reads and writes go straight to it.
+     */
+    static GpaStore of(Map<String, Double> studentGPAs) {
+        return new MapGpaStore(studentGPAs);
+    }
+}
+
+/**
+ * GPAs in a double[] indexed by student ordinal, NaN meaning "no GPA".
+ * One million students cost 8 MB of values plus the shared dictionary,
+ * instead of a boxed Double and a map entry each.
+ *
+ * Writes are serialized; reads are lock-free. The array grows copy-on-write
+ * and slots are written with release semantics, so readers never see a torn
+ * or unpublished value.
+ */
+class ColumnarGpaStore implements GpaStore {
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(double[].class);
+
+    private final StudentOrdinals ordinals;
+    private volatile double[] values = new double[0];
+    private volatile int size;
+
+    ColumnarGpaStore(StudentOrdinals ordinals) {
+        if (ordinals == null) {
+            throw new IllegalArgumentException("Student ordinals cannot be null");
+        }
+        this.ordinals = ordinals;
+    }
+
+    @Override
+    public double getGpa(String studentId, double defaultGpa) {
+        int ordinal = ordinals.ordinalOf(studentId);
+        double[] current = values;
+        if (ordinal < 0 || ordinal >= current.length) {
+            return defaultGpa;
+        }
+        double gpa = (double) VALUES.getAcquire(current, ordinal);
+        return Double.isNaN(gpa) ? defaultGpa : gpa;
+    }
+
+    @Override
+    public synchronized void setGpa(String studentId, double gpa) {
+        if (Double.isNaN(gpa)) {
+            throw new IllegalArgumentException("GPA must be a number");
+        }
+        int ordinal = ordinals.intern(studentId);
+        double[] current = values;
+        if (ordinal >= current.length) {
+            int oldLength = current.length;
+            current = Arrays.copyOf(current, Math.max(ordinal + 1, Math.max(16, oldLength * 2)));
+            Arrays.fill(current, oldLength, current.length, Double.NaN);
+            values = current;
+        }
+        if (Double.isNaN(current[ordinal])) {
+            size++;
+        }
+        VALUES.setRelease(current, ordinal, gpa);
+    }
+
+    @Override
+    public synchronized void remove(String studentId) {
+        int ordinal = ordinals.ordinalOf(studentId);
+        double[] current = values;
+        if (ordinal >= 0 && ordinal < current.length && !Double.isNaN(current[ordinal])) {
+            VALUES.setRelease(current, ordinal, Double.NaN);
+            size--;
+        }
+    }
+
+    @Override
+    public void forEach(ObjDoubleConsumer<String> action) {
+        double[] current = values;
+        int limit = Math.min(current.length, ordinals.size());
+        for (int ordinal = 0; ordinal < limit; ordinal++) {
+            double gpa = (double) VALUES.getAcquire(current, ordinal);
+            if (!Double.isNaN(gpa)) {
+                action.accept(ordinals.idOf(ordinal), gpa);
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
+
+/**
+ * Legacy map behind the GpaStore interface.
+ */
+class MapGpaStore implements GpaStore {
+    private final Map<String, Double> studentGPAs;
+
+    MapGpaStore(Map<String, Double> studentGPAs) {
+        if (studentGPAs == null) {
+            throw new IllegalArgumentException("Student GPAs map cannot be null");
+        }
+        this.studentGPAs = studentGPAs;
+    }
+
+    @Override
+    public double getGpa(String studentId, double defaultGpa) {
+        Double gpa = studentGPAs.get(studentId);
+        return gpa == null ? defaultGpa : gpa;
+    }
+
+    @Override
+    public void setGpa(String studentId, double gpa) {
+        studentGPAs.put(studentId, gpa);
+    }
+
+    @Override
+    public void remove(String studentId) {
+        studentGPAs.remove(studentId);
+    }
+
+    @Override
+    public void forEach(ObjDoubleConsumer<String> action) {
+        studentGPAs.forEach(action::accept);
+    }
+
+    @Override
+    public int size() {
+        return studentGPAs.size();
+    }
+
+    @Override
+    public Map<String, Double> asMap() {
+        return studentGPAs;
+    }
+}
+
+/**
+ * Map view over any GpaStore. get/put/remove are O(1) on the columnar
+ * store; iteration snapshots the entries first.
+ */
+class GpaStoreMap extends AbstractMap<String, Double> {
+    private final GpaStore store;
+
+    GpaStoreMap(GpaStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Double get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        double gpa = store.getGpa((String) key, Double.NaN);
+        return Double.isNaN(gpa) ? null : gpa;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Double put(String key, Double value) {
+        if (value == null) {
+            throw new IllegalArgumentException("GPA cannot be null");
+        }
+        Double previous = get(key);
+        store.setGpa(key, value);
+        return previous;
+    }
+
+    @Override
+    public Double remove(Object key) {
+        Double previous = get(key);
+        if (previous != null) {
+            store.remove((String) key);
+        }
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return store.size();
+    }
+
+    @Override
+    public Set<Entry<String, Double>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Double>> iterator() {
+                List<Entry<String, Double>> entries = new ArrayList<>(store.size());
+                store.forEach((id, gpa) -> entries.add(new SimpleImmutableEntry<>(id, gpa)));
+                Iterator<Entry<String, Double>> snapshot = entries.iterator();
+                return new Iterator<>() {
+                    private String last;
+
+                    @Override
+                    public boolean hasNext() {
+                        return snapshot.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Double> next() {
+                        Entry<String, Double> entry = snapshot.next();
+                        last = entry.getKey();
+                        return entry;
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (last == null) {
+                            throw new IllegalStateException();
+                        }
+                        store.remove(last);
+                        last = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return store.size();
+            }
+        };
+    }
+}
@@ -1,12 +1,18 @@
 package com.mycompany.ums;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Flow;
 
 // ISP: Validator interface segregated for notifications
 interface Validator<T> {
     void validate(T input);
+
+    default ValidationResult check(T input) {
+        return ValidationResult.capture(() -> validate(input));
+    }
 }
 
 // Input holder for notification validation
@@ -22,20 +28,61 @@ class NotificationInput {
 
 // OCP & DIP: Concrete notification validator implementing Validator interface
 class NotificationValidator implements Validator<NotificationInput> {
+    private static final ValidationResult MISSING_STUDENT_ID =
+            ValidationResult.failure(CommonErrorCode.MISSING, "Student ID cannot be null or empty");
+    private static final ValidationResult MISSING_NOTIFICATIONS =
+            ValidationResult.failure(CommonErrorCode.MISSING, "Notifications map cannot be null");
+
     @Override
     public void validate(NotificationInput input) {
+        check(input).orThrow();
+    }
+
+    @Override
+    public ValidationResult check(NotificationInput input) {
         if (input.studentId == null || input.studentId.isBlank()) {
-            throw new IllegalArgumentException("Student ID cannot be null or empty");
+            return MISSING_STUDENT_ID;
         }
         if (input.notifications == null) {
-            throw new IllegalArgumentException("Notifications map cannot be null");
+            return MISSING_NOTIFICATIONS;
         }
+        return ValidationResult.valid();
     }
 }
 
 // Abstraction for notification fetching (ISP & DIP)
 interface NotificationService {
+    /**
+     * All of the student's notifications, in arrival order.
+     */
     List<String> getNotifications(String studentId);
+
+    /**
+     * One page of the student's notifications, newest first. The default
+     * pages the full list, which is stored in arrival order; services backed
+     * by an inbox override it to read only the requested page.
+     */
+    default List<String> getNotifications(String studentId, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit cannot be negative");
+        }
+        List<String> all = getNotifications(studentId);
+        int end = Math.max(0, all.size() - offset);
+        int start = Math.max(0, end - limit);
+        List<String> page = new ArrayList<>(all.subList(start, end));
+        Collections.reverse(page);
+        return page;
+    }
+}
+
+// Push delivery, segregated so poll-only services need not implement it (ISP & LSP)
+interface PushNotificationService extends NotificationService {
+    /**
+     * Notifications published from now on, delivered as the subscriber
+     * requests them, with at most {@code bufferSize} held back per
+     * subscriber.
+     */
+    Flow.Publisher<String> subscribe(String studentId, int bufferSize, OverflowPolicy overflow);
 }
 
 // OCP & LSP: Concrete implementation that fetches notifications from a map
@@ -58,6 +105,40 @@ class MapNotificationService implements NotificationService {
     }
 }
 
+// NotificationService over a NotificationHub; pages come straight from the subscribed topics
+class HubNotificationService implements PushNotificationService {
+    private final NotificationHub hub;
+
+    HubNotificationService(NotificationHub hub) {
+        if (hub == null) {
+            throw new IllegalArgumentException("Notification hub cannot be null");
+        }
+        this.hub = hub;
+    }
+
+    // Everything the inbox holds, oldest first; the paginated overload reads just one page
+    @Override
+    public List<String> getNotifications(String studentId) {
+        if (studentId == null || studentId.isBlank()) {
+            throw new IllegalArgumentException("Student ID cannot be null or empty");
+        }
+        return hub.messages(studentId);
+    }
+
+    @Override
+    public List<String> getNotifications(String studentId, int offset, int limit) {
+        if (studentId == null || studentId.isBlank()) {
+            throw new IllegalArgumentException("Student ID cannot be null or empty");
+        }
+        return hub.getNotifications(studentId, offset, limit);
+    }
+
+    @Override
+    public Flow.Publisher<String> subscribe(String studentId, int bufferSize, OverflowPolicy overflow) {
+        return hub.publisher(studentId, bufferSize, overflow);
+    }
+}
+
 // UI abstraction (ISP)
 interface NotificationUI {
     void showHeader();
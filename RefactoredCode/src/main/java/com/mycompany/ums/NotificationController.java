@@ -6,21 +6,38 @@ import java.util.Map;
 // Interface Segregation + Dependency Inversion
 interface Validator<T> {
     void validate(T input);
+
+    default ValidationResult check(T input) {
+        return ValidationResult.capture(() -> validate(input));
+    }
 }
 
 // Concrete Validator for Notification Input
 class NotificationValidator implements Validator<NotificationInput> {
+    private static final ValidationResult MISSING_INPUT =
+            ValidationResult.failure(CommonErrorCode.MISSING, "Input cannot be null");
+    private static final ValidationResult MISSING_STUDENT_ID =
+            ValidationResult.failure(CommonErrorCode.MISSING, "Student ID cannot be null or empty");
+    private static final ValidationResult MISSING_NOTIFICATIONS =
+            ValidationResult.failure(CommonErrorCode.MISSING, "Notifications map cannot be null");
+
     @Override
     public void validate(NotificationInput input) {
+        check(input).orThrow();
+    }
+
+    @Override
+    public ValidationResult check(NotificationInput input) {
         if (input == null) {
-            throw new IllegalArgumentException("Input cannot be null");
+            return MISSING_INPUT;
         }
         if (input.studentId == null || input.studentId.isBlank()) {
-            throw new IllegalArgumentException("Student ID cannot be null or empty");
+            return MISSING_STUDENT_ID;
         }
         if (input.notifications == null) {
-            throw new IllegalArgumentException("Notifications map cannot be null");
+            return MISSING_NOTIFICATIONS;
         }
+        return ValidationResult.valid();
     }
 }
 
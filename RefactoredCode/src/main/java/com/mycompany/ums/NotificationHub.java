@@ -0,0 +1,982 @@
+package com.mycompany.ums;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Publish/subscribe notification store: a broadcast is stored once, however
+ * many students receive it, and no notification outlives its retention.
+ *
+ * Each topic, e.g. the whole campus, a cohort or one student's direct
+ * messages, holds its notifications in publish order. A student's inbox is
+ * only a list of subscriptions, each with a read cursor into its topic.
+ * Publishing to a topic of 60k students is therefore one append. Every
+ * notification gets a hub-wide sequence number, and appends take one
+ * hub-wide lock, so sequence order is publish order: a reader who has seen
+ * sequence n has seen everything published before it.
+ *
+ * Every inbox is subscribed to {@link #CAMPUS} and to the student's own
+ * direct topic, and sees whatever those still hold. Other subscriptions see
+ * messages published after they were made. An inbox shows at most the
+ * newest {@code maxPerInbox} notifications.
+ *
+ * Retention follows a {@link NotificationRetentionPolicy}. A notification
+ * expires after its category's TTL. Once read, it leaves the reader's inbox
+ * after the shorter read retention, by moving that subscription's floor
+ * past it; a topic read by one inbox only, such as a direct topic, then
+ * drops it as well. A topic holds at most {@code maxPerInbox}
+ * notifications, dropping the oldest. All of this is done by
+ * {@link #sweep(Duration)}, which visits inboxes and then topics
+ * round-robin and returns once its time budget is spent, so a sweeper
+ * thread can call it in short slices.
+ *
+ * Connected clients can also take notifications as a push stream, see
+ * {@link #publisher}. A push subscription is a set of cursors into the same
+ * topics, so its buffer holds no copies. When a client falls more than its
+ * buffer size behind, the overflow policy decides what it gets; the
+ * publisher only marks subscriptions as ready and never waits for them.
+ *
+ * Reads take no locks: a topic is an immutable array, replaced through a
+ * volatile write on each change.
+ */
+public final class NotificationHub {
+    public static final String CAMPUS = "campus";
+    private static final String COHORT_PREFIX = "cohort:";
+    private static final String STUDENT_PREFIX = "student:";
+    private static final StoredNotification[] EMPTY = new StoredNotification[0];
+    // Inboxes or topics visited between checks of the sweep budget
+    private static final int BUDGET_CHECK_INTERVAL = 32;
+
+    private final NotificationRetentionPolicy policy;
+    private final LongSupplier clock;
+    private final Executor delivery;
+    private final ConcurrentMap<String, Topic> topics = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Inbox> inboxes = new ConcurrentHashMap<>();
+    // Guards sequence allocation and every change to a topic
+    private final Object appendLock = new Object();
+    private long nextSequence;
+    private final ReentrantLock sweepLock = new ReentrantLock();
+    // Round-robin position of the sweep, inboxes first and then topics; guarded by sweepLock
+    private Iterator<Inbox> inboxCursor;
+    private Iterator<Topic> topicCursor;
+
+    public NotificationHub() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param delivery runs push deliveries; one subscriber is never delivered to concurrently
+     */
+    public NotificationHub(Executor delivery) {
+        this(NotificationRetentionPolicy.defaults(), delivery);
+    }
+
+    public NotificationHub(NotificationRetentionPolicy policy, Executor delivery) {
+        this(policy, System::currentTimeMillis, delivery);
+    }
+
+    /**
+     * @param clock wall-clock milliseconds; timestamps are journaled, so they must survive restarts
+     */
+    NotificationHub(NotificationRetentionPolicy policy, LongSupplier clock, Executor delivery) {
+        if (policy == null || clock == null || delivery == null) {
+            throw new IllegalArgumentException("Dependencies cannot be null");
+        }
+        this.policy = policy;
+        this.clock = clock;
+        this.delivery = delivery;
+    }
+
+    /**
+     * Loads a legacy notifications map; every message is posted now, as a
+     * GENERAL direct message.
+     */
+    public static NotificationHub copyOf(NotificationRetentionPolicy policy, Map<String, List<String>> notifications) {
+        if (notifications == null) {
+            throw new IllegalArgumentException("Notifications map cannot be null");
+        }
+        NotificationHub hub = new NotificationHub(policy, ForkJoinPool.commonPool());
+        notifications.forEach((studentId, messages) ->
+                messages.forEach(message -> hub.publishToStudent(studentId, message)));
+        return hub;
+    }
+
+    public static String cohortTopic(String cohort) {
+        if (cohort == null || cohort.isBlank()) {
+            throw new IllegalArgumentException("Cohort cannot be null or empty");
+        }
+        return COHORT_PREFIX + cohort;
+    }
+
+    public static String studentTopic(String studentId) {
+        requireStudentId(studentId);
+        return STUDENT_PREFIX + studentId;
+    }
+
+    /**
+     * Subscribes the student to a topic, e.g. a cohort or course; messages
+     * already published there are not delivered.
+     */
+    public void subscribe(String studentId, String topic) {
+        requireTopic(topic);
+        Topic target = topic(topic);
+        inbox(studentId).subscribe(target, target.lastSequence);
+    }
+
+    public void unsubscribe(String studentId, String topic) {
+        Inbox inbox = inboxes.get(studentId);
+        Topic existing = topic == null ? null : topics.get(topic);
+        if (inbox != null && existing != null) {
+            inbox.unsubscribe(existing);
+        }
+    }
+
+    public StoredNotification publish(String topic, String message) {
+        return publish(topic, NotificationCategory.GENERAL, message, stored -> { });
+    }
+
+    /**
+     * Broadcasts to every current subscriber of the topic.
+     *
+     * @param onStored runs under the append lock, so e.g. journal records are
+     *                 queued in sequence order
+     */
+    public StoredNotification publish(String topic, NotificationCategory category, String message,
+                                      Consumer<StoredNotification> onStored) {
+        requireTopic(topic);
+        if (category == null) {
+            throw new IllegalArgumentException("Category cannot be null");
+        }
+        if (message == null || message.isBlank()) {
+            throw new IllegalArgumentException("Message cannot be null or empty");
+        }
+        Topic target = topic(topic);
+        long now = clock.getAsLong();
+        StoredNotification stored;
+        synchronized (appendLock) {
+            stored = new StoredNotification(nextSequence++, category, now, now + policy.ttl(category).toMillis(),
+                    message);
+            target.append(stored, policy.maxPerInbox());
+            onStored.accept(stored);
+        }
+        for (PushSubscription subscription : target.listeners) {
+            subscription.published();
+        }
+        return stored;
+    }
+
+    public StoredNotification publishToStudent(String studentId, String message) {
+        return publish(studentTopic(studentId), message);
+    }
+
+    public StoredNotification publishToStudent(String studentId, NotificationCategory category, String message,
+                                               Consumer<StoredNotification> onStored) {
+        return publish(studentTopic(studentId), category, message, onStored);
+    }
+
+    /**
+     * Re-adds a journaled notification with its original sequence and post
+     * time. Sequences the topic has already seen and notifications that have
+     * expired since are skipped, so replay is idempotent.
+     */
+    public void restore(String topic, long sequence, NotificationCategory category, long postedAt, String message) {
+        requireTopic(topic);
+        if (category == null) {
+            throw new IllegalArgumentException("Category cannot be null");
+        }
+        long expiresAt = postedAt + policy.ttl(category).toMillis();
+        Topic target = topic(topic);
+        synchronized (appendLock) {
+            nextSequence = Math.max(nextSequence, sequence + 1);
+            if (sequence > target.lastSequence && expiresAt > clock.getAsLong()) {
+                target.append(new StoredNotification(sequence, category, postedAt, expiresAt, message),
+                        policy.maxPerInbox());
+            }
+        }
+    }
+
+    /**
+     * The student's notifications, oldest first.
+     */
+    public List<StoredNotification> entries(String studentId) {
+        List<StoredNotification> entries = newest(inbox(studentId), 0, policy.maxPerInbox());
+        Collections.reverse(entries);
+        return entries;
+    }
+
+    public List<String> messages(String studentId) {
+        return entries(studentId).stream().map(StoredNotification::message).toList();
+    }
+
+    /**
+     * One page of the student's notifications, newest first. Costs
+     * O((offset + limit) x subscriptions), however many the inbox holds.
+     */
+    public List<String> getNotifications(String studentId, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit cannot be negative");
+        }
+        int inCap = Math.max(0, Math.min(limit, policy.maxPerInbox() - offset));
+        return newest(inbox(studentId), offset, inCap).stream().map(StoredNotification::message).toList();
+    }
+
+    public int unreadCount(String studentId) {
+        long unread = 0;
+        for (Subscription subscription : inbox(studentId).subscriptions) {
+            StoredNotification[] entries = subscription.topic.entries;
+            unread += entries.length - after(entries, Math.max(subscription.floor, subscription.readThrough));
+        }
+        return (int) Math.min(unread, policy.maxPerInbox());
+    }
+
+    /**
+     * Marks the student's notifications up to and including the given
+     * sequence read, e.g. the newest one just shown; anything published
+     * later stays unread. Read notifications leave the inbox after the read
+     * retention, unless their TTL ends sooner.
+     */
+    public void markReadThrough(String studentId, long sequence) {
+        Inbox inbox = inbox(studentId);
+        long compactAt = clock.getAsLong() + policy.readRetention().toMillis();
+        synchronized (inbox) {
+            for (Subscription subscription : inbox.subscriptions) {
+                long through = Math.min(sequence, subscription.topic.lastSequence);
+                if (through > subscription.readThrough) {
+                    subscription.readThrough = through;
+                    subscription.pendingReads.add(new ReadMark(through, compactAt));
+                    inbox.nextCompaction = Math.min(inbox.nextCompaction, compactAt);
+                }
+            }
+        }
+    }
+
+    /**
+     * Push stream of the student's notifications published from now on, over
+     * the topics the student is subscribed to when a subscriber attaches.
+     *
+     * @param bufferSize most undelivered messages a subscriber may fall behind by
+     * @param overflow   what a subscriber gets once it falls further behind
+     */
+    public Flow.Publisher<String> publisher(String studentId, int bufferSize, OverflowPolicy overflow) {
+        Inbox inbox = inbox(studentId);
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be at least 1");
+        }
+        if (overflow == null) {
+            throw new IllegalArgumentException("Overflow policy cannot be null");
+        }
+        return subscriber -> {
+            if (subscriber == null) {
+                throw new NullPointerException("Subscriber cannot be null");
+            }
+            new PushSubscription(inbox.subscriptions, subscriber, bufferSize, overflow, delivery).start();
+        };
+    }
+
+    /**
+     * Visits every notification held, topic by topic, oldest first.
+     */
+    public void forEach(BiConsumer<String, StoredNotification> action) {
+        topics.forEach((name, topic) -> {
+            for (StoredNotification notification : topic.entries) {
+                action.accept(name, notification);
+            }
+        });
+    }
+
+    /**
+     * Messages held, counting each broadcast once.
+     */
+    public int messageCount() {
+        int count = 0;
+        for (Topic topic : topics.values()) {
+            count += topic.entries.length;
+        }
+        return count;
+    }
+
+    public int inboxCount() {
+        return inboxes.size();
+    }
+
+    /**
+     * Applies due read compactions to inboxes, then removes expired
+     * notifications from topics, in round-robin order until the budget is
+     * spent or a full pass completes. At least one inbox or topic is visited
+     * per call, so sweeping always progresses. Returns 0 at once if another
+     * sweep is running.
+     *
+     * @return notifications removed from topics
+     */
+    public int sweep(Duration budget) {
+        if (budget == null || budget.isNegative()) {
+            throw new IllegalArgumentException("Sweep budget cannot be null or negative");
+        }
+        if (!sweepLock.tryLock()) {
+            return 0;
+        }
+        try {
+            long deadline = System.nanoTime() + budget.toNanos();
+            long now = clock.getAsLong();
+            if (inboxCursor == null && topicCursor == null) {
+                inboxCursor = inboxes.values().iterator();
+            }
+            int removed = 0;
+            int visited = 0;
+            while (true) {
+                if (inboxCursor != null && !inboxCursor.hasNext()) {
+                    inboxCursor = null;
+                    topicCursor = topics.values().iterator();
+                }
+                if (inboxCursor != null) {
+                    removed += compact(inboxCursor.next(), now);
+                } else if (topicCursor.hasNext()) {
+                    removed += expire(topicCursor.next(), now);
+                } else {
+                    topicCursor = null; // pass complete; the next call starts a new one
+                    return removed;
+                }
+                if ((++visited % BUDGET_CHECK_INTERVAL == 0 || budget.isZero())
+                        && System.nanoTime() - deadline >= 0) {
+                    return removed;
+                }
+            }
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    /**
+     * Runs {@link #sweep(Duration)} every {@code period}, each run bounded by {@code slice}.
+     */
+    public ScheduledFuture<?> startSweeper(ScheduledExecutorService scheduler, Duration period, Duration slice) {
+        if (scheduler == null || period == null || slice == null || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Sweeper needs a scheduler, a positive period and a slice");
+        }
+        return scheduler.scheduleWithFixedDelay(() -> sweep(slice),
+                period.toNanos(), period.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Read-only map view of the inboxes opened so far, for legacy callers.
+     */
+    public Map<String, List<String>> asMap() {
+        return new InboxMap();
+    }
+
+    // Moves floors past reads whose retention has run out; a topic this inbox alone reads drops them too
+    private int compact(Inbox inbox, long now) {
+        if (inbox.nextCompaction > now) {
+            return 0; // nothing due; no lock taken
+        }
+        int removed = 0;
+        synchronized (inbox) {
+            long next = Long.MAX_VALUE;
+            for (Subscription subscription : inbox.subscriptions) {
+                ReadMark mark;
+                while ((mark = subscription.pendingReads.peek()) != null && mark.compactAt() <= now) {
+                    subscription.floor = Math.max(subscription.floor, mark.through());
+                    subscription.pendingReads.poll();
+                }
+                if (mark != null) {
+                    next = Math.min(next, mark.compactAt());
+                }
+                if (subscription.topic.subscribers.get() == 1) {
+                    synchronized (appendLock) {
+                        removed += subscription.topic.removeThrough(subscription.floor);
+                    }
+                }
+            }
+            inbox.nextCompaction = next;
+        }
+        return removed;
+    }
+
+    private int expire(Topic topic, long now) {
+        if (topic.nextExpiry > now) {
+            return 0;
+        }
+        synchronized (appendLock) {
+            return topic.removeExpired(now);
+        }
+    }
+
+    // Newest first, merging the subscribed topics backwards from their ends
+    private List<StoredNotification> newest(Inbox inbox, int offset, int limit) {
+        Subscription[] subscriptions = inbox.subscriptions;
+        StoredNotification[][] entries = new StoredNotification[subscriptions.length][];
+        int[] first = new int[subscriptions.length];
+        int[] next = new int[subscriptions.length];
+        for (int i = 0; i < subscriptions.length; i++) {
+            entries[i] = subscriptions[i].topic.entries;
+            first[i] = after(entries[i], subscriptions[i].floor);
+            next[i] = entries[i].length - 1;
+        }
+        List<StoredNotification> page = new ArrayList<>(Math.min(limit, 64));
+        int skipped = 0;
+        while (page.size() < limit) {
+            int newest = -1;
+            for (int i = 0; i < subscriptions.length; i++) {
+                if (next[i] >= first[i] && (newest < 0
+                        || entries[i][next[i]].sequence() > entries[newest][next[newest]].sequence())) {
+                    newest = i;
+                }
+            }
+            if (newest < 0) {
+                break;
+            }
+            StoredNotification notification = entries[newest][next[newest]--];
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                page.add(notification);
+            }
+        }
+        return page;
+    }
+
+    // Index of the first entry with a higher sequence; entries ascend by sequence
+    private static int after(StoredNotification[] entries, long sequence) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].sequence() <= sequence) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private Inbox inbox(String studentId) {
+        requireStudentId(studentId);
+        return inboxes.computeIfAbsent(studentId, id -> {
+            Inbox inbox = new Inbox();
+            inbox.subscribe(topics.computeIfAbsent(CAMPUS, key -> new Topic()), -1);
+            inbox.subscribe(topics.computeIfAbsent(STUDENT_PREFIX + id, key -> new Topic()), -1);
+            return inbox;
+        });
+    }
+
+    // A direct topic gets its student's inbox first, so whatever is published there is seen
+    private Topic topic(String name) {
+        if (name.startsWith(STUDENT_PREFIX)) {
+            inbox(name.substring(STUDENT_PREFIX.length()));
+        }
+        return topics.computeIfAbsent(name, key -> new Topic());
+    }
+
+    private static void requireTopic(String topic) {
+        if (topic == null || topic.isBlank()) {
+            throw new IllegalArgumentException("Topic cannot be null or empty");
+        }
+    }
+
+    private static void requireStudentId(String studentId) {
+        if (studentId == null || studentId.isBlank()) {
+            throw new IllegalArgumentException("Student ID cannot be null or empty");
+        }
+    }
+
+    /**
+     * A topic's notifications in publish order. Changes are made under the
+     * hub's append lock; readers take the volatile array as it is.
+     */
+    private static final class Topic {
+        volatile StoredNotification[] entries = EMPTY;
+        // Highest sequence ever appended, even if since removed
+        volatile long lastSequence = -1;
+        // Earliest expiry among entries, so the sweeper can skip the topic without locking
+        volatile long nextExpiry = Long.MAX_VALUE;
+        final AtomicInteger subscribers = new AtomicInteger();
+        final Set<PushSubscription> listeners = ConcurrentHashMap.newKeySet();
+
+        void append(StoredNotification stored, int maxEntries) {
+            StoredNotification[] current = entries;
+            int dropped = Math.max(0, current.length + 1 - maxEntries);
+            StoredNotification[] updated = Arrays.copyOfRange(current, dropped, current.length + 1);
+            updated[updated.length - 1] = stored;
+            lastSequence = stored.sequence();
+            publish(updated);
+        }
+
+        int removeThrough(long sequence) {
+            StoredNotification[] current = entries;
+            int cut = after(current, sequence);
+            if (cut > 0) {
+                publish(Arrays.copyOfRange(current, cut, current.length));
+            }
+            return cut;
+        }
+
+        int removeExpired(long now) {
+            StoredNotification[] current = entries;
+            StoredNotification[] survivors = new StoredNotification[current.length];
+            int kept = 0;
+            for (StoredNotification entry : current) {
+                if (entry.expiresAt() > now) {
+                    survivors[kept++] = entry;
+                }
+            }
+            publish(kept == current.length ? current : Arrays.copyOf(survivors, kept));
+            return current.length - kept;
+        }
+
+        private void publish(StoredNotification[] updated) {
+            long earliest = Long.MAX_VALUE;
+            for (StoredNotification entry : updated) {
+                earliest = Math.min(earliest, entry.expiresAt());
+            }
+            entries = updated;
+            nextExpiry = earliest;
+        }
+    }
+
+    /**
+     * A read that compacts once its retention runs out.
+     */
+    private record ReadMark(long through, long compactAt) {
+    }
+
+    /**
+     * A subscription shows its topic's notifications above its floor; those
+     * up to readThrough are read. Changed under the inbox lock.
+     */
+    private static final class Subscription {
+        final Topic topic;
+        volatile long floor;
+        volatile long readThrough;
+        final ArrayDeque<ReadMark> pendingReads = new ArrayDeque<>();
+
+        Subscription(Topic topic, long floor) {
+            this.topic = topic;
+            this.floor = floor;
+            this.readThrough = floor;
+        }
+    }
+
+    /**
+     * A student's subscriptions; copy-on-write, as they rarely change.
+     */
+    private static final class Inbox {
+        volatile Subscription[] subscriptions = new Subscription[0];
+        // Earliest pending read compaction, so the sweeper can skip the inbox without locking
+        volatile long nextCompaction = Long.MAX_VALUE;
+
+        synchronized void subscribe(Topic topic, long floor) {
+            for (Subscription subscription : subscriptions) {
+                if (subscription.topic == topic) {
+                    return;
+                }
+            }
+            Subscription[] updated = Arrays.copyOf(subscriptions, subscriptions.length + 1);
+            updated[subscriptions.length] = new Subscription(topic, floor);
+            subscriptions = updated;
+            topic.subscribers.incrementAndGet();
+        }
+
+        synchronized void unsubscribe(Topic topic) {
+            Subscription[] updated = Arrays.stream(subscriptions)
+                    .filter(subscription -> subscription.topic != topic)
+                    .toArray(Subscription[]::new);
+            if (updated.length < subscriptions.length) {
+                topic.subscribers.decrementAndGet();
+            }
+            subscriptions = updated;
+        }
+    }
+
+    private final class InboxMap extends AbstractMap<String, List<String>> {
+        @Override
+        public List<String> get(Object key) {
+            if (!(key instanceof String studentId) || !inboxes.containsKey(studentId)) {
+                return null;
+            }
+            List<String> messages = messages(studentId);
+            return messages.isEmpty() ? null : messages;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        // Snapshot of the current inboxes
+        @Override
+        public Set<Map.Entry<String, List<String>>> entrySet() {
+            Map<String, List<String>> snapshot = new HashMap<>();
+            for (String studentId : inboxes.keySet()) {
+                List<String> messages = messages(studentId);
+                if (!messages.isEmpty()) {
+                    snapshot.put(studentId, messages);
+                }
+            }
+            return snapshot.entrySet();
+        }
+    }
+
+    /**
+     * One push subscriber: its own cursors over the student's topics, demand,
+     * and a work counter that keeps delivery to this subscriber serial.
+     */
+    private static final class PushSubscription implements Flow.Subscription {
+        private static final String COALESCED_FORMAT = "You have %d new notifications";
+
+        private final Topic[] topics;
+        // Sequence of the last message delivered or skipped, per topic
+        private final long[] cursors;
+        private final Flow.Subscriber<? super String> subscriber;
+        private final int bufferSize;
+        private final OverflowPolicy overflow;
+        private final Executor delivery;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger work = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+        private long coalesced;
+
+        PushSubscription(Subscription[] subscriptions, Flow.Subscriber<? super String> subscriber,
+                         int bufferSize, OverflowPolicy overflow, Executor delivery) {
+            this.topics = new Topic[subscriptions.length];
+            this.cursors = new long[subscriptions.length];
+            for (int i = 0; i < subscriptions.length; i++) {
+                topics[i] = subscriptions[i].topic;
+            }
+            this.subscriber = subscriber;
+            this.bufferSize = bufferSize;
+            this.overflow = overflow;
+            this.delivery = delivery;
+        }
+
+        // Holds the work counter while onSubscribe runs, so no onNext can overlap it
+        void start() {
+            work.set(1);
+            for (int i = 0; i < topics.length; i++) {
+                cursors[i] = topics[i].lastSequence;
+                topics[i].listeners.add(this);
+            }
+            try {
+                subscriber.onSubscribe(this);
+            } catch (RuntimeException e) {
+                cancel();
+                return;
+            }
+            if (work.decrementAndGet() != 0) {
+                schedule();
+            }
+        }
+
+        /*
+         * A subscriber with no demand is not woken: overflow is worked out
+         * from the cursors when it next requests, so a stalled client costs
+         * the publisher one read. The topic was written before this read of
+         * the demand, and request() adds demand before draining, so one of
+         * the two always sees the new message.
+         */
+        void published() {
+            if (requested.get() != 0) {
+                signal();
+            }
+        }
+
+        void signal() {
+            if (work.getAndIncrement() == 0) {
+                schedule();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested " + n + " items; demand must be positive");
+            } else {
+                requested.getAndAccumulate(n, (current, more) -> current + more < 0 ? Long.MAX_VALUE : current + more);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            for (Topic topic : topics) {
+                topic.listeners.remove(this);
+            }
+        }
+
+        private void schedule() {
+            try {
+                delivery.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                cancel();
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (cancelled) {
+                    return;
+                }
+                if (error != null) {
+                    cancel();
+                    subscriber.onError(error);
+                    return;
+                }
+                try {
+                    deliver();
+                } catch (RuntimeException e) {
+                    // A subscriber that throws from onNext is treated as cancelled
+                    cancel();
+                    return;
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void deliver() {
+            StoredNotification[][] entries = new StoredNotification[topics.length][];
+            int[] next = new int[topics.length];
+            long backlog = 0;
+            for (int i = 0; i < topics.length; i++) {
+                entries[i] = topics[i].entries;
+                next[i] = after(entries[i], cursors[i]);
+                backlog += entries[i].length - next[i];
+            }
+            if (backlog > bufferSize) {
+                if (overflow == OverflowPolicy.DROP_OLDEST) {
+                    for (long skip = backlog - bufferSize; skip > 0; skip--) {
+                        next[oldest(entries, next)]++;
+                    }
+                } else {
+                    coalesced += backlog;
+                    for (int i = 0; i < topics.length; i++) {
+                        next[i] = entries[i].length;
+                    }
+                }
+            }
+
+            long demand = requested.get();
+            long emitted = 0;
+            if (coalesced > 0 && demand > 0) {
+                subscriber.onNext(String.format(COALESCED_FORMAT, coalesced));
+                coalesced = 0;
+                emitted++;
+            }
+            while (emitted < demand && !cancelled) {
+                int topic = oldest(entries, next);
+                if (topic < 0) {
+                    break;
+                }
+                subscriber.onNext(entries[topic][next[topic]++].message());
+                emitted++;
+            }
+            // Cursors move past everything delivered or skipped
+            for (int i = 0; i < topics.length; i++) {
+                if (next[i] > 0) {
+                    cursors[i] = Math.max(cursors[i], entries[i][next[i] - 1].sequence());
+                }
+            }
+            if (emitted > 0 && demand != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+        }
+
+        // Topic whose next undelivered message was published first, or -1 if none is left
+        private int oldest(StoredNotification[][] entries, int[] next) {
+            int oldest = -1;
+            for (int i = 0; i < topics.length; i++) {
+                if (next[i] < entries[i].length && (oldest < 0
+                        || entries[i][next[i]].sequence() < entries[oldest][next[oldest]].sequence())) {
+                    oldest = i;
+                }
+            }
+            return oldest;
+        }
+    }
+
+    // Example main: one campus-wide announcement to 60k students, against appending to 60k lists
+    public static void main(String[] args) {
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 60_000;
+        NotificationHub hub = new NotificationHub();
+        Map<String, List<String>> legacy = new HashMap<>();
+        List<String> ids = new ArrayList<>(students);
+        for (int i = 0; i < students; i++) {
+            String id = String.format("S%05d", i);
+            ids.add(id);
+            hub.subscribe(id, cohortTopic(i % 4 == 0 ? "2025" : "2026"));
+            legacy.put(id, new CopyOnWriteArrayList<>());
+        }
+
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            for (String id : ids) {
+                legacy.get(id).add("Campus closed on Friday");
+            }
+            long legacyNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            hub.publish(CAMPUS, "Campus closed on Friday");
+            long hubNanos = System.nanoTime() - start;
+            if (round == 4) {
+                System.out.printf("Broadcast to %,d students: per-student lists %,d us, hub %,d us%n",
+                        students, legacyNanos / 1_000, hubNanos / 1_000);
+            }
+        }
+
+        hub.publish(cohortTopic("2025"), "Convocation rehearsal on Monday");
+        hub.publishToStudent("S00000", "Your transcript is ready");
+        System.out.println("S00000 unread: " + hub.unreadCount("S00000"));
+        System.out.println("S00000 page 1: " + hub.getNotifications("S00000", 0, 3));
+        List<StoredNotification> shown = hub.entries("S00000");
+        hub.markReadThrough("S00000", shown.get(shown.size() - 1).sequence());
+        System.out.println("S00000 unread after reading: " + hub.unreadCount("S00000")
+                + "; messages stored: " + hub.messageCount());
+    }
+}
+
+/**
+ * What a push subscriber receives once it is more than its buffer size behind.
+ */
+enum OverflowPolicy {
+    /** The oldest undelivered messages are skipped; the newest bufferSize remain. */
+    DROP_OLDEST,
+    /** The whole backlog collapses into one "You have N new notifications" message. */
+    COALESCE
+}
+
+/**
+ * A notification as stored: its hub-wide sequence, category, post time
+ * and expiry time in epoch milliseconds.
+ */
+record StoredNotification(long sequence, NotificationCategory category, long postedAt, long expiresAt,
+                          String message) {
+}
+
+/**
+ * What a notification is about; each category has its own TTL.
+ */
+enum NotificationCategory {
+    ANNOUNCEMENT,
+    REGISTRATION,
+    ACADEMIC,
+    FINANCE,
+    GENERAL
+}
+
+/**
+ * TTL per category, how long read notifications are kept, and the hard
+ * cap on notifications per inbox and per topic.
+ */
+final class NotificationRetentionPolicy {
+    private final Map<NotificationCategory, Duration> ttls;
+    private final Duration readRetention;
+    private final int maxPerInbox;
+
+    private NotificationRetentionPolicy(Builder builder) {
+        this.ttls = new EnumMap<>(builder.ttls);
+        this.readRetention = builder.readRetention;
+        this.maxPerInbox = builder.maxPerInbox;
+    }
+
+    /**
+     * Announcements for 30 days, registration and general notices for 90,
+     * academic ones for 180 and finance for a year; read notifications for
+     * 14 days; at most 200 per inbox.
+     */
+    static NotificationRetentionPolicy defaults() {
+        return builder()
+                .ttl(NotificationCategory.ANNOUNCEMENT, Duration.ofDays(30))
+                .ttl(NotificationCategory.REGISTRATION, Duration.ofDays(90))
+                .ttl(NotificationCategory.GENERAL, Duration.ofDays(90))
+                .ttl(NotificationCategory.ACADEMIC, Duration.ofDays(180))
+                .ttl(NotificationCategory.FINANCE, Duration.ofDays(365))
+                .readRetention(Duration.ofDays(14))
+                .maxPerInbox(200)
+                .build();
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    Duration ttl(NotificationCategory category) {
+        return ttls.get(category);
+    }
+
+    Duration readRetention() {
+        return readRetention;
+    }
+
+    int maxPerInbox() {
+        return maxPerInbox;
+    }
+
+    static final class Builder {
+        private final Map<NotificationCategory, Duration> ttls = new EnumMap<>(NotificationCategory.class);
+        private Duration readRetention;
+        private int maxPerInbox = 200;
+
+        Builder ttl(NotificationCategory category, Duration ttl) {
+            if (category == null || ttl == null || ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("TTL must be positive for category " + category);
+            }
+            ttls.put(category, ttl);
+            return this;
+        }
+
+        Builder readRetention(Duration retention) {
+            if (retention == null || retention.isNegative()) {
+                throw new IllegalArgumentException("Read retention cannot be null or negative");
+            }
+            this.readRetention = retention;
+            return this;
+        }
+
+        Builder maxPerInbox(int max) {
+            if (max < 1) {
+                throw new IllegalArgumentException("Inbox cap must be at least 1");
+            }
+            this.maxPerInbox = max;
+            return this;
+        }
+
+        NotificationRetentionPolicy build() {
+            for (NotificationCategory category : NotificationCategory.values()) {
+                if (!ttls.containsKey(category)) {
+                    throw new IllegalArgumentException("No TTL for category " + category);
+                }
+            }
+            if (readRetention == null) {
+                throw new IllegalArgumentException("Read retention must be set");
+            }
+            return new NotificationRetentionPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.mycompany.ums;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test for hub retention on a fake clock: a broadcast is stored once,
+ * per-category TTLs, read compaction that hides a shared notification only
+ * from its reader, marking read only what was shown, the cap, the full
+ * and paged service listings, and idempotent restore after expiry.
+ */
+public class NotificationHubTest {
+    private static final long DAY = Duration.ofDays(1).toMillis();
+
+    public static void main(String[] args) {
+        AtomicLong now = new AtomicLong(1_000 * DAY);
+        NotificationRetentionPolicy policy = NotificationRetentionPolicy.builder()
+                .ttl(NotificationCategory.ANNOUNCEMENT, Duration.ofDays(7))
+                .ttl(NotificationCategory.REGISTRATION, Duration.ofDays(30))
+                .ttl(NotificationCategory.ACADEMIC, Duration.ofDays(30))
+                .ttl(NotificationCategory.FINANCE, Duration.ofDays(365))
+                .ttl(NotificationCategory.GENERAL, Duration.ofDays(30))
+                .readRetention(Duration.ofDays(2))
+                .maxPerInbox(3)
+                .build();
+        NotificationHub hub = new NotificationHub(policy, now::get, ForkJoinPool.commonPool());
+
+        // One campus announcement reaches every inbox from a single stored copy
+        hub.publish(NotificationHub.CAMPUS, NotificationCategory.ANNOUNCEMENT, "Campus closed Friday", stored -> { });
+        hub.publishToStudent("S001", NotificationCategory.FINANCE, "Fee invoice issued", stored -> { });
+        check(hub.messageCount() == 2, "The announcement should be stored once: " + hub.messageCount());
+        check(hub.messages("S002").equals(List.of("Campus closed Friday")), "Every inbox should see the announcement");
+
+        // Each category expires on its own TTL
+        now.addAndGet(8 * DAY);
+        hub.sweep(Duration.ofSeconds(1));
+        check(hub.messages("S001").equals(List.of("Fee invoice issued")),
+                "Only the announcement should have expired: " + hub.messages("S001"));
+        check(hub.messages("S002").isEmpty(), "The expired announcement should be gone for everyone");
+
+        // Marking read covers what was shown, not what arrived afterwards
+        hub.publish(NotificationHub.CAMPUS, NotificationCategory.ANNOUNCEMENT, "Library open late", stored -> { });
+        List<StoredNotification> shown = hub.entries("S001");
+        hub.publishToStudent("S001", NotificationCategory.ACADEMIC, "Midterm marks posted", stored -> { });
+        hub.markReadThrough("S001", shown.get(shown.size() - 1).sequence());
+        check(hub.unreadCount("S001") == 1, "Only the notification posted after viewing should be unread");
+
+        // Read notifications leave the reader's inbox after the read retention, well before their TTL
+        now.addAndGet(3 * DAY);
+        hub.sweep(Duration.ofSeconds(1));
+        check(hub.messages("S001").equals(List.of("Midterm marks posted")),
+                "Read notifications should have been compacted: " + hub.messages("S001"));
+        check(hub.messages("S002").equals(List.of("Library open late")),
+                "Another student's unread announcement should remain");
+        check(hub.messageCount() == 2, "The read direct message should be dropped from its topic");
+
+        // The cap drops the oldest notifications
+        for (int i = 0; i < 5; i++) {
+            hub.publishToStudent("S003", "Notice " + i);
+        }
+        check(hub.messages("S003").equals(List.of("Notice 2", "Notice 3", "Notice 4")),
+                "Inbox should keep the newest three: " + hub.messages("S003"));
+
+        // The service lists the whole inbox in arrival order; the paginated overload reads one page newest first
+        NotificationHub defaults = new NotificationHub(NotificationRetentionPolicy.defaults(), now::get,
+                ForkJoinPool.commonPool());
+        for (int i = 0; i < 60; i++) {
+            defaults.publishToStudent("S001", "Notice " + i);
+        }
+        NotificationService service = new HubNotificationService(defaults);
+        List<String> all = service.getNotifications("S001");
+        check(all.size() == 60 && all.get(0).equals("Notice 0") && all.get(59).equals("Notice 59"),
+                "Every notification should be listed oldest first: " + all.size());
+        check(service.getNotifications("S001", 1, 2).equals(List.of("Notice 58", "Notice 57")),
+                "A page should be newest first: " + service.getNotifications("S001", 1, 2));
+
+        // Restoring is idempotent, skips expired notifications, and continues the sequence
+        NotificationHub restored = new NotificationHub(policy, now::get, ForkJoinPool.commonPool());
+        hub.forEach((topic, notification) -> restored.restore(topic, notification.sequence(),
+                notification.category(), notification.postedAt(), notification.message()));
+        hub.forEach((topic, notification) -> restored.restore(topic, notification.sequence(),
+                notification.category(), notification.postedAt(), notification.message()));
+        restored.restore(NotificationHub.studentTopic("S004"), 99, NotificationCategory.ANNOUNCEMENT,
+                now.get() - 30 * DAY, "Old announcement");
+        check(restored.messages("S003").equals(hub.messages("S003")), "Replay should not duplicate entries");
+        check(restored.messages("S004").equals(List.of("Library open late")),
+                "Expired notification should not be restored");
+        check(restored.publishToStudent("S004", "New").sequence() == 100,
+                "Sequence should continue past everything replayed");
+
+        // Everything expires in the end
+        now.addAndGet(60 * DAY);
+        restored.sweep(Duration.ofSeconds(1));
+        check(restored.messageCount() == 0, "Expired notifications should be removed, " + restored.messageCount() + " left");
+
+        System.out.println("Notification hub tests passed");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.mycompany.ums;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exam results released as a burst of campus-wide notifications to tens of
+ * thousands of connected push subscribers, half of them dropping the oldest
+ * messages and half coalescing.
+ *
+ * Each subscriber asks for a few messages and then stalls, as a slow client
+ * would, before asking for everything. The publisher must not be held up by
+ * the stalled clients, and when they catch up each gets at most its buffer:
+ * the newest messages with DROP_OLDEST, or a summary of everything that
+ * overflowed plus whatever arrived since with COALESCE.
+ *
+ * Usage: NotificationPushBenchmark [subscribers] [messages]
+ */
+public class NotificationPushBenchmark {
+    private static final int BUFFER_SIZE = 32;
+    private static final int INITIAL_DEMAND = 4;
+    private static final String FINAL = "All results released";
+    private static final String SUMMARY = "You have ";
+
+    public static void main(String[] args) throws InterruptedException {
+        int subscribers = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int messages = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        ExecutorService delivery = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "push-delivery");
+            thread.setDaemon(true);
+            return thread;
+        });
+        NotificationHub hub = new NotificationHub(delivery);
+
+        List<SlowClient> clients = new ArrayList<>(subscribers);
+        for (int i = 0; i < subscribers; i++) {
+            OverflowPolicy overflow = i % 2 == 0 ? OverflowPolicy.DROP_OLDEST : OverflowPolicy.COALESCE;
+            SlowClient client = new SlowClient(overflow);
+            hub.publisher(String.format("S%05d", i), BUFFER_SIZE, overflow).subscribe(client);
+            clients.add(client);
+        }
+
+        long[] publishNanos = new long[messages];
+        for (int m = 0; m < messages; m++) {
+            long start = System.nanoTime();
+            hub.publish(NotificationHub.CAMPUS, "Result batch " + m + " released");
+            publishNanos[m] = System.nanoTime() - start;
+        }
+        Arrays.sort(publishNanos);
+
+        // Stalled clients now catch up; each must receive at most its buffer more
+        for (SlowClient client : clients) {
+            client.caughtUp = true;
+            client.subscription.request(Long.MAX_VALUE);
+        }
+        String last = "Result batch " + (messages - 1) + " released";
+        hub.publish(NotificationHub.CAMPUS, FINAL);
+        for (SlowClient client : clients) {
+            if (!client.done.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Client did not receive the final message: " + client.overflow
+                        + " " + client.received);
+            }
+        }
+
+        int maxDropOldest = 0;
+        int maxCoalesce = 0;
+        for (SlowClient client : clients) {
+            if (client.overflow == OverflowPolicy.DROP_OLDEST) {
+                maxDropOldest = Math.max(maxDropOldest, client.received.size());
+                if (!client.received.contains(last)) {
+                    throw new IllegalStateException("DROP_OLDEST client missed the newest result: " + client.received);
+                }
+            } else {
+                maxCoalesce = Math.max(maxCoalesce, client.received.size());
+                if (client.received.stream().noneMatch(message -> message.startsWith(SUMMARY))) {
+                    throw new IllegalStateException("COALESCE client got no summary: " + client.received);
+                }
+            }
+        }
+        // First demand, at most one buffer of backlog, a possible summary and the final message
+        int bound = INITIAL_DEMAND + BUFFER_SIZE + 2;
+        if (maxDropOldest > bound || maxCoalesce > bound) {
+            throw new IllegalStateException("Buffer bound exceeded: " + maxDropOldest + ", " + maxCoalesce);
+        }
+        // The slowest publishes are the first few, which wake every client that still has demand
+        System.out.printf("%,d messages to %,d push subscribers: publish median %,d us, max %,d us%n",
+                messages, subscribers, publishNanos[messages / 2] / 1_000, publishNanos[messages - 1] / 1_000);
+        System.out.printf("Most delivered per client: DROP_OLDEST %d, COALESCE %d (buffer %d, first demand %d)%n",
+                maxDropOldest, maxCoalesce, BUFFER_SIZE, INITIAL_DEMAND);
+        delivery.shutdown();
+    }
+
+    private static final class SlowClient implements Flow.Subscriber<String> {
+        final OverflowPolicy overflow;
+        final Queue<String> received = new ConcurrentLinkedQueue<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile Flow.Subscription subscription;
+        volatile boolean caughtUp;
+
+        SlowClient(OverflowPolicy overflow) {
+            this.overflow = overflow;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(INITIAL_DEMAND);
+        }
+
+        @Override
+        public void onNext(String message) {
+            received.add(message);
+            // A COALESCE catch-up may fold the final message into its summary
+            if (message.equals(FINAL) || caughtUp && message.startsWith(SUMMARY)) {
+                done.countDown();
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.mycompany.ums;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Writable map layered over a read-only base, such as a snapshot view.
+ * Writes and removals go to an in-memory overlay; the base is never touched,
+ * so only the keys that change are ever materialized on the heap.
+ *
+ * Values that callers mutate in place (lists, nested maps) need a promote
+ * function: the first time such a value is read from the base it is copied
+ * into the overlay, and later reads return that copy.
+ *
+ * Reads are lock-free. Writes are serialized, which keeps the atomic
+ * ConcurrentMap operations simple; UMS writes are far rarer than reads.
+ */
+public final class OverlayMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+    private final Map<K, V> base;
+    private final UnaryOperator<V> promote;
+    private final ConcurrentMap<K, V> overlay = new ConcurrentHashMap<>();
+    private final Set<Object> removed = ConcurrentHashMap.newKeySet();
+
+    public OverlayMap(Map<K, V> base) {
+        this(base, null);
+    }
+
+    /**
+     * @param promote copies a base value into a mutable one, or null if values are immutable
+     */
+    public OverlayMap(Map<K, V> base, UnaryOperator<V> promote) {
+        if (base == null) {
+            throw new IllegalArgumentException("Base map cannot be null");
+        }
+        this.base = base;
+        this.promote = promote;
+    }
+
+    @Override
+    public V get(Object key) {
+        if (key == null) {
+            return null;
+        }
+        V value = overlay.get(key);
+        if (value != null || removed.contains(key)) {
+            return value;
+        }
+        value = base.get(key);
+        if (value == null || promote == null) {
+            return value;
+        }
+        return promote(key, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized V promote(Object key, V value) {
+        V current = overlay.get(key);
+        if (current != null || removed.contains(key)) {
+            return current;
+        }
+        V copy = promote.apply(value);
+        overlay.put((K) key, copy);
+        return copy;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public synchronized V put(K key, V value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        V previous = get(key);
+        overlay.put(key, value);
+        removed.remove(key);
+        return previous;
+    }
+
+    @Override
+    public synchronized V remove(Object key) {
+        V previous = get(key);
+        overlay.remove(key);
+        if (base.containsKey(key)) {
+            removed.add(key);
+        }
+        return previous;
+    }
+
+    @Override
+    public synchronized V putIfAbsent(K key, V value) {
+        V current = get(key);
+        return current != null ? current : put(key, value);
+    }
+
+    @Override
+    public synchronized boolean remove(Object key, Object value) {
+        if (value == null || !value.equals(get(key))) {
+            return false;
+        }
+        remove(key);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean replace(K key, V oldValue, V newValue) {
+        if (!Objects.equals(get(key), oldValue)) {
+            return false;
+        }
+        put(key, newValue);
+        return true;
+    }
+
+    @Override
+    public synchronized V replace(K key, V value) {
+        return get(key) != null ? put(key, value) : null;
+    }
+
+    @Override
+    public synchronized void clear() {
+        overlay.clear();
+        removed.addAll(base.keySet());
+    }
+
+    /**
+     * Overlay entries first, then base entries that were neither replaced
+     * nor removed. Walking the base decodes it, so this is O(base size).
+     */
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                Iterator<Entry<K, V>> overlayEntries = overlay.entrySet().iterator();
+                Iterator<Entry<K, V>> baseEntries = base.entrySet().iterator();
+                return new Iterator<>() {
+                    private Entry<K, V> next = advance();
+                    private K last;
+
+                    private Entry<K, V> advance() {
+                        if (overlayEntries.hasNext()) {
+                            return overlayEntries.next();
+                        }
+                        while (baseEntries.hasNext()) {
+                            Entry<K, V> entry = baseEntries.next();
+                            if (!overlay.containsKey(entry.getKey()) && !removed.contains(entry.getKey())) {
+                                return entry;
+                            }
+                        }
+                        return null;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next != null;
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        if (next == null) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<K, V> current = next;
+                        last = current.getKey();
+                        next = advance();
+                        return new SimpleImmutableEntry<>(current.getKey(), current.getValue());
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (last == null) {
+                            throw new IllegalStateException();
+                        }
+                        OverlayMap.this.remove(last);
+                        last = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                int size = 0;
+                for (Iterator<Entry<K, V>> it = iterator(); it.hasNext(); it.next()) {
+                    size++;
+                }
+                return size;
+            }
+        };
+    }
+}
@@ -0,0 +1,207 @@
+package com.mycompany.ums;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Prerequisite DAG keyed by interned course ordinals.
+ * Each course keeps its direct prerequisites plus a precomputed transitive
+ * closure bitset, so an eligibility check is a subset test against the
+ * student's completed-course bitset.
+ *
+ * Writes are serialized and rejected if they would introduce a cycle.
+ * Closures are rebuilt copy-on-write, so readers never see a half-updated graph.
+ */
+public final class PrerequisiteGraph {
+    private static final BitSet EMPTY = new BitSet();
+
+    private final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private final List<String> codes = new ArrayList<>();
+    private final List<BitSet> direct = new ArrayList<>();
+    private volatile BitSet[] closures = new BitSet[0];
+
+    /**
+     * Builds a graph from the legacy course -> prerequisite list map.
+     */
+    public static PrerequisiteGraph fromMap(Map<String, List<String>> prerequisites) {
+        if (prerequisites == null) {
+            throw new IllegalArgumentException("Prerequisites map cannot be null");
+        }
+        PrerequisiteGraph graph = new PrerequisiteGraph();
+        prerequisites.forEach(graph::setPrerequisites);
+        return graph;
+    }
+
+    /**
+     * Returns the ordinal for a course code, assigning one on first sight.
+     */
+    public int intern(String courseCode) {
+        String key = normalize(courseCode);
+        Integer ordinal = ordinals.get(key);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        synchronized (this) {
+            return internLocked(key);
+        }
+    }
+
+    /**
+     * Returns the ordinal for a course code, or -1 if the code has never been seen.
+     */
+    public int ordinalOf(String courseCode) {
+        if (courseCode == null || courseCode.isBlank()) {
+            return -1;
+        }
+        return ordinals.getOrDefault(normalize(courseCode), -1);
+    }
+
+    public synchronized String codeOf(int ordinal) {
+        return codes.get(ordinal);
+    }
+
+    public int size() {
+        return ordinals.size();
+    }
+
+    /**
+     * Replaces the direct prerequisites of a course.
+     *
+     * @throws IllegalArgumentException if the new edges would create a cycle
+     */
+    public synchronized void setPrerequisites(String courseCode, Collection<String> prerequisites) {
+        if (prerequisites == null) {
+            throw new IllegalArgumentException("Prerequisites cannot be null");
+        }
+        String key = normalize(courseCode);
+        List<String> prereqKeys = new ArrayList<>(prerequisites.size());
+        for (String prereq : prerequisites) {
+            prereqKeys.add(normalize(prereq));
+        }
+
+        // Validate before interning, so a rejected call leaves no new courses behind.
+        // A course not seen yet has no edges, so it can only close a cycle with itself.
+        Integer existing = ordinals.get(key);
+        BitSet[] current = closures;
+        for (String prereqKey : prereqKeys) {
+            Integer p = ordinals.get(prereqKey);
+            if (prereqKey.equals(key) || (existing != null && p != null && p < current.length
+                    && current[p].get(existing))) {
+                throw new IllegalArgumentException(String.format(
+                        "Prerequisite %s would create a cycle with %s", prereqKey, key));
+            }
+        }
+
+        int course = internLocked(key);
+        BitSet edges = new BitSet();
+        for (String prereqKey : prereqKeys) {
+            edges.set(internLocked(prereqKey));
+        }
+        direct.set(course, edges);
+        closures = computeClosures();
+    }
+
+    /**
+     * Direct prerequisites of a course as course codes.
+     */
+    public synchronized List<String> getPrerequisites(String courseCode) {
+        int course = ordinalOf(courseCode);
+        if (course < 0) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>();
+        BitSet edges = direct.get(course);
+        for (int p = edges.nextSetBit(0); p >= 0; p = edges.nextSetBit(p + 1)) {
+            result.add(codes.get(p));
+        }
+        return result;
+    }
+
+    /**
+     * Transitive closure of a course's prerequisites. The returned set must not be modified.
+     */
+    public BitSet closureOf(String courseCode) {
+        int course = ordinalOf(courseCode);
+        BitSet[] snapshot = closures;
+        return course < 0 || course >= snapshot.length ? EMPTY : snapshot[course];
+    }
+
+    /**
+     * Subset test: every transitive prerequisite of the course is set in {@code completed}.
+     */
+    public boolean isSatisfiedBy(String courseCode, BitSet completed) {
+        if (completed == null) {
+            throw new IllegalArgumentException("Completed courses cannot be null");
+        }
+        BitSet required = closureOf(courseCode);
+        for (int p = required.nextSetBit(0); p >= 0; p = required.nextSetBit(p + 1)) {
+            if (!completed.get(p)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Transitive prerequisites of a course that are missing from {@code completed}.
+     */
+    public List<String> missingPrerequisites(String courseCode, BitSet completed) {
+        BitSet missing = (BitSet) closureOf(courseCode).clone();
+        missing.andNot(completed);
+        List<String> result = new ArrayList<>();
+        synchronized (this) {
+            for (int p = missing.nextSetBit(0); p >= 0; p = missing.nextSetBit(p + 1)) {
+                result.add(codes.get(p));
+            }
+        }
+        return result;
+    }
+
+    private int internLocked(String key) {
+        Integer existing = ordinals.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        int ordinal = codes.size();
+        codes.add(key);
+        direct.add(new BitSet());
+        ordinals.put(key, ordinal);
+        return ordinal;
+    }
+
+    private BitSet[] computeClosures() {
+        int n = codes.size();
+        BitSet[] result = new BitSet[n];
+        for (int course = 0; course < n; course++) {
+            closureLocked(course, result);
+        }
+        return result;
+    }
+
+    private BitSet closureLocked(int course, BitSet[] memo) {
+        if (memo[course] != null) {
+            return memo[course];
+        }
+        BitSet closure = new BitSet();
+        BitSet edges = direct.get(course);
+        for (int p = edges.nextSetBit(0); p >= 0; p = edges.nextSetBit(p + 1)) {
+            closure.set(p);
+            closure.or(closureLocked(p, memo));
+        }
+        memo[course] = closure;
+        return closure;
+    }
+
+    private static String normalize(String courseCode) {
+        if (courseCode == null || courseCode.isBlank()) {
+            throw new IllegalArgumentException("Course code cannot be null or empty");
+        }
+        return courseCode.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -1,7 +1,9 @@
 package com.mycompany.ums;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
@@ -34,6 +36,33 @@ public final class PrerequisiteManager {
         System.out.println(String.format(SUCCESS_MSG, courseCode));
     }
 
+    /**
+     * Sets prerequisites for a course in the prerequisite graph.
+     * Rejects the input if it would create a prerequisite cycle.
+     */
+    public static void setPrerequisites(PrerequisiteGraph graph,
+                                      List<Course> courses,
+                                      Scanner scanner) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Prerequisite graph cannot be null");
+        }
+        validateInput(Collections.emptyMap(), courses, scanner);
+
+        System.out.println(SET_PREREQ_HEADER);
+        Course.viewAllCourses(courses);
+
+        String courseCode = promptForValidCourseCode(scanner, courses);
+        List<String> prereqs = collectPrerequisites(scanner);
+
+        try {
+            graph.setPrerequisites(courseCode, prereqs);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Prerequisites rejected: " + e.getMessage());
+            return;
+        }
+        System.out.println(String.format(SUCCESS_MSG, courseCode));
+    }
+
     /**
      * Checks if a student has met all prerequisites for a course.
      */
@@ -53,6 +82,40 @@ public final class PrerequisiteManager {
         return hasCompletedAllPrerequisites(required, completed);
     }
 
+    /**
+     * Checks prerequisites, including transitive ones, as a bitset subset test.
+     *
+     * @param completedCourses course ordinals (from the same graph) the student has completed
+     */
+    public static boolean checkPrerequisites(String courseCode,
+                                           PrerequisiteGraph graph,
+                                           BitSet completedCourses) {
+        if (courseCode == null || courseCode.isBlank()) {
+            throw new IllegalArgumentException("Course code cannot be null or empty");
+        }
+        if (graph == null || completedCourses == null) {
+            throw new IllegalArgumentException("Graph and completed courses cannot be null");
+        }
+        return graph.isSatisfiedBy(courseCode, completedCourses);
+    }
+
+    /**
+     * Checks prerequisites against the student's indexed academic history.
+     * The index must share the graph's course ordinals.
+     */
+    public static boolean checkPrerequisites(String studentId,
+                                           String courseCode,
+                                           PrerequisiteGraph graph,
+                                           AcademicHistoryIndex history) {
+        if (studentId == null || studentId.isBlank()) {
+            throw new IllegalArgumentException("Student ID cannot be null or empty");
+        }
+        if (history == null || history.courses() != graph) {
+            throw new IllegalArgumentException("History index must be built on the same prerequisite graph");
+        }
+        return checkPrerequisites(courseCode, graph, history.completedCourses(studentId));
+    }
+
     private static void validateInput(Map<String, List<String>> prerequisites,
                                     List<Course> courses,
                                     Scanner scanner) {
@@ -108,8 +171,15 @@ public final class PrerequisiteManager {
 
     private static boolean hasCompletedAllPrerequisites(List<String> required,
                                                       List<String> completed) {
-        return required.stream()
-                      .allMatch(prereq -> completed.stream()
-                                                   .anyMatch(course -> course.startsWith(prereq)));
+        // Parse each history entry once, then do exact lookups; the latest attempt at a course decides
+        HashSet<String> completedCodes = new HashSet<>();
+        for (String entry : completed) {
+            if (AcademicHistoryIndex.isPassing(entry)) {
+                completedCodes.add(AcademicHistoryIndex.courseCodeOf(entry));
+            } else {
+                completedCodes.remove(AcademicHistoryIndex.courseCodeOf(entry));
+            }
+        }
+        return completedCodes.containsAll(required);
     }
 }
\ No newline at end of file
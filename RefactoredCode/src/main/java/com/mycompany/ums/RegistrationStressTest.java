@@ -0,0 +1,219 @@
+package com.mycompany.ums;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Multi-threaded stress test for CourseRegistrationEngine.
+ *
+ * Many students race for a small number of oversubscribed sections with
+ * batched add requests and random drops. After each run it checks that no
+ * section is overbooked and that seat counters match the enrollment lists,
+ * then reports throughput for 1..N threads so scaling can be compared.
+ * A final phase races concurrent requests for the same students against a
+ * credit limit and checks that no student ends up over it, and the last
+ * ones check credit loads when a section opens around enrollments.
+ */
+public class RegistrationStressTest {
+    private static final int SECTIONS = 200;
+    private static final int CAPACITY = 150;
+    private static final int STUDENTS = 60_000;
+    private static final int COURSES_PER_REQUEST = 4;
+    private static final int DROP_PERCENT = 10;
+    private static final int MAX_CREDITS = 12;
+    private static final int CREDIT_LIMIT_STUDENTS = 2_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("Stress test: %d students, %d sections x %d seats, %d cores%n",
+                STUDENTS, SECTIONS, CAPACITY, cores);
+
+        run(1, false); // warm-up
+        double baseline = 0;
+        // Always run some contended configurations, even on small machines
+        int maxThreads = Math.max(4, cores);
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double opsPerSecond = run(threads, true);
+            if (threads == 1) {
+                baseline = opsPerSecond;
+            }
+            System.out.printf("  threads=%-3d %,12.0f requests/s  speedup x%.2f%n",
+                    threads, opsPerSecond, opsPerSecond / baseline);
+        }
+        runCreditLimit(maxThreads);
+        runLateSection();
+        runDropAfterSectionOpens();
+        System.out.println("Credit limit check passed");
+    }
+
+    // A load summed before a section opened must pick up that section's credits afterwards
+    private static void runLateSection() {
+        ConcurrentHashMap<String, List<String>> enrolled = new ConcurrentHashMap<>();
+        enrolled.put("S0", List.of("LATE"));
+        CourseRegistrationEngine engine = new CourseRegistrationEngine(enrolled, studentId -> 6);
+        engine.registerSection("EARLY", 10, 3);
+        if (engine.getCreditLoad("S0") != 0) {
+            throw new IllegalStateException("Unopened section should carry no credits yet");
+        }
+        engine.registerSection("LATE", 10, 4);
+        if (engine.getCreditLoad("S0") != 4) {
+            throw new IllegalStateException("Load should include the late section: " + engine.getCreditLoad("S0"));
+        }
+        if (engine.enroll("S0", "EARLY").status() != RegistrationStatus.CREDIT_LIMIT_EXCEEDED) {
+            throw new IllegalStateException("Late section's credits should count against the limit");
+        }
+    }
+
+    // A drop with a stale cached load must subtract the dropped course once, not twice
+    private static void runDropAfterSectionOpens() {
+        CourseRegistrationEngine engine = new CourseRegistrationEngine(new ConcurrentHashMap<>(), studentId -> 6);
+        engine.registerSection("A", 10, 3);
+        engine.registerSection("B", 10, 3);
+        engine.registerSection("D", 10, 4);
+        if (engine.enrollAll("S1", List.of("A", "B")).status() != RegistrationStatus.ENROLLED) {
+            throw new IllegalStateException("S1 should be enrolled in A and B");
+        }
+        engine.registerSection("C", 10, 3); // leaves S1's cached load stale
+        engine.drop("S1", "B");
+        if (engine.getCreditLoad("S1") != 3) {
+            throw new IllegalStateException("Load after the drop should be 3: " + engine.getCreditLoad("S1"));
+        }
+        if (engine.enroll("S1", "D").status() != RegistrationStatus.CREDIT_LIMIT_EXCEEDED) {
+            throw new IllegalStateException("S1 should not register past the credit limit after a drop");
+        }
+    }
+
+    // Every thread tries to add every section for the same students; only the limit may stop them
+    private static void runCreditLimit(int threads) throws InterruptedException {
+        ConcurrentHashMap<String, List<String>> enrolled = new ConcurrentHashMap<>();
+        CourseRegistrationEngine engine = new CourseRegistrationEngine(enrolled, studentId -> MAX_CREDITS);
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String code = "L" + i;
+            codes.add(code);
+            engine.registerSection(code, CREDIT_LIMIT_STUDENTS, 2 + i % 3);
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            pool.execute(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                awaitQuietly(start);
+                for (int s = 0; s < CREDIT_LIMIT_STUDENTS; s++) {
+                    String studentId = "S" + s;
+                    engine.enroll(studentId, codes.get(random.nextInt(codes.size())));
+                    if (random.nextInt(100) < DROP_PERCENT) {
+                        engine.drop(studentId, codes.get(random.nextInt(codes.size())));
+                    }
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        pool.awaitTermination(5, TimeUnit.MINUTES);
+
+        enrolled.forEach((studentId, list) -> {
+            int credits = list.stream().mapToInt(engine::getCreditHours).sum();
+            if (credits > MAX_CREDITS) {
+                throw new IllegalStateException("Over credit limit for " + studentId + ": " + credits);
+            }
+            if (credits != engine.getCreditLoad(studentId)) {
+                throw new IllegalStateException("Credit load mismatch for " + studentId + ": "
+                        + engine.getCreditLoad(studentId) + " vs " + credits);
+            }
+        });
+    }
+
+    private static double run(int threads, boolean verify) throws InterruptedException {
+        ConcurrentHashMap<String, List<String>> enrolled = new ConcurrentHashMap<>();
+        CourseRegistrationEngine engine = new CourseRegistrationEngine(enrolled);
+        List<String> codes = new ArrayList<>(SECTIONS);
+        for (int i = 0; i < SECTIONS; i++) {
+            String code = "C" + i;
+            codes.add(code);
+            engine.registerSection(code, CAPACITY);
+        }
+
+        AtomicInteger nextStudent = new AtomicInteger();
+        AtomicInteger requests = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            pool.execute(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                awaitQuietly(start);
+                int s;
+                while ((s = nextStudent.getAndIncrement()) < STUDENTS) {
+                    String studentId = "S" + s;
+                    List<String> batch = new ArrayList<>(COURSES_PER_REQUEST);
+                    while (batch.size() < COURSES_PER_REQUEST) {
+                        String code = codes.get(random.nextInt(SECTIONS));
+                        if (!batch.contains(code)) {
+                            batch.add(code);
+                        }
+                    }
+                    RegistrationResult result = engine.enrollAll(studentId, batch);
+                    requests.incrementAndGet();
+                    if (result.isSuccess() && random.nextInt(100) < DROP_PERCENT) {
+                        engine.drop(studentId, batch.get(0));
+                        requests.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        pool.shutdown();
+        pool.awaitTermination(5, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - begin;
+
+        if (verify) {
+            verify(engine, enrolled, codes);
+        }
+        return requests.get() / (elapsed / 1e9);
+    }
+
+    private static void verify(CourseRegistrationEngine engine,
+                               Map<String, List<String>> enrolled,
+                               List<String> codes) {
+        Map<String, Integer> actual = new HashMap<>();
+        enrolled.forEach((studentId, list) -> {
+            // All-or-nothing: a full batch, or a full batch minus one drop
+            if (list.size() != COURSES_PER_REQUEST && list.size() != COURSES_PER_REQUEST - 1) {
+                throw new IllegalStateException("Partial enrollment for " + studentId + ": " + list);
+            }
+            list.forEach(code -> actual.merge(code, 1, Integer::sum));
+        });
+        for (String code : codes) {
+            int count = actual.getOrDefault(code, 0);
+            if (count > CAPACITY) {
+                throw new IllegalStateException("Overbooked " + code + ": " + count + " > " + CAPACITY);
+            }
+            if (count != engine.getSeatsTaken(code)) {
+                throw new IllegalStateException("Seat counter mismatch for " + code + ": "
+                        + engine.getSeatsTaken(code) + " vs " + count);
+            }
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.mycompany.ums;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-course FIFO waitlists with asynchronous promotion.
+ *
+ * Joining is a lock-free enqueue. Whenever the engine frees a seat, a
+ * promotion task for that course is scheduled on the executor; at most one
+ * task per course is queued or running, so bursts of drops coalesce instead
+ * of flooding the executor. The task re-checks eligibility (prerequisites,
+ * credit limit) for each waiting student in order and enrolls the first
+ * eligible ones until the section is full again. Ineligible students, and
+ * students whose eligibility check fails, are removed from the list and
+ * reported to the listener as NOT_ELIGIBLE; students the engine rejects are
+ * reported with the engine's result.
+ *
+ * Every join takes a new ticket. Leaving only drops the student's current
+ * ticket, so the old queue entry is skipped lazily and a student who leaves
+ * and rejoins goes to the back of the line.
+ */
+public final class RegistrationWaitlist {
+    private final CourseRegistrationEngine engine;
+    private final EnrollmentEligibility eligibility;
+    private final PromotionListener listener;
+    private final Executor promoter;
+    private final ConcurrentMap<String, CourseQueue> queues = new ConcurrentHashMap<>();
+
+    public RegistrationWaitlist(CourseRegistrationEngine engine,
+                                EnrollmentEligibility eligibility,
+                                PromotionListener listener,
+                                Executor promoter) {
+        if (engine == null || eligibility == null || listener == null || promoter == null) {
+            throw new IllegalArgumentException("Dependencies cannot be null");
+        }
+        this.engine = engine;
+        this.eligibility = eligibility;
+        this.listener = listener;
+        this.promoter = promoter;
+        engine.addSeatReleaseListener(this::schedulePromotion);
+    }
+
+    /**
+     * Adds the student to the end of the course's waitlist.
+     *
+     * @return false if the student is already waiting for this course
+     */
+    public boolean join(String studentId, String courseCode) {
+        if (studentId == null || studentId.isBlank()) {
+            throw new IllegalArgumentException("Student ID cannot be null or empty");
+        }
+        if (!engine.isSectionOpen(courseCode)) {
+            throw new IllegalArgumentException("Course is not open for registration: " + courseCode);
+        }
+        CourseQueue queue = queues.computeIfAbsent(courseCode, code -> new CourseQueue());
+        Ticket ticket = new Ticket(studentId, queue.tickets.incrementAndGet());
+        if (queue.waiting.putIfAbsent(studentId, ticket.number()) != null) {
+            return false;
+        }
+        queue.order.offerLast(ticket);
+        // A seat may already be free, e.g. released before anyone was waiting
+        schedulePromotion(courseCode);
+        return true;
+    }
+
+    /**
+     * Removes the student from the waitlist. The queue entry is skipped lazily.
+     */
+    public boolean leave(String studentId, String courseCode) {
+        CourseQueue queue = queues.get(courseCode);
+        return queue != null && queue.waiting.remove(studentId) != null;
+    }
+
+    public boolean isWaiting(String studentId, String courseCode) {
+        CourseQueue queue = queues.get(courseCode);
+        return queue != null && queue.waiting.containsKey(studentId);
+    }
+
+    public int size(String courseCode) {
+        CourseQueue queue = queues.get(courseCode);
+        return queue == null ? 0 : queue.waiting.size();
+    }
+
+    private void schedulePromotion(String courseCode) {
+        CourseQueue queue = queues.get(courseCode);
+        if (queue == null || queue.waiting.isEmpty()) {
+            return;
+        }
+        if (queue.scheduled.compareAndSet(false, true)) {
+            promoter.execute(() -> promote(courseCode, queue));
+        }
+    }
+
+    private void promote(String courseCode, CourseQueue queue) {
+        try {
+            while (engine.getSeatsAvailable(courseCode) > 0) {
+                Ticket ticket = queue.order.pollFirst();
+                if (ticket == null) {
+                    break;
+                }
+                String studentId = ticket.studentId();
+                if (!Long.valueOf(ticket.number()).equals(queue.waiting.get(studentId))) {
+                    continue; // left the waitlist, and maybe rejoined further back
+                }
+                if (!isEligible(studentId, courseCode)) {
+                    queue.waiting.remove(studentId, ticket.number());
+                    listener.onSkipped(studentId, courseCode,
+                            RegistrationResult.failed(RegistrationStatus.NOT_ELIGIBLE, courseCode));
+                    continue;
+                }
+                RegistrationResult result = engine.enroll(studentId, courseCode);
+                if (result.status() == RegistrationStatus.COURSE_FULL) {
+                    // Lost the seat to a direct registration; keep our place in line
+                    queue.order.offerFirst(ticket);
+                    break;
+                }
+                queue.waiting.remove(studentId, ticket.number());
+                if (result.isSuccess()) {
+                    listener.onPromoted(studentId, courseCode);
+                } else {
+                    listener.onSkipped(studentId, courseCode, result);
+                }
+            }
+        } finally {
+            queue.scheduled.set(false);
+        }
+        // A seat may have been freed after the loop gave up but before the flag was cleared
+        if (engine.getSeatsAvailable(courseCode) > 0) {
+            schedulePromotion(courseCode);
+        }
+    }
+
+    // A failing check counts as ineligible; the student has already left the queue order
+    private boolean isEligible(String studentId, String courseCode) {
+        try {
+            return eligibility.isEligible(studentId, courseCode);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private record Ticket(String studentId, long number) {
+    }
+
+    private static final class CourseQueue {
+        final Deque<Ticket> order = new ConcurrentLinkedDeque<>();
+        // Student ID to the ticket of their current join
+        final ConcurrentMap<String, Long> waiting = new ConcurrentHashMap<>();
+        final AtomicLong tickets = new AtomicLong();
+        final AtomicBoolean scheduled = new AtomicBoolean();
+    }
+}
+
+/**
+ * Re-run at promotion time, since standing may change while a student waits.
+ */
+@FunctionalInterface
+interface EnrollmentEligibility {
+    boolean isEligible(String studentId, String courseCode);
+}
+
+/**
+ * Callbacks from the promoter thread.
+ */
+interface PromotionListener {
+    void onPromoted(String studentId, String courseCode);
+
+    /**
+     * The student was removed from the waitlist without a seat.
+     *
+     * @param reason the failed result, e.g. ALREADY_ENROLLED, TIMETABLE_CLASH or NOT_ELIGIBLE
+     */
+    default void onSkipped(String studentId, String courseCode, RegistrationResult reason) {
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Map;
 interface ResultView {
     void showHeader();
     void displayResults(Map<String, Double> results);
+    void displayResults(ResultCursor results);
     void showNoResultsMessage();
 }
 
@@ -20,6 +21,7 @@ class ConsoleResultView implements ResultView {
     private static final String NO_RESULTS_MSG = "No results available yet.";
     private static final String RESULTS_FORMAT = "%-10s %-5s\n";
     private static final String RESULT_ROW_FORMAT = "%-10s %-5.2f\n";
+    private static final String SEMESTER_FORMAT = "Semester %d\n";
     private static final String COURSE_HEADER = "Course";
     private static final String GRADE_HEADER = "Grade";
 
@@ -34,6 +36,19 @@ class ConsoleResultView implements ResultView {
         results.forEach((course, grade) -> System.out.printf(RESULT_ROW_FORMAT, course, grade));
     }
 
+    // Rows arrive ordered by semester; a heading is printed whenever it changes
+    @Override
+    public void displayResults(ResultCursor results) {
+        int semester = SemesterResultStore.UNSPECIFIED_SEMESTER;
+        while (results.next()) {
+            if (results.semester() != semester) {
+                semester = results.semester();
+                System.out.printf(SEMESTER_FORMAT, semester);
+            }
+            System.out.printf(RESULT_ROW_FORMAT, results.courseCode(), results.gradePoints());
+        }
+    }
+
     @Override
     public void showNoResultsMessage() {
         System.out.println(NO_RESULTS_MSG);
@@ -91,4 +106,26 @@ public final class ResultManager {
             view.displayResults(studentResults);
         }
     }
+
+    /**
+     * Same output from the off-heap store; rows are streamed through a cursor.
+     */
+    public void viewResults(String studentId, SemesterResultStore semesterResults) {
+        if (studentId == null || studentId.isBlank()) {
+            throw new IllegalArgumentException("Student ID cannot be null or empty");
+        }
+        if (semesterResults == null) {
+            throw new IllegalArgumentException("Results store cannot be null");
+        }
+
+        ResultCursor studentResults = semesterResults.cursor(studentId);
+
+        view.showHeader();
+
+        if (studentResults.isEmpty()) {
+            view.showNoResultsMessage();
+        } else {
+            view.displayResults(studentResults);
+        }
+    }
 }
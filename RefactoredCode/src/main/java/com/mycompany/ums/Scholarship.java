@@ -63,6 +63,7 @@ class ScholarshipDisplay implements ScholarshipDisplayInterface {
  */
 interface ScholarshipCalculatorInterface {
     double getGPA(String studentId, Map<String, Double> studentGPAs);
+    double getGPA(String studentId, GpaStore studentGPAs);
     String determineScholarshipMessage(double gpa);
 }
 
@@ -75,6 +76,11 @@ class ScholarshipCalculator implements ScholarshipCalculatorInterface {
         return studentGPAs.getOrDefault(studentId, 0.0);
     }
 
+    @Override
+    public double getGPA(String studentId, GpaStore studentGPAs) {
+        return studentGPAs.getGpa(studentId, 0.0);
+    }
+
     @Override
     public String determineScholarshipMessage(double gpa) {
         if (gpa >= 3.5) {
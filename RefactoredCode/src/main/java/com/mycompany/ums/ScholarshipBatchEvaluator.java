@@ -0,0 +1,282 @@
+package com.mycompany.ums;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Term-end scholarship decisions for every student at once.
+ *
+ * The GPA map is snapshotted into an array and split with fork/join; each
+ * leaf evaluates its slice against a compiled tier table and hands the
+ * decisions to the sink as one batch. Nothing is printed per student, and the
+ * returned report carries per-tier counts and throughput.
+ */
+public final class ScholarshipBatchEvaluator {
+    public static final int DEFAULT_LEAF_SIZE = 8192;
+
+    private final GpaBandTable<ScholarshipAward> tiers;
+    private final ForkJoinPool pool;
+    private final int leafSize;
+
+    public ScholarshipBatchEvaluator() {
+        this(ScholarshipAward.defaultTable(), ForkJoinPool.commonPool(), DEFAULT_LEAF_SIZE);
+    }
+
+    public ScholarshipBatchEvaluator(GpaBandTable<ScholarshipAward> tiers, ForkJoinPool pool, int leafSize) {
+        if (tiers == null || pool == null) {
+            throw new IllegalArgumentException("Tier table and pool cannot be null");
+        }
+        if (leafSize <= 0) {
+            throw new IllegalArgumentException("Leaf size must be positive");
+        }
+        this.tiers = tiers;
+        this.pool = pool;
+        this.leafSize = leafSize;
+    }
+
+    /**
+     * Evaluates every entry of the map. The sink is called concurrently from
+     * pool threads, once per leaf batch, and must be thread-safe.
+     */
+    public ScholarshipBatchReport evaluateAll(Map<String, Double> studentGPAs, ScholarshipDecisionSink sink) {
+        if (studentGPAs == null) {
+            throw new IllegalArgumentException("Student GPAs map cannot be null");
+        }
+        return evaluateAll(studentGPAs.entrySet().stream(), sink);
+    }
+
+    /**
+     * Collects the whole stream into an array before evaluating, so the work
+     * splits evenly; it saves the caller building a map, not memory.
+     */
+    @SuppressWarnings("unchecked")
+    public ScholarshipBatchReport evaluateAll(Stream<Map.Entry<String, Double>> studentGPAs,
+                                              ScholarshipDecisionSink sink) {
+        if (studentGPAs == null) {
+            throw new IllegalArgumentException("Student GPAs cannot be null");
+        }
+        if (sink == null) {
+            throw new IllegalArgumentException("Sink cannot be null");
+        }
+        long start = System.nanoTime();
+        Map.Entry<String, Double>[] entries = studentGPAs.toArray(Map.Entry[]::new);
+        AtomicLongArray counts = new AtomicLongArray(ScholarshipAward.values().length);
+        LongAdder invalid = new LongAdder();
+        LongAdder batches = new LongAdder();
+        pool.invoke(new EvaluateTask(entries, 0, entries.length, sink, counts, invalid, batches));
+        return new ScholarshipBatchReport(entries.length, toMap(counts), invalid.sum(), batches.sum(),
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Decision for a single GPA; null, NaN and GPAs outside [0.0, 4.0] or the
+     * tier table get no award.
+     */
+    public ScholarshipDecision evaluate(String studentId, Double gpa) {
+        if (isInvalid(gpa)) {
+            return new ScholarshipDecision(studentId, gpa == null ? Double.NaN : gpa, ScholarshipAward.NONE);
+        }
+        return new ScholarshipDecision(studentId, gpa, tiers.lookup(gpa));
+    }
+
+    private boolean isInvalid(Double gpa) {
+        return gpa == null || gpa.isNaN() || gpa < GpaBandTable.MIN_GPA || gpa > GpaBandTable.MAX_GPA
+                || !tiers.covers(gpa);
+    }
+
+    private static Map<ScholarshipAward, Long> toMap(AtomicLongArray counts) {
+        Map<ScholarshipAward, Long> result = new EnumMap<>(ScholarshipAward.class);
+        for (ScholarshipAward award : ScholarshipAward.values()) {
+            result.put(award, counts.get(award.ordinal()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private final class EvaluateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Map.Entry<String, Double>[] entries;
+        private final int from;
+        private final int to;
+        private final ScholarshipDecisionSink sink;
+        private final AtomicLongArray counts;
+        private final LongAdder invalid;
+        private final LongAdder batches;
+
+        EvaluateTask(Map.Entry<String, Double>[] entries, int from, int to, ScholarshipDecisionSink sink,
+                     AtomicLongArray counts, LongAdder invalid, LongAdder batches) {
+            this.entries = entries;
+            this.from = from;
+            this.to = to;
+            this.sink = sink;
+            this.counts = counts;
+            this.invalid = invalid;
+            this.batches = batches;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > leafSize) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new EvaluateTask(entries, from, mid, sink, counts, invalid, batches),
+                          new EvaluateTask(entries, mid, to, sink, counts, invalid, batches));
+                return;
+            }
+            List<ScholarshipDecision> batch = new ArrayList<>(to - from);
+            int[] local = new int[counts.length()];
+            int localInvalid = 0;
+            for (int i = from; i < to; i++) {
+                Double gpa = entries[i].getValue();
+                if (isInvalid(gpa)) {
+                    localInvalid++;
+                }
+                ScholarshipDecision decision = evaluate(entries[i].getKey(), gpa);
+                local[decision.award().ordinal()]++;
+                batch.add(decision);
+            }
+            // Merge once per leaf so workers do not contend per student
+            for (int award = 0; award < local.length; award++) {
+                if (local[award] != 0) {
+                    counts.addAndGet(award, local[award]);
+                }
+            }
+            invalid.add(localInvalid);
+            batches.increment();
+            sink.accept(Collections.unmodifiableList(batch));
+        }
+    }
+
+    // Throughput demo: one million synthetic students, sequential pool vs all cores
+    public static void main(String[] args) {
+        Map<String, Double> studentGPAs = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 1_000_000; i++) {
+            studentGPAs.put(String.format("S%07d", i), Math.round(random.nextDouble(0.0, 4.0) * 100) / 100.0);
+        }
+
+        LongAdder awarded = new LongAdder();
+        ScholarshipDecisionSink sink = batch -> batch.forEach(d -> {
+            if (d.award() != ScholarshipAward.NONE) {
+                awarded.increment();
+            }
+        });
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ScholarshipBatchEvaluator sequential =
+                new ScholarshipBatchEvaluator(ScholarshipAward.defaultTable(), single, DEFAULT_LEAF_SIZE);
+        ScholarshipBatchEvaluator parallel = new ScholarshipBatchEvaluator();
+        for (int warmup = 0; warmup < 5; warmup++) {
+            sequential.evaluateAll(studentGPAs, sink);
+            parallel.evaluateAll(studentGPAs, sink);
+        }
+        System.out.println("1 thread:   " + sequential.evaluateAll(studentGPAs, sink));
+        System.out.println("all cores:  " + parallel.evaluateAll(studentGPAs, sink));
+        single.shutdown();
+    }
+}
+
+/**
+ * Scholarship tiers with their minimum GPA and award percentage.
+ */
+enum ScholarshipAward {
+    FULL(3.8, 100, "Congratulations! You qualify for 100% scholarship."),
+    HALF(3.5, 50, "You qualify for 50% scholarship."),
+    QUARTER(3.0, 25, "You qualify for 25% scholarship."),
+    NONE(Double.NEGATIVE_INFINITY, 0, "You currently don't qualify for any scholarships.");
+
+    private final double minGpa;
+    private final int awardPercent;
+    private final String message;
+
+    ScholarshipAward(double minGpa, int awardPercent, String message) {
+        this.minGpa = minGpa;
+        this.awardPercent = awardPercent;
+        this.message = message;
+    }
+
+    public double minGpa() {
+        return minGpa;
+    }
+
+    public int awardPercent() {
+        return awardPercent;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    /**
+     * The tiers as bands; ScholarshipCalculator's messages use the same table.
+     */
+    static GpaBandTable<ScholarshipAward> defaultTable() {
+        GpaBandTable.Builder<ScholarshipAward> builder = new GpaBandTable.Builder<>();
+        ScholarshipAward[] awards = values();
+        // Declared from the highest tier down, so each band ends where the next tier up starts
+        double upper = Double.POSITIVE_INFINITY;
+        for (ScholarshipAward award : awards) {
+            builder.band(award.minGpa, upper, award);
+            upper = award.minGpa;
+        }
+        return builder.build();
+    }
+
+    /**
+     * First tier whose minimum the GPA reaches, walking from the top; NaN gets NONE.
+     */
+    static ScholarshipAward walk(double gpa) {
+        for (ScholarshipAward award : values()) {
+            if (gpa >= award.minGpa) {
+                return award;
+            }
+        }
+        return NONE;
+    }
+}
+
+/**
+ * One student's decision. Tier and award percentage come from the award.
+ */
+record ScholarshipDecision(String studentId, double gpa, ScholarshipAward award) {
+    public String tier() {
+        return award.name();
+    }
+
+    public int awardPercent() {
+        return award.awardPercent();
+    }
+}
+
+/**
+ * Receives decisions in batches, possibly from several threads at once.
+ */
+@FunctionalInterface
+interface ScholarshipDecisionSink {
+    void accept(List<ScholarshipDecision> batch);
+}
+
+/**
+ * Per-tier counts and throughput of one batch run.
+ */
+record ScholarshipBatchReport(int students, Map<ScholarshipAward, Long> awards, long invalidGpas,
+                              long batches, long elapsedNanos) {
+    public double studentsPerSecond() {
+        return elapsedNanos == 0 ? 0 : students / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Evaluated %,d students in %d ms (%,.0f students/s, %d batches), awards %s, invalid GPAs %d",
+                students, elapsedNanos / 1_000_000, studentsPerSecond(), batches, awards, invalidGpas);
+    }
+}
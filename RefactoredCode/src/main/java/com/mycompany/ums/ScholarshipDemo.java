@@ -7,6 +7,7 @@ import java.util.Map;
  */
 interface ScholarshipCalculatorInterface {
     double getGPA(String studentId, Map<String, Double> studentGPAs);
+    double getGPA(String studentId, GpaStore studentGPAs);
     String determineScholarshipMessage(double gpa);
 }
 
@@ -29,6 +30,11 @@ class ScholarshipCalculator implements ScholarshipCalculatorInterface {
         return studentGPAs.getOrDefault(studentId, DEFAULT_GPA);
     }
 
+    @Override
+    public double getGPA(String studentId, GpaStore studentGPAs) {
+        return studentGPAs.getGpa(studentId, DEFAULT_GPA);
+    }
+
     @Override
     public String determineScholarshipMessage(double gpa) {
         for (ScholarshipTier tier : TIERS) {
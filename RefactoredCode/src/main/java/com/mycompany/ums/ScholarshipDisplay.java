@@ -43,6 +43,7 @@ class ConsoleScholarshipDisplay implements ScholarshipDisplayInterface {
  */
 interface ScholarshipCalculatorInterface {
     double getGPA(String studentId, Map<String, Double> studentGPAs);
+    double getGPA(String studentId, GpaStore studentGPAs);
     String determineScholarshipMessage(double gpa);
 }
 
@@ -52,37 +53,30 @@ interface ScholarshipCalculatorInterface {
 class ScholarshipCalculator implements ScholarshipCalculatorInterface {
     private static final double DEFAULT_GPA = 0.0;
 
-    private static final ScholarshipTier[] TIERS = {
-        new ScholarshipTier(3.8, "Congratulations! You qualify for 100% scholarship."),
-        new ScholarshipTier(3.5, "You qualify for 50% scholarship."),
-        new ScholarshipTier(3.0, "You qualify for 25% scholarship.")
-    };
+    // The award tiers compiled into contiguous bands, so a lookup is a binary search instead of a tier walk
+    private static final GpaBandTable<ScholarshipAward> TIERS = ScholarshipAward.defaultTable();
 
     @Override
     public double getGPA(String studentId, Map<String, Double> studentGPAs) {
         return studentGPAs.getOrDefault(studentId, DEFAULT_GPA);
     }
 
+    @Override
+    public double getGPA(String studentId, GpaStore studentGPAs) {
+        return studentGPAs.getGpa(studentId, DEFAULT_GPA);
+    }
+
     @Override
     public String determineScholarshipMessage(double gpa) {
-        for (ScholarshipTier tier : TIERS) {
-            if (gpa >= tier.threshold()) {
-                return tier.message();
-            }
+        if (TIERS.covers(gpa)) {
+            return TIERS.lookup(gpa).message();
         }
-        return "You currently don't qualify for any scholarships.";
+        return walkTiers(gpa);
     }
 
-    private record ScholarshipTier(double threshold, String message) {
-        ScholarshipTier {
-            Objects.requireNonNull(message, "Message cannot be null");
-            if (threshold < 0) {
-                throw new IllegalArgumentException("Threshold cannot be negative");
-            }
-            if (message.isBlank()) {
-                throw new IllegalArgumentException("Message cannot be empty");
-            }
-        }
+    // NaN and +Infinity keep the original tier-walk semantics
+    static String walkTiers(double gpa) {
+        return ScholarshipAward.walk(gpa).message();
     }
 }
 
@@ -107,9 +101,22 @@ public final class ScholarshipDisplay {
             throw new IllegalArgumentException("Student GPAs map cannot be null");
         }
 
-        display.showHeader();
+        show(calculator.getGPA(studentId, studentGPAs));
+    }
+
+    public void checkScholarship(String studentId, GpaStore studentGPAs) {
+        if (studentId == null || studentId.isBlank()) {
+            throw new IllegalArgumentException("Student ID cannot be null or empty");
+        }
+        if (studentGPAs == null) {
+            throw new IllegalArgumentException("Student GPA store cannot be null");
+        }
 
-        double gpa = calculator.getGPA(studentId, studentGPAs);
+        show(calculator.getGPA(studentId, studentGPAs));
+    }
+
+    private void show(double gpa) {
+        display.showHeader();
         display.showGPA(gpa);
 
         String message = calculator.determineScholarshipMessage(gpa);
@@ -132,5 +139,10 @@ public final class ScholarshipDisplay {
         List.of("S001", "S002", "S003").forEach(id -> {
             scholarship.checkScholarship(id, studentGPAs);
         });
+
+        // Same lookups against the primitive store
+        GpaStore store = new ColumnarGpaStore(new StudentOrdinals());
+        studentGPAs.forEach(store::setGpa);
+        scholarship.checkScholarship("S001", store);
     }
 }
@@ -0,0 +1,346 @@
+package com.mycompany.ums;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Off-heap semester results: one fixed-width record per (student, course,
+ * semester) grade, instead of a map of maps of boxed doubles.
+ *
+ * Each record is 16 bytes in a direct ByteBuffer:
+ * <pre>
+ *   0  int    student ordinal
+ *   4  short  course ordinal
+ *   6  short  semester
+ *   8  double grade points
+ * </pre>
+ * Records are grouped by student and ordered by semester within a student,
+ * and an on-heap int[] gives each student's first record, so a student's
+ * results are one contiguous run read through a {@link ResultCursor}.
+ * Buffers are split into 1 GB chunks, so the store is not limited by the
+ * 2 GB size of a single ByteBuffer.
+ *
+ * Stores are immutable once built and safe to read from any thread; build a
+ * new one with {@link Builder} to publish changes.
+ */
+public final class SemesterResultStore {
+    static final int RECORD_BYTES = 16;
+    private static final int STUDENT_OFFSET = 0;
+    private static final int COURSE_OFFSET = 4;
+    private static final int SEMESTER_OFFSET = 6;
+    private static final int GRADE_OFFSET = 8;
+    private static final int CHUNK_SHIFT = 26; // records per chunk: 2^26 * 16 bytes = 1 GB
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+    private static final int MAX_COURSES = 1 << 16;
+    /** Semester used for results imported from the legacy map, which has no semester. */
+    public static final int UNSPECIFIED_SEMESTER = 0;
+
+    private final StudentOrdinals students;
+    private final String[] courseCodes;
+    private final ByteBuffer[] chunks;
+    private final int[] studentStart;
+    private final int recordCount;
+
+    private SemesterResultStore(StudentOrdinals students, String[] courseCodes, ByteBuffer[] chunks,
+                                int[] studentStart, int recordCount) {
+        this.students = students;
+        this.courseCodes = courseCodes;
+        this.chunks = chunks;
+        this.studentStart = studentStart;
+        this.recordCount = recordCount;
+    }
+
+    /**
+     * Imports the legacy layout; every result gets {@link #UNSPECIFIED_SEMESTER}.
+     */
+    public static SemesterResultStore fromMap(Map<String, Map<String, Double>> semesterResults) {
+        if (semesterResults == null) {
+            throw new IllegalArgumentException("Results map cannot be null");
+        }
+        Builder builder = new Builder();
+        semesterResults.forEach((studentId, results) -> results.forEach(
+                (course, grade) -> builder.add(studentId, course, UNSPECIFIED_SEMESTER, grade)));
+        return builder.build();
+    }
+
+    /**
+     * Cursor over the student's results; empty if the student has none.
+     * The cursor reads the off-heap records in place and allocates nothing per row.
+     */
+    public ResultCursor cursor(String studentId) {
+        int ordinal = students.ordinalOf(studentId);
+        if (ordinal < 0 || ordinal + 1 >= studentStart.length) {
+            return new ResultCursor(this, 0, 0);
+        }
+        return new ResultCursor(this, studentStart[ordinal], studentStart[ordinal + 1]);
+    }
+
+    public int resultCount(String studentId) {
+        int ordinal = students.ordinalOf(studentId);
+        if (ordinal < 0 || ordinal + 1 >= studentStart.length) {
+            return 0;
+        }
+        return studentStart[ordinal + 1] - studentStart[ordinal];
+    }
+
+    public int size() {
+        return recordCount;
+    }
+
+    public long offHeapBytes() {
+        return (long) recordCount * RECORD_BYTES;
+    }
+
+    int courseOrdinal(int record) {
+        return Short.toUnsignedInt(chunk(record).getShort(offset(record) + COURSE_OFFSET));
+    }
+
+    String courseCode(int courseOrdinal) {
+        return courseCodes[courseOrdinal];
+    }
+
+    int semester(int record) {
+        return chunk(record).getShort(offset(record) + SEMESTER_OFFSET);
+    }
+
+    double gradePoints(int record) {
+        return chunk(record).getDouble(offset(record) + GRADE_OFFSET);
+    }
+
+    private ByteBuffer chunk(int record) {
+        return chunks[record >>> CHUNK_SHIFT];
+    }
+
+    private static int offset(int record) {
+        return (record & CHUNK_MASK) * RECORD_BYTES;
+    }
+
+    private static ByteBuffer[] allocate(long records) {
+        int count = (int) ((records + CHUNK_MASK) >>> CHUNK_SHIFT);
+        ByteBuffer[] chunks = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long remaining = records - ((long) i << CHUNK_SHIFT);
+            int size = (int) Math.min(remaining, 1L << CHUNK_SHIFT) * RECORD_BYTES;
+            chunks[i] = ByteBuffer.allocateDirect(size).order(ByteOrder.nativeOrder());
+        }
+        return chunks;
+    }
+
+    /**
+     * Collects results in any order, then lays them out grouped by student.
+     * Records are staged off-heap as they are added; build() moves them into
+     * place with a counting sort, so it needs twice the record memory briefly.
+     */
+    public static final class Builder {
+        private final StudentOrdinals students;
+        private final Map<String, Integer> courseOrdinals = new HashMap<>();
+        private final List<String> courseCodes = new ArrayList<>();
+        private final List<ByteBuffer> staged = new ArrayList<>();
+        private int[] counts = new int[16];
+        private int recordCount;
+        private boolean built;
+
+        public Builder() {
+            this(new StudentOrdinals());
+        }
+
+        /**
+         * @param students dictionary to share, e.g. with the GPA and credit stores
+         */
+        public Builder(StudentOrdinals students) {
+            if (students == null) {
+                throw new IllegalArgumentException("Student ordinals cannot be null");
+            }
+            this.students = students;
+        }
+
+        public Builder add(String studentId, String courseCode, int semester, double gradePoints) {
+            if (built) {
+                throw new IllegalStateException("Builder has already been used");
+            }
+            if (courseCode == null || courseCode.isBlank()) {
+                throw new IllegalArgumentException("Course code cannot be null or empty");
+            }
+            if (semester < 0 || semester > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid semester: " + semester);
+            }
+            if (Double.isNaN(gradePoints)) {
+                throw new IllegalArgumentException("Grade points must be a number");
+            }
+            if (recordCount == Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many results for one store");
+            }
+            int student = students.intern(studentId);
+            int course = courseOrdinal(courseCode);
+            if (student >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(student + 1, counts.length * 2));
+            }
+            counts[student]++;
+
+            if ((recordCount & CHUNK_MASK) == 0) {
+                staged.add(ByteBuffer.allocateDirect(RECORD_BYTES << 12).order(ByteOrder.nativeOrder()));
+            }
+            ByteBuffer chunk = staged.get(staged.size() - 1);
+            if (!chunk.hasRemaining()) {
+                chunk = grow(chunk);
+            }
+            chunk.putInt(student).putShort((short) course).putShort((short) semester).putDouble(gradePoints);
+            recordCount++;
+            return this;
+        }
+
+        public SemesterResultStore build() {
+            if (built) {
+                throw new IllegalStateException("Builder has already been used");
+            }
+            built = true;
+            int studentCount = students.size();
+            int[] start = new int[studentCount + 1];
+            for (int s = 0; s < studentCount; s++) {
+                start[s + 1] = start[s] + (s < counts.length ? counts[s] : 0);
+            }
+
+            ByteBuffer[] chunks = allocate(recordCount);
+            int[] next = Arrays.copyOf(start, studentCount);
+            for (int record = 0; record < recordCount; record++) {
+                ByteBuffer from = staged.get(record >>> CHUNK_SHIFT);
+                int fromOffset = offset(record);
+                int target = next[from.getInt(fromOffset + STUDENT_OFFSET)]++;
+                ByteBuffer to = chunks[target >>> CHUNK_SHIFT];
+                int toOffset = offset(target);
+                to.putLong(toOffset, from.getLong(fromOffset));
+                to.putLong(toOffset + Long.BYTES, from.getLong(fromOffset + Long.BYTES));
+            }
+            staged.clear();
+
+            SemesterResultStore store = new SemesterResultStore(students, courseCodes.toArray(new String[0]),
+                    chunks, start, recordCount);
+            for (int s = 0; s < studentCount; s++) {
+                store.sortBySemester(start[s], start[s + 1]);
+            }
+            return store;
+        }
+
+        private int courseOrdinal(String courseCode) {
+            Integer ordinal = courseOrdinals.get(courseCode);
+            if (ordinal == null) {
+                if (courseCodes.size() == MAX_COURSES) {
+                    throw new IllegalArgumentException("More than " + MAX_COURSES + " distinct courses");
+                }
+                ordinal = courseCodes.size();
+                courseOrdinals.put(courseCode, ordinal);
+                courseCodes.add(courseCode);
+            }
+            return ordinal;
+        }
+
+        // Staging chunks start small and double up to the 1 GB chunk size
+        private ByteBuffer grow(ByteBuffer chunk) {
+            ByteBuffer grown = ByteBuffer.allocateDirect(chunk.capacity() * 2).order(ByteOrder.nativeOrder());
+            chunk.flip();
+            grown.put(chunk);
+            staged.set(staged.size() - 1, grown);
+            return grown;
+        }
+    }
+
+    // Stable insertion sort of one student's run; runs are a few hundred records at most
+    private void sortBySemester(int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int semester = semester(i);
+            if (semester(i - 1) <= semester) {
+                continue;
+            }
+            long head = chunk(i).getLong(offset(i));
+            long grade = chunk(i).getLong(offset(i) + Long.BYTES);
+            int j = i;
+            while (j > from && semester(j - 1) > semester) {
+                copyRecord(j - 1, j);
+                j--;
+            }
+            chunk(j).putLong(offset(j), head);
+            chunk(j).putLong(offset(j) + Long.BYTES, grade);
+        }
+    }
+
+    private void copyRecord(int from, int to) {
+        chunk(to).putLong(offset(to), chunk(from).getLong(offset(from)));
+        chunk(to).putLong(offset(to) + Long.BYTES, chunk(from).getLong(offset(from) + Long.BYTES));
+    }
+}
+
+/**
+ * Forward-only view over one student's run of records. Accessors read the
+ * current record straight from the off-heap buffer; nothing is copied or
+ * boxed. Not thread-safe; take one cursor per reader.
+ */
+final class ResultCursor {
+    private final SemesterResultStore store;
+    private final int from;
+    private final int to;
+    private int current;
+
+    ResultCursor(SemesterResultStore store, int from, int to) {
+        this.store = store;
+        this.from = from;
+        this.to = to;
+        this.current = from - 1;
+    }
+
+    /**
+     * Advances to the next record.
+     *
+     * @return false once all records have been visited
+     */
+    public boolean next() {
+        if (current + 1 >= to) {
+            current = to;
+            return false;
+        }
+        current++;
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return from == to;
+    }
+
+    public int size() {
+        return to - from;
+    }
+
+    /**
+     * Rewinds to before the first record.
+     */
+    public void reset() {
+        current = from - 1;
+    }
+
+    public String courseCode() {
+        return store.courseCode(courseOrdinal());
+    }
+
+    public int courseOrdinal() {
+        return store.courseOrdinal(record());
+    }
+
+    public int semester() {
+        return store.semester(record());
+    }
+
+    public double gradePoints() {
+        return store.gradePoints(record());
+    }
+
+    private int record() {
+        if (current < from || current >= to) {
+            throw new IllegalStateException("Cursor is not positioned on a record");
+        }
+        return current;
+    }
+}
@@ -0,0 +1,122 @@
+package com.mycompany.ums;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Footprint and scan speed of semester results: the legacy map of maps of
+ * boxed doubles against SemesterResultStore, for alumni with 40 courses over
+ * 8 semesters each.
+ *
+ * The legacy map has no semester dimension, so its inner key is
+ * "course/semester". Student IDs and those keys are created once and shared,
+ * so only the storage itself is measured. Heap is used memory after repeated
+ * full GCs; run with a fixed heap, e.g. -Xms3g -Xmx3g.
+ *
+ * Usage: SemesterResultStoreBenchmark [students]
+ */
+public class SemesterResultStoreBenchmark {
+    private static final int COURSES = 40;
+    private static final int SEMESTERS = 8;
+
+    public static void main(String[] args) throws InterruptedException {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        String[] ids = new String[studentCount];
+        for (int i = 0; i < studentCount; i++) {
+            ids[i] = String.format("S%07d", i);
+        }
+        String[] courses = new String[COURSES];
+        String[][] mapKeys = new String[COURSES][SEMESTERS];
+        for (int c = 0; c < COURSES; c++) {
+            courses[c] = "CS" + (100 + c);
+            for (int s = 0; s < SEMESTERS; s++) {
+                mapKeys[c][s] = courses[c] + "/" + (s + 1);
+            }
+        }
+        long records = (long) studentCount * COURSES * SEMESTERS;
+
+        long baseline = usedHeap();
+        SplittableRandom random = new SplittableRandom(5);
+        Map<String, Map<String, Double>> semesterResults = new HashMap<>();
+        for (String id : ids) {
+            Map<String, Double> results = new HashMap<>();
+            for (int s = 0; s < SEMESTERS; s++) {
+                for (int c = 0; c < COURSES; c++) {
+                    results.put(mapKeys[c][s], grade(random));
+                }
+            }
+            semesterResults.put(id, results);
+        }
+        long mapBytes = usedHeap() - baseline;
+        double mapChecksum = 0;
+        long mapNanos = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            mapChecksum = 0;
+            for (String id : ids) {
+                for (double grade : semesterResults.get(id).values()) {
+                    mapChecksum += grade;
+                }
+            }
+            mapNanos = Math.min(mapNanos, System.nanoTime() - start);
+        }
+        semesterResults = null;
+
+        baseline = usedHeap();
+        random = new SplittableRandom(5);
+        SemesterResultStore.Builder builder = new SemesterResultStore.Builder();
+        for (String id : ids) {
+            for (int s = 0; s < SEMESTERS; s++) {
+                for (int c = 0; c < COURSES; c++) {
+                    builder.add(id, courses[c], s + 1, grade(random));
+                }
+            }
+        }
+        SemesterResultStore store = builder.build();
+        builder = null;
+        long storeHeapBytes = usedHeap() - baseline;
+        double storeChecksum = 0;
+        long storeNanos = Long.MAX_VALUE;
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            storeChecksum = 0;
+            for (String id : ids) {
+                ResultCursor cursor = store.cursor(id);
+                while (cursor.next()) {
+                    storeChecksum += cursor.gradePoints();
+                }
+            }
+            storeNanos = Math.min(storeNanos, System.nanoTime() - start);
+        }
+        if (Math.abs(mapChecksum - storeChecksum) > 1e-6 * Math.abs(mapChecksum)) {
+            throw new IllegalStateException("Checksums differ: " + mapChecksum + " vs " + storeChecksum);
+        }
+
+        System.out.printf("%,d students x %d courses x %d semesters = %,d results%n",
+                studentCount, COURSES, SEMESTERS, records);
+        System.out.printf("Map of maps:          heap %,8.1f MB (%5.1f bytes/result), full scan %,6d ms%n",
+                mapBytes / 1e6, (double) mapBytes / records, mapNanos / 1_000_000);
+        System.out.printf("SemesterResultStore:  heap %,8.1f MB + off-heap %,8.1f MB (%5.1f bytes/result), full scan %,6d ms%n",
+                storeHeapBytes / 1e6, store.offHeapBytes() / 1e6,
+                (double) (storeHeapBytes + store.offHeapBytes()) / records, storeNanos / 1_000_000);
+
+        ResultManager manager = new ResultManager(new ResultValidator(), new ConsoleResultView());
+        manager.viewResults(ids[0], SemesterResultStore.fromMap(Map.of(ids[0], Map.of("CS101", 3.7))));
+    }
+
+    private static double grade(SplittableRandom random) {
+        return random.nextInt(0, 41) / 10.0;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(50);
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
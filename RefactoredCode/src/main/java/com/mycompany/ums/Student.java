@@ -1,6 +1,5 @@
 package com.mycompany.ums;
 
-import java.util.List;
 import java.util.Objects;
 import java.util.Scanner;
 
@@ -32,7 +31,7 @@ public final class Student {
  * ISP: Separate registration logic from Student data.
  */
 interface StudentRegistration {
-    Student register(List<Student> students, Scanner scanner);
+    Student register(StudentRepository students, Scanner scanner);
 }
 
 /**
@@ -48,12 +47,12 @@ interface DuesVerification {
  */
 class ConsoleStudentRegistration implements StudentRegistration {
     @Override
-    public Student register(List<Student> students, Scanner scanner) {
+    public Student register(StudentRepository students, Scanner scanner) {
         System.out.print("Enter Student ID: ");
         String id = scanner.nextLine().trim();
 
-        // Check duplicate ID
-        if (students.stream().anyMatch(s -> s.getId().equalsIgnoreCase(id))) {
+        // Check duplicate ID (indexed, case-insensitive)
+        if (students.existsById(id)) {
             System.out.println("Student ID already exists.");
             return null;
         }
@@ -63,9 +62,17 @@ class ConsoleStudentRegistration implements StudentRegistration {
 
         System.out.print("Enter Email: ");
         String email = scanner.nextLine().trim();
+        if (students.existsByEmail(email)) {
+            System.out.println("Email already registered.");
+            return null;
+        }
 
         System.out.print("Enter Phone: ");
         String phone = scanner.nextLine().trim();
+        if (students.existsByPhone(phone)) {
+            System.out.println("Phone already registered.");
+            return null;
+        }
 
         Student newStudent = new Student(id, name, email, phone);
         students.add(newStudent);
@@ -0,0 +1,122 @@
+package com.mycompany.ums;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Heap footprint and allocation churn of GPA/credit storage for one million
+ * students: boxed {@code HashMap<String, Double>} plus
+ * {@code HashMap<String, Integer>} against the shared StudentOrdinals
+ * dictionary with double[]/int[] columns.
+ *
+ * The student ID strings are created once and kept alive for both layouts,
+ * so the numbers are the cost of the storage alone. Heap is measured as used
+ * memory after repeated full GCs; run with a fixed heap, e.g. -Xms2g -Xmx2g,
+ * for stable figures. Churn is the bytes the current thread allocates while
+ * updating every student's GPA and credits once.
+ */
+public class StudentMetricStoreBenchmark {
+    private static final int STUDENTS = 1_000_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : STUDENTS;
+        String[] ids = new String[students];
+        double[] gpas = new double[students];
+        int[] credits = new int[students];
+        SplittableRandom random = new SplittableRandom(13);
+        for (int i = 0; i < students; i++) {
+            ids[i] = String.format("S%07d", i);
+            gpas[i] = Math.round(random.nextDouble(0.0, 4.0) * 100) / 100.0;
+            credits[i] = random.nextInt(0, 140);
+        }
+
+        // Lookups in random order, as requests arrive; sequential IDs would favour HashMap's bucket layout
+        String[] lookupOrder = ids.clone();
+        for (int i = lookupOrder.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String swap = lookupOrder[i];
+            lookupOrder[i] = lookupOrder[j];
+            lookupOrder[j] = swap;
+        }
+
+        long baseline = usedHeap();
+        Map<String, Double> gpaMap = new HashMap<>();
+        Map<String, Integer> creditMap = new HashMap<>();
+        for (int i = 0; i < students; i++) {
+            gpaMap.put(ids[i], gpas[i]);
+            creditMap.put(ids[i], credits[i]);
+        }
+        long mapBytes = usedHeap() - baseline;
+        GpaStore boxedGpas = GpaStore.of(gpaMap);
+        CreditStore boxedCredits = CreditStore.of(creditMap);
+        report("HashMap<String, Double/Integer>", students, mapBytes, boxedGpas, boxedCredits,
+                ids, lookupOrder, gpas, credits);
+        gpaMap = null;
+        creditMap = null;
+        boxedGpas = null;
+        boxedCredits = null;
+
+        baseline = usedHeap();
+        StudentOrdinals ordinals = new StudentOrdinals();
+        GpaStore columnarGpas = new ColumnarGpaStore(ordinals);
+        CreditStore columnarCredits = new ColumnarCreditStore(ordinals);
+        for (int i = 0; i < students; i++) {
+            columnarGpas.setGpa(ids[i], gpas[i]);
+            columnarCredits.setCredits(ids[i], credits[i]);
+        }
+        long columnarBytes = usedHeap() - baseline;
+        report("StudentOrdinals + double[]/int[]", students, columnarBytes, columnarGpas, columnarCredits,
+                ids, lookupOrder, gpas, credits);
+        System.out.printf("Columnar layout uses %.1fx less heap%n", (double) mapBytes / columnarBytes);
+    }
+
+    private static void report(String layout, int students, long heapBytes, GpaStore gpaStore,
+                               CreditStore creditStore, String[] ids, String[] lookupOrder,
+                               double[] gpas, int[] credits) {
+        // Warm up the read and update paths before measuring them
+        for (int round = 0; round < 3; round++) {
+            sum(gpaStore, creditStore, lookupOrder);
+        }
+        long start = System.nanoTime();
+        double checksum = sum(gpaStore, creditStore, lookupOrder);
+        long readNanos = System.nanoTime() - start;
+
+        long allocatedBefore = allocatedBytes();
+        for (int i = 0; i < ids.length; i++) {
+            gpaStore.setGpa(ids[i], Math.min(4.0, gpas[i] + 0.01));
+            creditStore.setCredits(ids[i], credits[i] + 3);
+        }
+        long churn = allocatedBytes() - allocatedBefore;
+
+        System.out.printf("%-34s heap %,7.1f MB (%5.1f bytes/student), reads %5.1f ns/student, "
+                        + "update churn %,7.1f MB (checksum %.0f)%n",
+                layout, heapBytes / 1e6, (double) heapBytes / students, (double) readNanos / ids.length,
+                churn / 1e6, checksum);
+    }
+
+    private static double sum(GpaStore gpaStore, CreditStore creditStore, String[] ids) {
+        double total = 0;
+        for (String id : ids) {
+            total += gpaStore.getGpa(id, 0.0) + creditStore.getCredits(id, 0);
+        }
+        return total;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(50);
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,131 @@
+package com.mycompany.ums;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Dense dictionary from student ID to ordinal 0..size-1, so per-student
+ * values can live in primitive arrays instead of boxed map values.
+ *
+ * IDs are kept in an open-addressing table of String keys with a parallel
+ * int[] of ordinals, so lookups allocate nothing and box nothing. Ordinals are
+ * never reused. Lookups are lock-free; interning new IDs is serialized. Each
+ * key is published with release semantics after its ordinal is written, so a
+ * reader that finds a key also sees its ordinal.
+ */
+public final class StudentOrdinals {
+    private static final VarHandle KEYS = MethodHandles.arrayElementVarHandle(String[].class);
+    private static final int INITIAL_CAPACITY = 16;
+
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+    private volatile String[] ids = new String[INITIAL_CAPACITY];
+    private volatile int size;
+
+    /**
+     * Ordinal of the student, or -1 if the ID has never been interned.
+     */
+    public int ordinalOf(String studentId) {
+        if (studentId == null) {
+            return -1;
+        }
+        return table.find(studentId);
+    }
+
+    /**
+     * Returns the ordinal for a student ID, assigning the next one on first sight.
+     */
+    public int intern(String studentId) {
+        if (studentId == null || studentId.isBlank()) {
+            throw new IllegalArgumentException("Student ID cannot be null or empty");
+        }
+        int ordinal = table.find(studentId);
+        if (ordinal >= 0) {
+            return ordinal;
+        }
+        synchronized (this) {
+            ordinal = table.find(studentId);
+            if (ordinal >= 0) {
+                return ordinal;
+            }
+            ordinal = size;
+            if (ordinal == ids.length) {
+                ids = Arrays.copyOf(ids, ordinal * 2);
+            }
+            ids[ordinal] = studentId;
+            // Keep the load factor at or below 1/2
+            if ((ordinal + 1) * 2 > table.keys.length) {
+                table = table.resize(table.keys.length * 2);
+            }
+            table.insert(studentId, ordinal);
+            size = ordinal + 1;
+            return ordinal;
+        }
+    }
+
+    /**
+     * Student ID for an ordinal previously returned by this dictionary.
+     */
+    public String idOf(int ordinal) {
+        if (ordinal < 0 || ordinal >= size) {
+            throw new IllegalArgumentException("Unknown student ordinal: " + ordinal);
+        }
+        return ids[ordinal];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static final class Table {
+        final String[] keys;
+        final int[] ordinals;
+        final int mask;
+
+        Table(int capacity) {
+            keys = new String[capacity];
+            ordinals = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        int find(String studentId) {
+            int slot = slot(studentId);
+            while (true) {
+                String key = (String) KEYS.getAcquire(keys, slot);
+                if (key == null) {
+                    return -1;
+                }
+                // Callers usually pass the same String instance that was interned
+                if (key == studentId || key.equals(studentId)) {
+                    return ordinals[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        void insert(String studentId, int ordinal) {
+            int slot = slot(studentId);
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            ordinals[slot] = ordinal;
+            KEYS.setRelease(keys, slot, studentId);
+        }
+
+        // Filled completely before it is published, so plain writes are enough
+        Table resize(int capacity) {
+            Table grown = new Table(capacity);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    grown.insert(keys[i], ordinals[i]);
+                }
+            }
+            return grown;
+        }
+
+        private int slot(String studentId) {
+            int h = studentId.hashCode() * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.mycompany.ums;
 
+import java.io.Reader;
 import java.util.List;
 import java.util.Scanner;
 import java.util.function.Function;
@@ -24,6 +25,69 @@ final class Student {
     public String getPhone() { return phone; }
 }
 
+// Precompiled field rules: hand-written scanners over CharSequence, no regex or copies
+final class StudentFieldRules {
+    static final String EMAIL_EMPTY = "Email cannot be empty";
+    static final String EMAIL_NO_AT = "Email must contain '@'";
+    static final String PHONE_EMPTY = "Phone cannot be empty";
+    static final String PHONE_NOT_TEN_DIGITS = "Phone must be 10 digits";
+
+    private static final int PHONE_LENGTH = 10;
+
+    private StudentFieldRules() {
+    }
+
+    static boolean isBlank(CharSequence value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0, n = value.length(); i < n; i++) {
+            if (!Character.isWhitespace(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns null when valid, otherwise the constant error message. */
+    static String emailError(CharSequence email) {
+        if (isBlank(email)) {
+            return EMAIL_EMPTY;
+        }
+        for (int i = 0, n = email.length(); i < n; i++) {
+            if (email.charAt(i) == '@') {
+                return null;
+            }
+        }
+        return EMAIL_NO_AT;
+    }
+
+    /** Returns null when valid, otherwise the constant error message. */
+    static String phoneError(CharSequence phone) {
+        if (isBlank(phone)) {
+            return PHONE_EMPTY;
+        }
+        if (phone.length() != PHONE_LENGTH) {
+            return PHONE_NOT_TEN_DIGITS;
+        }
+        for (int i = 0; i < PHONE_LENGTH; i++) {
+            char c = phone.charAt(i);
+            if (c < '0' || c > '9') {
+                return PHONE_NOT_TEN_DIGITS;
+            }
+        }
+        return null;
+    }
+
+    static boolean isValidEmail(CharSequence email) {
+        return emailError(email) == null;
+    }
+
+    static boolean isValidPhone(CharSequence phone) {
+        return phoneError(phone) == null;
+    }
+}
+
 // Validator class with static methods
 final class StudentValidator {
 
@@ -43,21 +107,17 @@ final class StudentValidator {
     }
 
     public static String validateEmail(String email) {
-        if (email == null || email.isBlank()) {
-            throw new IllegalArgumentException("Email cannot be empty");
-        }
-        if (!email.contains("@")) { // Very simple email check
-            throw new IllegalArgumentException("Email must contain '@'");
+        String error = StudentFieldRules.emailError(email); // Very simple email check
+        if (error != null) {
+            throw new IllegalArgumentException(error);
         }
         return email;
     }
 
     public static String validatePhone(String phone) {
-        if (phone == null || phone.isBlank()) {
-            throw new IllegalArgumentException("Phone cannot be empty");
-        }
-        if (!phone.matches("\\d{10}")) {
-            throw new IllegalArgumentException("Phone must be 10 digits");
+        String error = StudentFieldRules.phoneError(phone);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
         }
         return phone;
     }
@@ -82,6 +142,13 @@ public final class StudentRegistrationHandler {
         System.out.println("Student registered successfully!");
     }
 
+    /**
+     * Bulk mode: imports students from CSV into the registry without console prompts.
+     */
+    public static ImportReport importStudents(Reader csv, StudentRepository registry) {
+        return new BulkStudentImporter(registry).importCsv(csv);
+    }
+
     private static void validateInput(List<Student> students, Scanner scanner) {
         if (students == null) {
             throw new IllegalArgumentException("Students list cannot be null");
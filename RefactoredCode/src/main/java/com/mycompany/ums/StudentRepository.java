@@ -0,0 +1,177 @@
+package com.mycompany.ums;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Abstraction for student storage and lookup.
+ * DIP: registration and menus depend on this interface, not on a List scan.
+ */
+public interface StudentRepository {
+    void add(Student student);
+    Optional<Student> findById(String id);
+    Optional<Student> findByEmail(String email);
+    Optional<Student> findByPhone(String phone);
+    boolean existsById(String id);
+    boolean existsByEmail(String email);
+    boolean existsByPhone(String phone);
+    List<Student> findAll();
+    int size();
+}
+
+/**
+ * Hash-indexed in-memory repository.
+ * IDs and emails are matched case-insensitively, phones exactly.
+ * Reads are lock-free; writes are serialized so the three indexes stay consistent.
+ */
+class InMemoryStudentRepository implements StudentRepository {
+    private final Map<String, Student> byId = new ConcurrentHashMap<>();
+    private final Map<String, Student> byEmail = new ConcurrentHashMap<>();
+    private final Map<String, Student> byPhone = new ConcurrentHashMap<>();
+    private final List<Student> insertionOrder = new ArrayList<>();
+
+    public InMemoryStudentRepository() {
+    }
+
+    public InMemoryStudentRepository(Collection<Student> students) {
+        if (students == null) {
+            throw new IllegalArgumentException("Students collection cannot be null");
+        }
+        students.forEach(this::add);
+    }
+
+    @Override
+    public synchronized void add(Student student) {
+        if (student == null) {
+            throw new IllegalArgumentException("Student cannot be null");
+        }
+        String idKey = normalize(student.getId());
+        String emailKey = normalize(student.getEmail());
+        if (byId.containsKey(idKey)) {
+            throw new IllegalArgumentException("Student ID already exists: " + student.getId());
+        }
+        if (byEmail.containsKey(emailKey)) {
+            throw new IllegalArgumentException("Email already registered: " + student.getEmail());
+        }
+        if (byPhone.containsKey(student.getPhone())) {
+            throw new IllegalArgumentException("Phone already registered: " + student.getPhone());
+        }
+        byId.put(idKey, student);
+        byEmail.put(emailKey, student);
+        byPhone.put(student.getPhone(), student);
+        insertionOrder.add(student);
+    }
+
+    @Override
+    public Optional<Student> findById(String id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(byId.get(normalize(id)));
+    }
+
+    @Override
+    public Optional<Student> findByEmail(String email) {
+        return email == null ? Optional.empty() : Optional.ofNullable(byEmail.get(normalize(email)));
+    }
+
+    @Override
+    public Optional<Student> findByPhone(String phone) {
+        return phone == null ? Optional.empty() : Optional.ofNullable(byPhone.get(phone));
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return id != null && byId.containsKey(normalize(id));
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return email != null && byEmail.containsKey(normalize(email));
+    }
+
+    @Override
+    public boolean existsByPhone(String phone) {
+        return phone != null && byPhone.containsKey(phone);
+    }
+
+    @Override
+    public synchronized List<Student> findAll() {
+        return List.copyOf(insertionOrder);
+    }
+
+    @Override
+    public int size() {
+        return byId.size();
+    }
+
+    private static String normalize(String key) {
+        return key.trim().toLowerCase(Locale.ROOT);
+    }
+}
+
+/**
+ * Decorator that reports every successful add, e.g. to journal it.
+ * Reads go straight to the wrapped repository.
+ */
+class ObservedStudentRepository implements StudentRepository {
+    private final StudentRepository delegate;
+    private final Consumer<Student> onAdded;
+
+    ObservedStudentRepository(StudentRepository delegate, Consumer<Student> onAdded) {
+        if (delegate == null || onAdded == null) {
+            throw new IllegalArgumentException("Repository and callback cannot be null");
+        }
+        this.delegate = delegate;
+        this.onAdded = onAdded;
+    }
+
+    @Override
+    public void add(Student student) {
+        delegate.add(student);
+        onAdded.accept(student);
+    }
+
+    @Override
+    public Optional<Student> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Student> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public Optional<Student> findByPhone(String phone) {
+        return delegate.findByPhone(phone);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public boolean existsByPhone(String phone) {
+        return delegate.existsByPhone(phone);
+    }
+
+    @Override
+    public List<Student> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+}
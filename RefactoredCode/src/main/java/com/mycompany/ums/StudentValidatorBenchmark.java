@@ -0,0 +1,68 @@
+package com.mycompany.ums;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Predicate;
+
+/**
+ * Micro-benchmark comparing the legacy regex/String checks with the
+ * precompiled StudentFieldRules scanners.
+ * Reports ns and allocated bytes per validated record (email + phone),
+ * measured with the per-thread allocation counter of the HotSpot MXBean.
+ */
+public class StudentValidatorBenchmark {
+    private static final int RECORDS = 10_000;
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURED_ROUNDS = 200;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static volatile int sink;
+
+    public static void main(String[] args) {
+        String[] emails = new String[RECORDS];
+        String[] phones = new String[RECORDS];
+        for (int i = 0; i < RECORDS; i++) {
+            emails[i] = (i % 10 == 0) ? "student" + i + ".university.edu" : "student" + i + "@university.edu";
+            phones[i] = (i % 7 == 0) ? "12345" : String.format("%010d", 3_000_000_000L + i);
+        }
+
+        run("legacy regex", emails, phones,
+                e -> !e.isBlank() && e.contains("@"),
+                p -> !p.isBlank() && p.matches("\\d{10}"));
+        run("precompiled", emails, phones,
+                StudentFieldRules::isValidEmail,
+                StudentFieldRules::isValidPhone);
+    }
+
+    private static void run(String label, String[] emails, String[] phones,
+                            Predicate<String> emailRule, Predicate<String> phoneRule) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            validateAll(emails, phones, emailRule, phoneRule);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            validateAll(emails, phones, emailRule, phoneRule);
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        double records = (double) RECORDS * MEASURED_ROUNDS;
+        System.out.printf("%-14s %8.1f ns/record %10.1f B/record%n",
+                label, elapsed / records, bytes / records);
+    }
+
+    private static void validateAll(String[] emails, String[] phones,
+                                    Predicate<String> emailRule, Predicate<String> phoneRule) {
+        int valid = 0;
+        for (int i = 0; i < emails.length; i++) {
+            if (emailRule.test(emails[i]) && phoneRule.test(phones[i])) {
+                valid++;
+            }
+        }
+        sink = valid;
+    }
+}
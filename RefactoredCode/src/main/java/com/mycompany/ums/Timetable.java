@@ -1,6 +1,10 @@
 package com.mycompany.ums;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.TextStyle;
 import java.util.Collections;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 
@@ -20,6 +24,51 @@ public final class Timetable {
     }
 }
 
+/**
+ * One weekly meeting of a section: day, start and end time, and room.
+ * Slots are half-open, so a class ending at 11:00 does not clash with one
+ * starting at 11:00.
+ */
+record TimeSlot(DayOfWeek day, LocalTime start, LocalTime end, String room) {
+    static final int MINUTES_PER_WEEK = 7 * 24 * 60;
+
+    TimeSlot {
+        if (day == null || start == null || end == null) {
+            throw new IllegalArgumentException("Day, start and end time cannot be null");
+        }
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("Slot must end after it starts: " + start + "-" + end);
+        }
+        if (room == null || room.isBlank()) {
+            throw new IllegalArgumentException("Room cannot be null or empty");
+        }
+    }
+
+    static TimeSlot of(DayOfWeek day, String start, String end, String room) {
+        return new TimeSlot(day, LocalTime.parse(start), LocalTime.parse(end), room);
+    }
+
+    /**
+     * Start as minutes since Monday 00:00.
+     */
+    int startMinute() {
+        return (day.getValue() - 1) * 24 * 60 + start.toSecondOfDay() / 60;
+    }
+
+    int endMinute() {
+        return (day.getValue() - 1) * 24 * 60 + end.toSecondOfDay() / 60;
+    }
+
+    boolean overlaps(TimeSlot other) {
+        return startMinute() < other.endMinute() && other.startMinute() < endMinute();
+    }
+
+    @Override
+    public String toString() {
+        return day.getDisplayName(TextStyle.SHORT, Locale.ENGLISH) + " " + start + "-" + end + " (" + room + ")";
+    }
+}
+
 /**
  * Interface segregated for timetable validation.
  */
@@ -76,7 +125,13 @@ class ConsoleTimetableDisplay implements TimetableDisplay {
             return;
         }
         System.out.printf(HEADER_FORMAT, DAY_HEADER, TIME_HEADER, COURSE_HEADER);
-        map.forEach((day, course) -> System.out.printf(HEADER_FORMAT, day, DEFAULT_TIME_SLOT, course));
+        // Keys are either a bare day or "day time", as generated by TimetableClashIndex.weeklyTimetable
+        map.forEach((key, course) -> {
+            int space = key.indexOf(' ');
+            String day = space < 0 ? key : key.substring(0, space);
+            String time = space < 0 ? DEFAULT_TIME_SLOT : key.substring(space + 1);
+            System.out.printf(HEADER_FORMAT, day, time, course);
+        });
     }
 }
 
@@ -0,0 +1,147 @@
+package com.mycompany.ums;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Registers 50k students against 2k scheduled sections through the
+ * registration engine with the clash index attached, then checks every
+ * resulting timetable pairwise to confirm no clash got through.
+ *
+ * Sections meet twice a week in 80-minute blocks, ten to a room across 200
+ * rooms, so many sections share meeting times and random picks clash often.
+ * Also times clash checks on their own against a scan of the student's
+ * enrolled sections, the check registration would otherwise need.
+ *
+ * Usage: TimetableClashBenchmark [students] [sections]
+ */
+public class TimetableClashBenchmark {
+    private static final int ROOMS = 200;
+    private static final int COURSES_PER_STUDENT = 5;
+    private static final int ATTEMPTS_PER_STUDENT = 20;
+    private static final LocalTime[] BLOCK_STARTS = {
+            LocalTime.of(8, 0), LocalTime.of(9, 30), LocalTime.of(11, 0),
+            LocalTime.of(12, 30), LocalTime.of(14, 0), LocalTime.of(15, 30)};
+
+    public static void main(String[] args) {
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int sectionCount = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        int capacity = students * COURSES_PER_STUDENT / sectionCount * 3 / 2;
+
+        TimetableClashIndex index = new TimetableClashIndex();
+        CourseRegistrationEngine engine = new CourseRegistrationEngine(new ConcurrentHashMap<>());
+        List<String> codes = new ArrayList<>(sectionCount);
+        for (int i = 0; i < sectionCount; i++) {
+            int room = i % ROOMS;
+            int pattern = (i / ROOMS + room) % 30;
+            String code = String.format("SEC%04d", i);
+            String roomName = "R" + room;
+            if (index.scheduleSection(code, List.of(block(pattern, roomName), block((pattern + 10) % 30, roomName)))
+                    .isPresent()) {
+                throw new IllegalStateException("Generated schedule double-books a room: " + code);
+            }
+            engine.registerSection(code, capacity);
+            codes.add(code);
+        }
+        if (index.scheduleSection("EXTRA", List.of(block(0, "R0"))).isEmpty()) {
+            throw new IllegalStateException("Room clash was not detected");
+        }
+        index.attachTo(engine);
+
+        LongAdder enrolled = new LongAdder();
+        LongAdder clashes = new LongAdder();
+        long start = System.nanoTime();
+        IntStream.range(0, students).parallel().forEach(s -> {
+            Random random = new Random(s);
+            String studentId = String.format("S%05d", s);
+            int taken = 0;
+            for (int attempt = 0; attempt < ATTEMPTS_PER_STUDENT && taken < COURSES_PER_STUDENT; attempt++) {
+                RegistrationResult result = engine.enroll(studentId, codes.get(random.nextInt(codes.size())));
+                if (result.isSuccess()) {
+                    taken++;
+                    enrolled.increment();
+                } else if (result.status() == RegistrationStatus.TIMETABLE_CLASH) {
+                    clashes.increment();
+                }
+            }
+        });
+        long registerNanos = System.nanoTime() - start;
+        System.out.printf("%,d students x %,d sections: %,d enrollments, %,d clashes rejected in %,d ms%n",
+                students, sectionCount, enrolled.sum(), clashes.sum(), registerNanos / 1_000_000);
+
+        // Every timetable checked pairwise: nothing overlapping got through
+        for (int s = 0; s < students; s++) {
+            List<String> taken = engine.getEnrolledCourses(String.format("S%05d", s));
+            for (int a = 0; a < taken.size(); a++) {
+                for (int b = a + 1; b < taken.size(); b++) {
+                    for (TimeSlot x : index.getSlots(taken.get(a))) {
+                        for (TimeSlot y : index.getSlots(taken.get(b))) {
+                            if (x.overlaps(y)) {
+                                throw new IllegalStateException("Clash admitted: " + taken.get(a) + ", " + taken.get(b));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        // Clash checks alone, against scanning the enrolled sections' slots
+        int checks = 2_000_000;
+        String[] ids = IntStream.range(0, students).mapToObj(s -> String.format("S%05d", s)).toArray(String[]::new);
+        long indexNanos = 0;
+        long scanNanos = 0;
+        int found = 0;
+        for (int round = 0; round < 2; round++) { // the first round warms up the JIT
+            Random random = new Random(42);
+            found = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < checks; i++) {
+                String studentId = ids[random.nextInt(students)];
+                if (index.findClash(studentId, codes.get(random.nextInt(codes.size()))).isPresent()) {
+                    found++;
+                }
+            }
+            indexNanos = System.nanoTime() - start;
+            random = new Random(42);
+            int scanned = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < checks; i++) {
+                String studentId = ids[random.nextInt(students)];
+                if (scanClash(index, engine.getEnrolledCourses(studentId), codes.get(random.nextInt(codes.size())))) {
+                    scanned++;
+                }
+            }
+            scanNanos = System.nanoTime() - start;
+            if (found != scanned) {
+                throw new IllegalStateException("Index found " + found + " clashes, scan found " + scanned);
+            }
+        }
+        System.out.printf("%,d clash checks: index %d ns/check, scan of enrolled slots %d ns/check (%,d clashes)%n",
+                checks, indexNanos / checks, scanNanos / checks, found);
+    }
+
+    private static boolean scanClash(TimetableClashIndex index, List<String> enrolled, String courseCode) {
+        for (String code : enrolled) {
+            for (TimeSlot booked : index.getSlots(code)) {
+                for (TimeSlot requested : index.getSlots(courseCode)) {
+                    if (booked.overlaps(requested)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    // Block b of the week's 30: six a day, Monday to Friday
+    private static TimeSlot block(int b, String room) {
+        LocalTime startTime = BLOCK_STARTS[b % BLOCK_STARTS.length];
+        return new TimeSlot(DayOfWeek.of(b / BLOCK_STARTS.length + 1), startTime, startTime.plusMinutes(80), room);
+    }
+}
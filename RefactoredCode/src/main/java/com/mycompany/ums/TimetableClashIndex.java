@@ -0,0 +1,363 @@
+package com.mycompany.ums;
+
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Timetable clash detection for registration: which sections meet when and
+ * where, and which slots each student and room has already booked.
+ *
+ * A student's booked slots, and a room's, never overlap each other, since
+ * clashing bookings are rejected. Each is kept as an {@link IntervalSet}
+ * sorted by start minute of the week. A new slot can then only overlap the
+ * booked slot that starts just before it ends, so a clash check is one
+ * binary search, O(log n) per slot of the requested section.
+ *
+ * Sections are scheduled once, and two sections in the same room cannot
+ * overlap. Sections that were never scheduled never clash.
+ *
+ * A student's bookings are loaded from their enrollments the first time they
+ * are checked, so an index over a large, lazily decoded enrollment map costs
+ * nothing up front. An enrolled section that clashes with one loaded before
+ * it is not booked and is reported instead.
+ *
+ * Checks read immutable interval sets and take no locks. A check and the
+ * booking that follows it must happen under the caller's per-student lock;
+ * {@link #attachTo(CourseRegistrationEngine)} runs both under the engine's.
+ */
+public final class TimetableClashIndex {
+    private final ConcurrentMap<String, Integer> sectionOrdinals = new ConcurrentHashMap<>();
+    private volatile ScheduledSection[] sections = new ScheduledSection[0];
+    private final ConcurrentMap<String, IntervalSet> studentSlots = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, IntervalSet> roomSlots = new ConcurrentHashMap<>();
+    private final Function<String, List<String>> enrollments;
+    private final BiConsumer<String, TimetableClash> existingClashes;
+
+    /**
+     * An index whose students start with nothing booked.
+     */
+    public TimetableClashIndex() {
+        this(studentId -> List.of(), (studentId, clash) -> { });
+    }
+
+    /**
+     * @param enrollments     a student's enrolled sections, read on their first check
+     * @param existingClashes told about enrolled sections left unbooked because they
+     *                        clash with one loaded before them
+     */
+    public TimetableClashIndex(Function<String, List<String>> enrollments,
+                               BiConsumer<String, TimetableClash> existingClashes) {
+        if (enrollments == null || existingClashes == null) {
+            throw new IllegalArgumentException("Enrollments and clash handler cannot be null");
+        }
+        this.enrollments = enrollments;
+        this.existingClashes = existingClashes;
+    }
+
+    /**
+     * Schedules a section's weekly meetings, unless one of them overlaps
+     * another meeting of the section or a section already in that room.
+     *
+     * @return the room clash, or empty if the section was scheduled
+     */
+    public synchronized Optional<TimetableClash> scheduleSection(String courseCode, List<TimeSlot> slots) {
+        if (courseCode == null || courseCode.isBlank()) {
+            throw new IllegalArgumentException("Course code cannot be null or empty");
+        }
+        if (slots == null || slots.isEmpty()) {
+            throw new IllegalArgumentException("Section must meet at least once a week");
+        }
+        if (sectionOrdinals.containsKey(courseCode)) {
+            throw new IllegalArgumentException("Section already scheduled: " + courseCode);
+        }
+        ScheduledSection section = new ScheduledSection(courseCode, sections.length, List.copyOf(slots));
+        IntervalSet own = IntervalSet.EMPTY;
+        for (TimeSlot slot : section.slots) {
+            long hit = own.findOverlap(slot.startMinute(), slot.endMinute());
+            if (hit == IntervalSet.NONE) {
+                hit = roomSlots.getOrDefault(slot.room(), IntervalSet.EMPTY)
+                        .findOverlap(slot.startMinute(), slot.endMinute());
+            }
+            if (hit != IntervalSet.NONE) {
+                return Optional.of(clash(section, slot, hit, true));
+            }
+            own = own.with(slot.startMinute(), slot.endMinute(), section.ordinal);
+        }
+        for (TimeSlot slot : section.slots) {
+            roomSlots.merge(slot.room(), IntervalSet.EMPTY.with(slot.startMinute(), slot.endMinute(), section.ordinal),
+                    (booked, added) -> booked.with(slot.startMinute(), slot.endMinute(), section.ordinal));
+        }
+        ScheduledSection[] updated = Arrays.copyOf(sections, sections.length + 1);
+        updated[section.ordinal] = section;
+        sections = updated;
+        sectionOrdinals.put(courseCode, section.ordinal);
+        return Optional.empty();
+    }
+
+    public List<TimeSlot> getSlots(String courseCode) {
+        ScheduledSection section = section(courseCode);
+        return section == null ? List.of() : section.slots;
+    }
+
+    /**
+     * The given sections' meetings in week order, keyed like "Mon 09:00-11:00"
+     * with values like "CS101 (R101)". Unscheduled sections are left out.
+     */
+    public Map<String, String> weeklyTimetable(List<String> courseCodes) {
+        List<Map.Entry<TimeSlot, String>> meetings = new ArrayList<>();
+        for (String code : courseCodes) {
+            for (TimeSlot slot : getSlots(code)) {
+                meetings.add(Map.entry(slot, code));
+            }
+        }
+        meetings.sort(Comparator.comparingInt(meeting -> meeting.getKey().startMinute()));
+        Map<String, String> timetable = new LinkedHashMap<>();
+        for (Map.Entry<TimeSlot, String> meeting : meetings) {
+            TimeSlot slot = meeting.getKey();
+            String when = slot.day().getDisplayName(TextStyle.SHORT, Locale.ENGLISH) + " " + slot.start() + "-" + slot.end();
+            timetable.merge(when, meeting.getValue() + " (" + slot.room() + ")", (a, b) -> a + ", " + b);
+        }
+        return timetable;
+    }
+
+    public Optional<TimetableClash> findClash(String studentId, String courseCode) {
+        return findClash(studentId, List.of(courseCode));
+    }
+
+    /**
+     * First clash between the requested sections and the student's booked
+     * ones, or among the requested sections themselves.
+     */
+    public Optional<TimetableClash> findClash(String studentId, List<String> courseCodes) {
+        if (courseCodes == null) {
+            throw new IllegalArgumentException("Course list cannot be null");
+        }
+        IntervalSet booked = booked(studentId);
+        for (int i = 0; i < courseCodes.size(); i++) {
+            ScheduledSection section = section(courseCodes.get(i));
+            if (section == null) {
+                continue;
+            }
+            TimetableClash clash = firstClash(booked, section);
+            if (clash != null) {
+                return Optional.of(clash);
+            }
+            if (i < courseCodes.size() - 1) {
+                booked = booked.withAll(section);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Books the sections' slots for the student; call after a successful
+     * {@link #findClash} under the same per-student lock.
+     */
+    public void book(String studentId, List<String> courseCodes) {
+        // Booking an enrollment the load already picked up is a no-op
+        booked(studentId);
+        for (String code : courseCodes) {
+            ScheduledSection section = section(code);
+            if (section != null) {
+                studentSlots.merge(studentId, IntervalSet.EMPTY.withAll(section),
+                        (booked, added) -> booked.withAll(section));
+            }
+        }
+    }
+
+    public void release(String studentId, String courseCode) {
+        ScheduledSection section = section(courseCode);
+        if (section != null) {
+            studentSlots.computeIfPresent(studentId, (id, booked) -> {
+                IntervalSet remaining = booked.without(section.ordinal);
+                return remaining.isEmpty() ? null : remaining;
+            });
+        }
+    }
+
+    /**
+     * Makes the engine reject clashing requests with TIMETABLE_CLASH, and
+     * keeps the student index in step with its enrollments and drops. Both
+     * run under the engine's student lock.
+     */
+    public void attachTo(CourseRegistrationEngine engine) {
+        engine.addEnrollmentGuard((studentId, courseCodes) -> findClash(studentId, courseCodes)
+                .map(clash -> RegistrationResult.failed(RegistrationStatus.TIMETABLE_CLASH, clash.courseCode()))
+                .orElse(null));
+        engine.addEnrollmentListener(new EnrollmentListener() {
+            @Override
+            public void onEnrolled(String studentId, List<String> courseCodes) {
+                book(studentId, courseCodes);
+            }
+
+            @Override
+            public void onDropped(String studentId, String courseCode) {
+                release(studentId, courseCode);
+            }
+        });
+    }
+
+    private IntervalSet booked(String studentId) {
+        IntervalSet booked = studentSlots.get(studentId);
+        return booked != null ? booked : studentSlots.computeIfAbsent(studentId, this::load);
+    }
+
+    private IntervalSet load(String studentId) {
+        IntervalSet booked = IntervalSet.EMPTY;
+        for (String code : enrollments.apply(studentId)) {
+            ScheduledSection section = section(code);
+            if (section == null) {
+                continue;
+            }
+            TimetableClash clash = firstClash(booked, section);
+            if (clash == null) {
+                booked = booked.withAll(section);
+            } else {
+                existingClashes.accept(studentId, clash);
+            }
+        }
+        return booked;
+    }
+
+    private TimetableClash firstClash(IntervalSet booked, ScheduledSection section) {
+        for (TimeSlot slot : section.slots) {
+            long hit = booked.findOverlap(slot.startMinute(), slot.endMinute());
+            if (hit != IntervalSet.NONE) {
+                return clash(section, slot, hit, false);
+            }
+        }
+        return null;
+    }
+
+    private ScheduledSection section(String courseCode) {
+        Integer ordinal = courseCode == null ? null : sectionOrdinals.get(courseCode);
+        return ordinal == null ? null : sections[ordinal];
+    }
+
+    private TimetableClash clash(ScheduledSection section, TimeSlot slot, long hit, boolean roomClash) {
+        // The section is not published yet while it is being scheduled
+        ScheduledSection other = IntervalSet.owner(hit) == section.ordinal ? section : sections[IntervalSet.owner(hit)];
+        int start = IntervalSet.start(hit);
+        for (TimeSlot otherSlot : other.slots) {
+            if (otherSlot.startMinute() == start) {
+                return new TimetableClash(section.code, slot, other.code, otherSlot, roomClash);
+            }
+        }
+        throw new IllegalStateException("Booked interval has no slot in " + other.code);
+    }
+
+    private static final class ScheduledSection {
+        final String code;
+        final int ordinal;
+        final List<TimeSlot> slots;
+
+        ScheduledSection(String code, int ordinal, List<TimeSlot> slots) {
+            this.code = code;
+            this.ordinal = ordinal;
+            this.slots = slots;
+        }
+    }
+
+    /**
+     * Disjoint intervals sorted by start, each packed into a long as start,
+     * end (minutes of the week, 14 bits each) and the owning section's
+     * ordinal. Immutable; updates return a new set.
+     */
+    static final class IntervalSet {
+        static final IntervalSet EMPTY = new IntervalSet(new long[0]);
+        static final long NONE = -1;
+
+        private final long[] intervals;
+
+        private IntervalSet(long[] intervals) {
+            this.intervals = intervals;
+        }
+
+        static int start(long interval) {
+            return (int) (interval >>> 46);
+        }
+
+        static int end(long interval) {
+            return (int) (interval >>> 32) & 0x3FFF;
+        }
+
+        static int owner(long interval) {
+            return (int) interval;
+        }
+
+        boolean isEmpty() {
+            return intervals.length == 0;
+        }
+
+        /**
+         * The interval overlapping [start, end), or NONE. Only the last
+         * interval starting before {@code end} can overlap, as the intervals
+         * are disjoint.
+         */
+        long findOverlap(int start, int end) {
+            int low = 0;
+            int high = intervals.length - 1;
+            int candidate = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (start(intervals[mid]) < end) {
+                    candidate = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return candidate >= 0 && end(intervals[candidate]) > start ? intervals[candidate] : NONE;
+        }
+
+        IntervalSet with(int start, int end, int owner) {
+            long packed = (long) start << 46 | (long) end << 32 | owner;
+            int found = Arrays.binarySearch(intervals, packed);
+            if (found >= 0) {
+                return this;
+            }
+            int at = -found - 1;
+            long[] updated = new long[intervals.length + 1];
+            System.arraycopy(intervals, 0, updated, 0, at);
+            updated[at] = packed;
+            System.arraycopy(intervals, at, updated, at + 1, intervals.length - at);
+            return new IntervalSet(updated);
+        }
+
+        IntervalSet withAll(ScheduledSection section) {
+            IntervalSet result = this;
+            for (TimeSlot slot : section.slots) {
+                result = result.with(slot.startMinute(), slot.endMinute(), section.ordinal);
+            }
+            return result;
+        }
+
+        IntervalSet without(int owner) {
+            long[] kept = Arrays.stream(intervals).filter(interval -> owner(interval) != owner).toArray();
+            return kept.length == intervals.length ? this : new IntervalSet(kept);
+        }
+    }
+}
+
+/**
+ * A requested slot and the booked slot it overlaps: another section the
+ * student has, or, for room clashes, another section in the same room.
+ */
+record TimetableClash(String courseCode, TimeSlot slot, String conflictingCourse, TimeSlot conflictingSlot,
+                      boolean roomClash) {
+    String describe() {
+        return courseCode + " " + slot + " clashes with " + conflictingCourse + " " + conflictingSlot
+                + (roomClash ? " in the same room" : "");
+    }
+}
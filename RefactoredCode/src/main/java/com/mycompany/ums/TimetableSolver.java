@@ -0,0 +1,703 @@
+package com.mycompany.ums;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates a weekly timetable: every meeting of every section gets a
+ * period and a room, so that as few students as possible have two of their
+ * courses at the same time.
+ *
+ * Hard constraints are never broken: a room holds one meeting per period
+ * and only sections that fit its capacity, and a section meets at most
+ * once per period. The cost is the number of student clashes, i.e. for
+ * every period, the students enrolled in two sections meeting then.
+ *
+ * Each worker thread runs simulated annealing from a randomized greedy
+ * start, restarting from a fresh start with a doubled move count each time
+ * the run cools down, and keeps its best solution. The best over all workers wins. A move
+ * relocates one meeting to another period, into a free room or by swapping
+ * with the meeting in that room. Its cost change is read from a per-period
+ * clash table in O(1) and applied in O(co-enrolled sections).
+ *
+ * The search stops at the time budget or after {@code iterationsPerWorker}
+ * moves per worker, whichever comes first. Each worker's random stream is
+ * derived from the seed, so when the iteration limit ends the search, the
+ * same seed and thread count always give the same timetable.
+ */
+public final class TimetableSolver {
+    private static final long TIME_CHECK_INTERVAL = 1 << 10;
+    // Annealing temperature falls from its start to this fraction over each restart
+    private static final double FINAL_TEMPERATURE_RATIO = 1e-3;
+
+    private final Duration timeBudget;
+    private final long seed;
+    private final int threads;
+    private final long iterationsPerWorker;
+
+    public TimetableSolver(Duration timeBudget, long seed) {
+        this(timeBudget, seed, Runtime.getRuntime().availableProcessors(), Long.MAX_VALUE);
+    }
+
+    public TimetableSolver(Duration timeBudget, long seed, int threads, long iterationsPerWorker) {
+        if (timeBudget == null || timeBudget.isNegative() || timeBudget.isZero()) {
+            throw new IllegalArgumentException("Time budget must be positive");
+        }
+        if (threads < 1 || iterationsPerWorker < 1) {
+            throw new IllegalArgumentException("Threads and iterations must be positive");
+        }
+        this.timeBudget = timeBudget;
+        this.seed = seed;
+        this.threads = threads;
+        this.iterationsPerWorker = iterationsPerWorker;
+    }
+
+    /**
+     * @throws IllegalArgumentException if some section cannot be placed in
+     *                                  any room, even before optimizing
+     */
+    public TimetableSolution solve(TimetableProblem problem) {
+        if (problem == null) {
+            throw new IllegalArgumentException("Problem cannot be null");
+        }
+        long start = System.nanoTime();
+        long deadline = start + timeBudget.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "timetable-solver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Search>> results = new ArrayList<>(threads);
+            for (int w = 0; w < threads; w++) {
+                Random random = new Random(seed * 31 + w);
+                results.add(workers.submit(() -> new Search(problem, random).run(deadline, iterationsPerWorker)));
+            }
+            Search best = null;
+            long iterations = 0;
+            int restarts = 0;
+            long initialClashes = Long.MAX_VALUE;
+            for (Future<Search> result : results) {
+                Search search = result.get();
+                iterations += search.iterations;
+                restarts += search.restarts;
+                initialClashes = Math.min(initialClashes, search.firstStartCost);
+                // Strictly better only, so ties go to the lowest worker and results stay reproducible
+                if (best == null || search.bestCost < best.bestCost) {
+                    best = search;
+                }
+            }
+            return new TimetableSolution(problem, best.bestPeriod, best.bestRoom, best.bestCost, initialClashes,
+                    iterations, restarts, Duration.ofNanos(System.nanoTime() - start));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while solving", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IllegalArgumentException) {
+                throw (IllegalArgumentException) e.getCause();
+            }
+            throw new IllegalStateException("Timetable search failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * One worker's search state. Meetings are indexed 0..M-1; grids are
+     * flattened as period * rooms + room and period * sections + section.
+     */
+    private static final class Search {
+        final TimetableProblem problem;
+        final Random random;
+        final int periods;
+        final int rooms;
+        final int sections;
+        final int[] period;
+        final int[] room;
+        final int[] occupant;
+        final boolean[] present;
+        // load[p][s]: students of s who have another section meeting in period p
+        final int[] load;
+        long cost;
+
+        int[] bestPeriod;
+        int[] bestRoom;
+        long bestCost = Long.MAX_VALUE;
+        long firstStartCost = -1;
+        long iterations;
+        int restarts;
+
+        Search(TimetableProblem problem, Random random) {
+            this.problem = problem;
+            this.random = random;
+            this.periods = problem.periodCount();
+            this.rooms = problem.roomCount();
+            this.sections = problem.sectionCount();
+            int meetings = problem.meetingCount();
+            this.period = new int[meetings];
+            this.room = new int[meetings];
+            this.occupant = new int[periods * rooms];
+            this.present = new boolean[periods * sections];
+            this.load = new int[periods * sections];
+        }
+
+        Search run(long deadline, long maxIterations) {
+            // Each restart anneals twice as long as the one before, so long budgets get long, cool runs
+            long restartLength = Math.max(10_000L, 200L * period.length);
+            double startTemperature = Math.max(1.0, problem.averageWeight());
+            for (; iterations < maxIterations && System.nanoTime() - deadline < 0; restartLength *= 2) {
+                greedyStart();
+                if (firstStartCost < 0) {
+                    firstStartCost = cost;
+                }
+                keepIfBest();
+                restarts++;
+                for (long i = 0; i < restartLength && iterations < maxIterations; i++, iterations++) {
+                    if (i % TIME_CHECK_INTERVAL == 0 && System.nanoTime() - deadline >= 0) {
+                        return this;
+                    }
+                    double progress = (double) i / restartLength;
+                    double temperature = startTemperature * Math.pow(FINAL_TEMPERATURE_RATIO, progress);
+                    if (step(temperature) && cost < bestCost) {
+                        keepIfBest();
+                    }
+                    if (cost == 0) {
+                        return this;
+                    }
+                }
+            }
+            return this;
+        }
+
+        // Largest sections first, each into the least clashing period that still has a room for it
+        void greedyStart() {
+            Arrays.fill(occupant, -1);
+            Arrays.fill(present, false);
+            Arrays.fill(load, 0);
+            cost = 0;
+            Integer[] order = new Integer[period.length];
+            for (int m = 0; m < order.length; m++) {
+                order[m] = m;
+            }
+            // Shuffle, then stable-sort by size: equal sizes are placed in a random order
+            for (int i = order.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                Integer swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+            Arrays.sort(order, (a, b) -> Integer.compare(problem.size(problem.sectionOf(b)),
+                    problem.size(problem.sectionOf(a))));
+            for (int m : order) {
+                int s = problem.sectionOf(m);
+                int bestP = -1;
+                int bestR = -1;
+                int offset = random.nextInt(periods);
+                for (int k = 0; k < periods; k++) {
+                    int p = (offset + k) % periods;
+                    if (present[p * sections + s] || (bestP >= 0 && load[p * sections + s] >= load[bestP * sections + s])) {
+                        continue;
+                    }
+                    int r = smallestFreeRoom(p, s);
+                    if (r >= 0) {
+                        bestP = p;
+                        bestR = r;
+                    }
+                }
+                if (bestP < 0) {
+                    throw new IllegalArgumentException("No free room with capacity for section "
+                            + problem.code(s) + " (" + problem.size(s) + " students)");
+                }
+                place(m, bestP, bestR);
+            }
+        }
+
+        /**
+         * One annealing move.
+         *
+         * @return true if the move was made
+         */
+        boolean step(double temperature) {
+            int m = random.nextInt(period.length);
+            int s = problem.sectionOf(m);
+            int p = period[m];
+            int q = random.nextInt(periods);
+            if (q == p || present[q * sections + s]) {
+                return false;
+            }
+            int r = randomFreeRoom(q, s);
+            if (r >= 0) {
+                long delta = load[q * sections + s] - load[p * sections + s];
+                if (!accept(delta, temperature)) {
+                    return false;
+                }
+                unplace(m);
+                place(m, q, r);
+                return true;
+            }
+            // No free room: swap with the meeting in a random room that fits s
+            int first = problem.firstRoomFor(s);
+            int r2 = first + random.nextInt(rooms - first);
+            int other = occupant[q * rooms + r2];
+            int t = problem.sectionOf(other);
+            if (t == s || present[p * sections + t] || problem.size(t) > problem.capacity(room[m])) {
+                return false;
+            }
+            int w = problem.weight(s, t);
+            long delta = (load[q * sections + s] - w) - load[p * sections + s]
+                    + (load[p * sections + t] - w) - load[q * sections + t];
+            if (!accept(delta, temperature)) {
+                return false;
+            }
+            int r1 = room[m];
+            unplace(m);
+            unplace(other);
+            place(m, q, r2);
+            place(other, p, r1);
+            return true;
+        }
+
+        boolean accept(long delta, double temperature) {
+            return delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature);
+        }
+
+        void place(int m, int p, int r) {
+            int s = problem.sectionOf(m);
+            period[m] = p;
+            room[m] = r;
+            occupant[p * rooms + r] = m;
+            present[p * sections + s] = true;
+            cost += load[p * sections + s];
+            int[] neighbours = problem.neighbours(s);
+            int[] weights = problem.weights(s);
+            for (int i = 0; i < neighbours.length; i++) {
+                load[p * sections + neighbours[i]] += weights[i];
+            }
+        }
+
+        void unplace(int m) {
+            int s = problem.sectionOf(m);
+            int p = period[m];
+            occupant[p * rooms + room[m]] = -1;
+            present[p * sections + s] = false;
+            int[] neighbours = problem.neighbours(s);
+            int[] weights = problem.weights(s);
+            for (int i = 0; i < neighbours.length; i++) {
+                load[p * sections + neighbours[i]] -= weights[i];
+            }
+            cost -= load[p * sections + s];
+        }
+
+        // Rooms are sorted by capacity, so the first free one that fits is the tightest
+        int smallestFreeRoom(int p, int s) {
+            for (int r = problem.firstRoomFor(s); r < rooms; r++) {
+                if (occupant[p * rooms + r] < 0) {
+                    return r;
+                }
+            }
+            return -1;
+        }
+
+        int randomFreeRoom(int p, int s) {
+            int first = problem.firstRoomFor(s);
+            int fitting = rooms - first;
+            if (fitting == 0) {
+                return -1;
+            }
+            int offset = random.nextInt(fitting);
+            for (int k = 0; k < fitting; k++) {
+                int r = first + (offset + k) % fitting;
+                if (occupant[p * rooms + r] < 0) {
+                    return r;
+                }
+            }
+            return -1;
+        }
+
+        void keepIfBest() {
+            if (cost < bestCost) {
+                bestCost = cost;
+                bestPeriod = period.clone();
+                bestRoom = room.clone();
+            }
+        }
+    }
+
+    // Example main: 2k sections, 200 rooms and 50k students in 40 programs, on a 5 second budget
+    public static void main(String[] args) {
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 50_000;
+        int sectionCount = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        Duration budget = Duration.ofSeconds(args.length > 2 ? Integer.parseInt(args[2]) : 5);
+        int programs = 40;
+        int perProgram = sectionCount / programs;
+
+        // Students mostly take sections of their own program, plus one elective from anywhere
+        Map<String, List<String>> enrollments = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < students; i++) {
+            int program = i % programs;
+            Set<String> courses = new LinkedHashSet<>();
+            while (courses.size() < 4) {
+                courses.add("SEC" + (program * perProgram + random.nextInt(perProgram)));
+            }
+            courses.add("SEC" + random.nextInt(sectionCount));
+            enrollments.put(String.format("S%05d", i), new ArrayList<>(courses));
+        }
+
+        TimetableProblem.Builder builder = TimetableProblem.builder();
+        for (int i = 0; i < sectionCount; i++) {
+            builder.section("SEC" + i, 2);
+        }
+        for (int r = 0; r < 200; r++) {
+            builder.room("R" + r, r < 40 ? 250 : 180);
+        }
+        LocalTime[] starts = {LocalTime.of(8, 0), LocalTime.of(9, 30), LocalTime.of(11, 0),
+                LocalTime.of(12, 30), LocalTime.of(14, 0), LocalTime.of(15, 30)};
+        for (DayOfWeek day : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY)) {
+            for (LocalTime start : starts) {
+                builder.period(day, start, start.plusMinutes(80));
+            }
+        }
+        TimetableProblem problem = builder
+                .enrollments(enrollments.keySet(), new EnrollmentService(new MapEnrollmentRepository(enrollments)))
+                .build();
+
+        TimetableSolution solution = new TimetableSolver(budget, 2024).solve(problem);
+        System.out.printf("%,d sections, %,d students: %,d clashes after greedy start, %,d after search%n",
+                sectionCount, students, solution.initialClashes(), solution.clashes());
+        System.out.printf("%,d moves, %d restarts on %d threads in %,d ms%n", solution.iterations(),
+                solution.restarts(), Runtime.getRuntime().availableProcessors(), solution.elapsed().toMillis());
+        TimetableClashIndex index = solution.toClashIndex();
+        System.out.println("S00000: " + index.weeklyTimetable(enrollments.get("S00000")));
+    }
+}
+
+/**
+ * Sections with their weekly meeting counts, rooms, periods, and the
+ * co-enrollment weights between sections: how many students take both.
+ * Immutable once built.
+ */
+final class TimetableProblem {
+    private final String[] codes;
+    private final int[] sizes;
+    private final int[] meetingSection;
+    private final String[] roomNames;
+    private final int[] capacities;
+    private final int[] firstRoom;
+    private final DayOfWeek[] days;
+    private final LocalTime[] starts;
+    private final LocalTime[] ends;
+    private final int[][] neighbours;
+    private final int[][] weights;
+    private final double averageWeight;
+
+    private TimetableProblem(Builder builder) {
+        int sectionCount = builder.sections.size();
+        this.codes = builder.sections.keySet().toArray(new String[0]);
+        this.sizes = new int[sectionCount];
+        Map<String, Integer> ordinals = new HashMap<>();
+        List<Integer> meetings = new ArrayList<>();
+        for (int s = 0; s < sectionCount; s++) {
+            ordinals.put(codes[s], s);
+            for (int k = 0; k < builder.sections.get(codes[s]); k++) {
+                meetings.add(s);
+            }
+        }
+        this.meetingSection = meetings.stream().mapToInt(Integer::intValue).toArray();
+
+        // Co-enrollment counts per unordered section pair
+        Map<Long, Integer> pairs = new HashMap<>();
+        for (String studentId : builder.studentIds) {
+            int[] taken = builder.enrollmentService.getEnrolledCourses(studentId).stream()
+                    .map(ordinals::get).filter(s -> s != null).mapToInt(Integer::intValue).distinct().toArray();
+            for (int i = 0; i < taken.length; i++) {
+                sizes[taken[i]]++;
+                for (int j = i + 1; j < taken.length; j++) {
+                    int a = Math.min(taken[i], taken[j]);
+                    int b = Math.max(taken[i], taken[j]);
+                    pairs.merge((long) a << 32 | b, 1, Integer::sum);
+                }
+            }
+        }
+        int[] degree = new int[sectionCount];
+        pairs.keySet().forEach(key -> {
+            degree[(int) (key >>> 32)]++;
+            degree[(int) (long) key]++;
+        });
+        this.neighbours = new int[sectionCount][];
+        this.weights = new int[sectionCount][];
+        for (int s = 0; s < sectionCount; s++) {
+            neighbours[s] = new int[degree[s]];
+            weights[s] = new int[degree[s]];
+        }
+        int[] filled = new int[sectionCount];
+        long total = 0;
+        for (Map.Entry<Long, Integer> pair : pairs.entrySet()) {
+            int a = (int) (pair.getKey() >>> 32);
+            int b = (int) (long) pair.getKey();
+            neighbours[a][filled[a]] = b;
+            weights[a][filled[a]++] = pair.getValue();
+            neighbours[b][filled[b]] = a;
+            weights[b][filled[b]++] = pair.getValue();
+            total += pair.getValue();
+        }
+        // Sorted by neighbour, so weight() can binary search
+        for (int s = 0; s < sectionCount; s++) {
+            sortByNeighbour(neighbours[s], weights[s]);
+        }
+        this.averageWeight = pairs.isEmpty() ? 0 : (double) total / pairs.size();
+
+        // Rooms by ascending capacity; firstRoom[s] is the smallest that fits section s
+        List<Map.Entry<String, Integer>> rooms = new ArrayList<>(builder.rooms.entrySet());
+        rooms.sort(Map.Entry.comparingByValue());
+        this.roomNames = rooms.stream().map(Map.Entry::getKey).toArray(String[]::new);
+        this.capacities = rooms.stream().mapToInt(Map.Entry::getValue).toArray();
+        this.firstRoom = new int[sectionCount];
+        for (int s = 0; s < sectionCount; s++) {
+            int r = 0;
+            while (r < capacities.length && capacities[r] < sizes[s]) {
+                r++;
+            }
+            if (r == capacities.length) {
+                throw new IllegalArgumentException("No room holds the " + sizes[s] + " students of " + codes[s]);
+            }
+            firstRoom[s] = r;
+        }
+        this.days = builder.days.toArray(new DayOfWeek[0]);
+        this.starts = builder.starts.toArray(new LocalTime[0]);
+        this.ends = builder.ends.toArray(new LocalTime[0]);
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    int sectionCount() {
+        return codes.length;
+    }
+
+    int meetingCount() {
+        return meetingSection.length;
+    }
+
+    int roomCount() {
+        return roomNames.length;
+    }
+
+    int periodCount() {
+        return days.length;
+    }
+
+    String code(int section) {
+        return codes[section];
+    }
+
+    int size(int section) {
+        return sizes[section];
+    }
+
+    int sectionOf(int meeting) {
+        return meetingSection[meeting];
+    }
+
+    int capacity(int room) {
+        return capacities[room];
+    }
+
+    int firstRoomFor(int section) {
+        return firstRoom[section];
+    }
+
+    int[] neighbours(int section) {
+        return neighbours[section];
+    }
+
+    int[] weights(int section) {
+        return weights[section];
+    }
+
+    double averageWeight() {
+        return averageWeight;
+    }
+
+    int weight(int a, int b) {
+        int at = Arrays.binarySearch(neighbours[a], b);
+        return at >= 0 ? weights[a][at] : 0;
+    }
+
+    TimeSlot slot(int period, int room) {
+        return new TimeSlot(days[period], starts[period], ends[period], roomNames[room]);
+    }
+
+    private static void sortByNeighbour(int[] neighbours, int[] weights) {
+        long[] packed = new long[neighbours.length];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = (long) neighbours[i] << 32 | weights[i];
+        }
+        Arrays.sort(packed);
+        for (int i = 0; i < packed.length; i++) {
+            neighbours[i] = (int) (packed[i] >>> 32);
+            weights[i] = (int) packed[i];
+        }
+    }
+
+    static final class Builder {
+        private final Map<String, Integer> sections = new LinkedHashMap<>();
+        private final Map<String, Integer> rooms = new LinkedHashMap<>();
+        private final List<DayOfWeek> days = new ArrayList<>();
+        private final List<LocalTime> starts = new ArrayList<>();
+        private final List<LocalTime> ends = new ArrayList<>();
+        private Collection<String> studentIds = List.of();
+        private EnrollmentService enrollmentService;
+
+        Builder section(String courseCode, int meetingsPerWeek) {
+            if (courseCode == null || courseCode.isBlank()) {
+                throw new IllegalArgumentException("Course code cannot be null or empty");
+            }
+            if (meetingsPerWeek < 1) {
+                throw new IllegalArgumentException("Section must meet at least once a week");
+            }
+            sections.put(courseCode, meetingsPerWeek);
+            return this;
+        }
+
+        Builder room(String name, int capacity) {
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("Room cannot be null or empty");
+            }
+            if (capacity < 1) {
+                throw new IllegalArgumentException("Room capacity must be positive");
+            }
+            rooms.put(name, capacity);
+            return this;
+        }
+
+        /**
+         * Adds a teaching period; periods must not overlap each other.
+         */
+        Builder period(DayOfWeek day, LocalTime start, LocalTime end) {
+            new TimeSlot(day, start, end, "validated"); // same rules as a slot
+            days.add(day);
+            starts.add(start);
+            ends.add(end);
+            return this;
+        }
+
+        /**
+         * Section sizes and co-enrollments come from these students'
+         * enrollments; courses that are not sections here are ignored.
+         */
+        Builder enrollments(Collection<String> studentIds, EnrollmentService enrollmentService) {
+            if (studentIds == null || enrollmentService == null) {
+                throw new IllegalArgumentException("Students and enrollment service cannot be null");
+            }
+            this.studentIds = List.copyOf(studentIds);
+            this.enrollmentService = enrollmentService;
+            return this;
+        }
+
+        TimetableProblem build() {
+            if (sections.isEmpty() || rooms.isEmpty() || days.isEmpty()) {
+                throw new IllegalArgumentException("Need at least one section, room and period");
+            }
+            if (enrollmentService == null) {
+                throw new IllegalArgumentException("Enrollments must be set");
+            }
+            int meetings = sections.values().stream().mapToInt(Integer::intValue).sum();
+            if (meetings > (long) rooms.size() * days.size()) {
+                throw new IllegalArgumentException(meetings + " meetings do not fit in "
+                        + rooms.size() + " rooms x " + days.size() + " periods");
+            }
+            return new TimetableProblem(this);
+        }
+    }
+}
+
+/**
+ * A generated timetable: the slot of every section meeting, and the
+ * student clashes it leaves.
+ */
+final class TimetableSolution {
+    private final Map<String, List<TimeSlot>> slots = new LinkedHashMap<>();
+    private final long clashes;
+    private final long initialClashes;
+    private final long iterations;
+    private final int restarts;
+    private final Duration elapsed;
+
+    TimetableSolution(TimetableProblem problem, int[] period, int[] room, long clashes, long initialClashes,
+                      long iterations, int restarts, Duration elapsed) {
+        for (int m = 0; m < period.length; m++) {
+            slots.computeIfAbsent(problem.code(problem.sectionOf(m)), code -> new ArrayList<>())
+                    .add(problem.slot(period[m], room[m]));
+        }
+        slots.replaceAll((code, meetings) -> List.copyOf(meetings));
+        this.clashes = clashes;
+        this.initialClashes = initialClashes;
+        this.iterations = iterations;
+        this.restarts = restarts;
+        this.elapsed = elapsed;
+    }
+
+    List<TimeSlot> slotsOf(String courseCode) {
+        return slots.getOrDefault(courseCode, List.of());
+    }
+
+    Map<String, List<TimeSlot>> allSlots() {
+        return slots;
+    }
+
+    /**
+     * Student clashes left: per period, students with two sections meeting then.
+     */
+    long clashes() {
+        return clashes;
+    }
+
+    /**
+     * Clashes of the best greedy start, before any search.
+     */
+    long initialClashes() {
+        return initialClashes;
+    }
+
+    long iterations() {
+        return iterations;
+    }
+
+    int restarts() {
+        return restarts;
+    }
+
+    Duration elapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Schedules every section in a new clash index, for registration and
+     * timetable display.
+     */
+    TimetableClashIndex toClashIndex() {
+        TimetableClashIndex index = new TimetableClashIndex();
+        slots.forEach((code, meetings) -> index.scheduleSection(code, meetings).ifPresent(clash -> {
+            throw new IllegalStateException("Generated timetable double-books a room: " + clash.describe());
+        }));
+        return index;
+    }
+}
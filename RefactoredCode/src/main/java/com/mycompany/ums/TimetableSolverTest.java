@@ -0,0 +1,121 @@
+package com.mycompany.ums;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test for the timetable generator: an easy instance is solved without
+ * clashes, hard constraints always hold, the same seed gives the same
+ * timetable, and sections too large for every room are rejected.
+ */
+public class TimetableSolverTest {
+
+    public static void main(String[] args) {
+        // Four programs of three courses each; every student takes their whole program
+        Map<String, List<String>> enrollments = new HashMap<>();
+        for (int i = 0; i < 120; i++) {
+            int program = i % 4;
+            enrollments.put("S" + i, List.of("P" + program + "A", "P" + program + "B", "P" + program + "C"));
+        }
+        TimetableProblem problem = problem(enrollments, 40);
+
+        TimetableSolver solver = new TimetableSolver(Duration.ofSeconds(30), 11, 2, 200_000);
+        TimetableSolution solution = solver.solve(problem);
+        check(solution.clashes() == 0, "Easy instance should have no clashes, got " + solution.clashes());
+        check(countClashes(solution, enrollments) == solution.clashes(), "Reported clashes should match a recount");
+        checkHardConstraints(solution);
+
+        // A clash index built from the solution admits every enrollment
+        TimetableClashIndex index = solution.toClashIndex();
+        enrollments.forEach((studentId, courses) -> check(index.findClash(studentId, courses).isEmpty(),
+                "Generated timetable should not clash for " + studentId));
+        check(index.weeklyTimetable(enrollments.get("S0")).size() == 6, "Six meetings should be listed");
+
+        // Crowded instance: the same seed and threads give the same timetable and cost
+        Map<String, List<String>> crowded = new HashMap<>();
+        for (int i = 0; i < 300; i++) {
+            // The fourth course is sometimes the first again, so drop duplicates
+            crowded.put("S" + i, List.copyOf(new LinkedHashSet<>(List.of("P" + i % 4 + "A", "P" + (i + 1) % 4 + "B",
+                    "P" + (i + 2) % 4 + "C", "P" + i % 3 + "A"))));
+        }
+        TimetableProblem hard = problem(crowded, 200);
+        TimetableSolver deterministic = new TimetableSolver(Duration.ofMinutes(1), 5, 2, 50_000);
+        TimetableSolution first = deterministic.solve(hard);
+        TimetableSolution second = deterministic.solve(hard);
+        check(first.clashes() == second.clashes() && first.allSlots().equals(second.allSlots()),
+                "Same seed should give the same timetable");
+        check(first.clashes() <= first.initialClashes(), "Search should not end worse than its greedy start");
+        check(countClashes(first, crowded) == first.clashes(), "Reported clashes should match a recount");
+        checkHardConstraints(first);
+
+        // Sections larger than every room cannot be placed
+        try {
+            problem(enrollments, 10);
+            throw new IllegalStateException("Oversized sections should be rejected");
+        } catch (IllegalArgumentException expected) {
+            // expected
+        }
+
+        System.out.println("Timetable solver tests passed");
+    }
+
+    // 12 sections meeting twice a week, three large rooms and a small one, and 10 periods over Monday and Tuesday
+    private static TimetableProblem problem(Map<String, List<String>> enrollments, int largeRoom) {
+        TimetableProblem.Builder builder = TimetableProblem.builder();
+        for (int program = 0; program < 4; program++) {
+            for (String course : List.of("A", "B", "C")) {
+                builder.section("P" + program + course, 2);
+            }
+        }
+        builder.room("R1", largeRoom).room("R2", largeRoom).room("R3", largeRoom).room("R4", 20);
+        for (DayOfWeek day : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY)) {
+            for (int hour = 8; hour < 18; hour += 2) {
+                builder.period(day, LocalTime.of(hour, 0), LocalTime.of(hour + 2, 0));
+            }
+        }
+        return builder.enrollments(enrollments.keySet(), new EnrollmentService(new MapEnrollmentRepository(enrollments)))
+                .build();
+    }
+
+    private static long countClashes(TimetableSolution solution, Map<String, List<String>> enrollments) {
+        long clashes = 0;
+        for (List<String> courses : enrollments.values()) {
+            for (int a = 0; a < courses.size(); a++) {
+                for (int b = a + 1; b < courses.size(); b++) {
+                    for (TimeSlot x : solution.slotsOf(courses.get(a))) {
+                        for (TimeSlot y : solution.slotsOf(courses.get(b))) {
+                            if (x.overlaps(y)) {
+                                clashes++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return clashes;
+    }
+
+    private static void checkHardConstraints(TimetableSolution solution) {
+        Map<String, TimeSlot> booked = new HashMap<>();
+        solution.allSlots().forEach((code, slots) -> {
+            check(slots.size() == 2, code + " should meet twice");
+            check(!slots.get(0).overlaps(slots.get(1)), code + " meets twice at once");
+            for (TimeSlot slot : slots) {
+                String key = slot.room() + " " + slot.startMinute();
+                check(booked.put(key, slot) == null, "Room double-booked: " + key);
+            }
+        });
+        check(booked.size() == 24, "Every meeting should be placed");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+}
@@ -1,37 +1,94 @@
 package com.mycompany.ums;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
 import java.time.*;
 
 public class UMS {
+    // Set -Dums.data.dir=<dir> to persist state through the event log
+    private static final String DATA_DIR_PROPERTY = "ums.data.dir";
+    private static final long SNAPSHOT_THRESHOLD_BYTES = 16L * 1024 * 1024;
+    // Or -Dums.snapshot.file=<file> to map the core tables from a columnar snapshot, rewritten on exit
+    private static final String SNAPSHOT_FILE_PROPERTY = "ums.snapshot.file";
+    private static final Duration NOTIFICATION_SWEEP_PERIOD = Duration.ofSeconds(1);
+    private static final Duration NOTIFICATION_SWEEP_SLICE = Duration.ofMillis(2);
+    private static final LocalDate EXAM_PERIOD_START = LocalDate.of(2025, 5, 20);
+    private static final int EXAM_DAYS = 10;
+    private static final List<LocalTime> EXAM_SESSIONS = List.of(LocalTime.of(9, 0), LocalTime.of(14, 0));
+    private static final int EXAM_SEATS_PER_SESSION = 500;
+    // Results are not split by semester yet, so every grade counts toward one running total
+    private static final int RESULT_SEMESTER = 0;
+
     // Data storage maps & lists
-    private List<Student> students = new ArrayList<>();
-    private List<Course> courses = new ArrayList<>();
+    private StudentRepository students = new InMemoryStudentRepository();
+    private List<Course> courses = new CopyOnWriteArrayList<>();
     private Map<String, List<String>> prerequisites = new HashMap<>();
-    private Map<String, Double> studentGPAs = new HashMap<>();
-    private Map<String, Integer> completedCredits = new HashMap<>();
+    // GPAs and credits live in primitive columns; the maps are views for legacy callers
+    private final StudentOrdinals studentOrdinals = new StudentOrdinals();
+    private GpaStore gpaStore = new ColumnarGpaStore(studentOrdinals);
+    private CreditStore creditStore = new ColumnarCreditStore(studentOrdinals);
+    private Map<String, Double> studentGPAs = gpaStore.asMap();
+    private Map<String, Integer> completedCredits = creditStore.asMap();
     private Map<String, Boolean> feeStatus = new HashMap<>();
-    private Map<String, List<String>> enrolledCourses = new HashMap<>();
+    private ConcurrentMap<String, List<String>> enrolledCourses = new ConcurrentHashMap<>();
     private Map<String, List<String>> courseMaterials = new HashMap<>();
     private Map<String, List<Assessment>> studentAssessments = new HashMap<>();
     private Map<String, Boolean> fypStatus = new HashMap<>();
     private Map<String, Map<String, Double>> semesterResults = new HashMap<>();
+    // Source of GPAs: every posted result updates the student's CGPA in gpaStore
+    private CumulativeGpaEngine gpaEngine = newGpaEngine();
     private Map<String, Boolean> degreeClearance = new HashMap<>();
+    // Published once per term and saved with the rest of the state; examSchedule is its display form
+    private Map<String, ExamSlot> examSlots = new HashMap<>();
     private Map<String, List<String>> examSchedule = new HashMap<>();
-    private Map<String, List<String>> notifications = new HashMap<>();
+    // The only notification store: a campus announcement is one topic append, and everything expires by category
+    private NotificationHub notificationHub = new NotificationHub();
+    private final ScheduledExecutorService notificationSweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
     private Map<String, Map<String, String>> timetables = new HashMap<>();
     private Map<String, List<String>> academicHistory = new HashMap<>();
+    // Authority for prerequisite edits and checks; the prerequisites map mirrors it for journaling and snapshots
+    private PrerequisiteGraph prerequisiteGraph = new PrerequisiteGraph();
+    private AcademicHistoryIndex academicHistoryIndex = new AcademicHistoryIndex(academicHistory, prerequisiteGraph);
+    private CourseRegistrationEngine registrationEngine = new CourseRegistrationEngine(enrolledCourses, this::maxCreditsFor);
+    private TimetableClashIndex clashIndex = newClashIndex();
+    private final ExecutorService waitlistPromoter = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "waitlist-promoter");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private RegistrationWaitlist waitlist = newWaitlist(registrationEngine);
     private Map<String, List<String>> feedback = new HashMap<>();
     private Map<String, List<String>> placementInfo = new HashMap<>();
 
+    private UmsEventLog eventLog;
     private Scanner scanner = new Scanner(System.in);
+    private final StudentRegistration studentRegistration = new ConsoleStudentRegistration();
 
     public static void main(String[] args) {
         new UMS().start();
     }
 
     private void start() {
-        initializeData();
+        String dataDir = System.getProperty(DATA_DIR_PROPERTY);
+        String snapshotFile = System.getProperty(SNAPSHOT_FILE_PROPERTY);
+        if (dataDir != null) {
+            openEventLog(Path.of(dataDir));
+        } else if (snapshotFile != null && Files.exists(Path.of(snapshotFile))) {
+            loadColumnarSnapshot(Path.of(snapshotFile));
+        } else {
+            initializeData();
+        }
+        notificationSweeper.scheduleWithFixedDelay(() -> notificationHub.sweep(NOTIFICATION_SWEEP_SLICE),
+                NOTIFICATION_SWEEP_PERIOD.toMillis(), NOTIFICATION_SWEEP_PERIOD.toMillis(), TimeUnit.MILLISECONDS);
 
         System.out.println("Welcome to Student Management System");
 
@@ -41,11 +98,16 @@ public class UMS {
             int choice = readInt("Enter choice: ");
 
             switch (choice) {
-                case 1 -> Student.registerStudent(students, scanner);
+                case 1 -> studentRegistration.register(
+                        new ObservedStudentRepository(students, s -> journal(UmsEvent.studentRegistered(s))), scanner);
                 case 2 -> manageCourses();
                 case 3 -> studentOperations();
                 case 4 -> {
                     System.out.println("Exiting system...");
+                    closeEventLog();
+                    if (dataDir == null && snapshotFile != null) {
+                        saveColumnarSnapshot(Path.of(snapshotFile));
+                    }
                     return;
                 }
                 case 5 -> runAllTests();
@@ -95,18 +157,414 @@ public class UMS {
         prerequisites.put("CS701", List.of("CS401", "CS501"));
         prerequisites.put("CS801", List.of("CS701"));
 
-        // Course materials
-        courseMaterials.put("CS101", List.of("Lecture 1: Introduction", "Lecture 2: Variables", "Lecture 3: Control Structures"));
-        courseMaterials.put("CS201", List.of("Lecture 1: Arrays", "Lecture 2: Linked Lists", "Lecture 3: Stacks and Queues"));
+        loadCourseMaterials();
 
         // Test student
         Student testStudent = new Student("S001", "Test Student", "test@university.edu", "1234567890");
         students.add(testStudent);
-        studentGPAs.put("S001", 3.5);
-        completedCredits.put("S001", 90);
+        applyResult("S001", "CS101", 4.0);
+        applyResult("S001", "MATH101", 3.3);
+        applyResult("S001", "ENG101", 3.7);
+        creditStore.setCredits("S001", 90);
         feeStatus.put("S001", true);
         enrolledCourses.put("S001", new ArrayList<>(List.of("CS101", "CS201")));
         academicHistory.put("S001", new ArrayList<>(List.of("CS101: A", "MATH101: B+", "ENG101: A-")));
+        rebuildHistoryIndex();
+        rebuildRegistrationEngine();
+        publishExamSchedule();
+    }
+
+    // Reference data, not journaled; loaded on every start
+    private void loadCourseMaterials() {
+        courseMaterials.put("CS101", List.of("Lecture 1: Introduction", "Lecture 2: Variables", "Lecture 3: Control Structures"));
+        courseMaterials.put("CS201", List.of("Lecture 1: Arrays", "Lecture 2: Linked Lists", "Lecture 3: Stacks and Queues"));
+    }
+
+    private void rebuildHistoryIndex() {
+        prerequisiteGraph = PrerequisiteGraph.fromMap(prerequisites);
+        academicHistoryIndex = new AcademicHistoryIndex(academicHistory, prerequisiteGraph);
+    }
+
+    // Logs written before cycles were rejected may hold one; the edges that would close it are skipped
+    private void applyPrerequisites(String courseCode, List<String> prereqs) {
+        try {
+            prerequisiteGraph.setPrerequisites(courseCode, prereqs);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Skipping prerequisites for " + courseCode + ": " + e.getMessage());
+            return;
+        }
+        if (prereqs.isEmpty()) {
+            prerequisites.remove(courseCode);
+        } else {
+            prerequisites.put(courseCode, prereqs);
+        }
+    }
+
+    private void rebuildRegistrationEngine() {
+        rebuildRegistrationEngine(new CourseRegistrationEngine(enrolledCourses, this::maxCreditsFor));
+    }
+
+    private void rebuildRegistrationEngine(CourseRegistrationEngine engine) {
+        registrationEngine = engine;
+        // Runs under the student's lock, so records are queued in mutation order;
+        // they become durable with the next group commit, a few milliseconds later
+        registrationEngine.addEnrollmentListener(new EnrollmentListener() {
+            @Override
+            public void onEnrolled(String studentId, List<String> courseCodes) {
+                courseCodes.forEach(code -> journalAsync(UmsEvent.enrolled(studentId, code)));
+            }
+
+            @Override
+            public void onDropped(String studentId, String courseCode) {
+                journalAsync(UmsEvent.dropped(studentId, courseCode));
+            }
+        });
+        clashIndex = newClashIndex();
+        clashIndex.attachTo(registrationEngine);
+        waitlist = newWaitlist(registrationEngine);
+        openSections();
+    }
+
+    // Reference data, not journaled; rebuilt with every engine. CS301 and CS401 overlap on Wednesday.
+    // Students' enrollments are booked on their first check, not decoded up front
+    private TimetableClashIndex newClashIndex() {
+        TimetableClashIndex index = new TimetableClashIndex(
+                studentId -> enrolledCourses.getOrDefault(studentId, List.of()),
+                (studentId, clash) -> System.out.println("Existing enrollment of " + studentId
+                        + " left off the timetable: " + clash.describe()));
+        index.scheduleSection("CS101", List.of(TimeSlot.of(DayOfWeek.MONDAY, "09:00", "11:00", "R101"),
+                TimeSlot.of(DayOfWeek.WEDNESDAY, "09:00", "10:00", "R101")));
+        index.scheduleSection("CS201", List.of(TimeSlot.of(DayOfWeek.TUESDAY, "09:00", "11:00", "R101")));
+        index.scheduleSection("CS301", List.of(TimeSlot.of(DayOfWeek.WEDNESDAY, "11:00", "13:00", "R102")));
+        index.scheduleSection("CS401", List.of(TimeSlot.of(DayOfWeek.WEDNESDAY, "12:00", "14:00", "R103")));
+        index.scheduleSection("CS501", List.of(TimeSlot.of(DayOfWeek.THURSDAY, "09:00", "11:00", "R102")));
+        index.scheduleSection("CS601", List.of(TimeSlot.of(DayOfWeek.THURSDAY, "14:00", "16:00", "R101")));
+        index.scheduleSection("CS701", List.of(TimeSlot.of(DayOfWeek.FRIDAY, "09:00", "11:00", "R103")));
+        index.scheduleSection("CS801", List.of(TimeSlot.of(DayOfWeek.FRIDAY, "14:00", "17:00", "R104")));
+        return index;
+    }
+
+    // Run once per term from Course Management: reads every enrollment, so it never runs on start.
+    // Each course's session is journaled, and courses left out of the new timetable are cleared
+    private boolean publishExamSchedule() {
+        ExamTimetable timetable;
+        try {
+            timetable = new ExamScheduler(EXAM_PERIOD_START, EXAM_DAYS, EXAM_SESSIONS, EXAM_SEATS_PER_SESSION)
+                    .schedule(enrolledCourses.keySet(), new EnrollmentService(new MapEnrollmentRepository(enrolledCourses)));
+        } catch (IllegalArgumentException e) {
+            System.out.println("Exam schedule not published: " + e.getMessage());
+            return false;
+        }
+        Set<String> codes = new HashSet<>(examSlots.keySet());
+        codes.addAll(timetable.courseCodes());
+        for (String code : codes) {
+            ExamSlot slot = timetable.slotOf(code);
+            setExamSlot(code, slot);
+            journal(UmsEvent.examScheduled(code, slot));
+        }
+        return true;
+    }
+
+    private void setExamSlot(String courseCode, ExamSlot slot) {
+        if (slot == null) {
+            examSlots.remove(courseCode);
+            examSchedule.remove(courseCode);
+        } else {
+            examSlots.put(courseCode, slot);
+            examSchedule.put(courseCode, List.of(slot.describe()));
+        }
+    }
+
+    private RegistrationWaitlist newWaitlist(CourseRegistrationEngine engine) {
+        return new RegistrationWaitlist(engine, this::isEligibleForPromotion, new PromotionListener() {
+            @Override
+            public void onPromoted(String studentId, String courseCode) {
+                addNotification(studentId, NotificationCategory.REGISTRATION,
+                        "You have been enrolled in " + courseCode + " from the waitlist.");
+            }
+
+            @Override
+            public void onSkipped(String studentId, String courseCode, RegistrationResult reason) {
+                addNotification(studentId, NotificationCategory.REGISTRATION, "You have been removed from the "
+                        + courseCode + " waitlist: " + skipReason(studentId, courseCode, reason.status()) + ".");
+            }
+        }, waitlistPromoter);
+    }
+
+    // Worded like the console registration messages for the same outcome
+    private String skipReason(String studentId, String courseCode, RegistrationStatus status) {
+        return switch (status) {
+            case ALREADY_ENROLLED -> "you are already enrolled in it";
+            case CREDIT_LIMIT_EXCEEDED -> "it would exceed your max credit limit";
+            case TIMETABLE_CLASH -> clashIndex.findClash(studentId, courseCode)
+                    .map(clash -> "timetable clash: " + clash.describe())
+                    .orElse("it clashes with your timetable");
+            case NOT_ELIGIBLE -> {
+                List<String> missing = academicHistoryIndex.missingPrerequisites(studentId, courseCode);
+                yield missing.isEmpty() ? "you no longer meet its requirements"
+                        : "you do not meet prerequisites: " + missing;
+            }
+            default -> "the course is no longer open for registration";
+        };
+    }
+
+    private void addNotification(String studentId, NotificationCategory category, String message) {
+        String topic = NotificationHub.studentTopic(studentId);
+        notificationHub.publish(topic, category, message,
+                stored -> journalAsync(UmsEvent.notificationPublished(topic, stored)));
+    }
+
+    // Stored once on the campus topic, however many students there are
+    private void postAnnouncement(String message) {
+        notificationHub.publish(NotificationHub.CAMPUS, NotificationCategory.ANNOUNCEMENT, message,
+                stored -> journalAsync(UmsEvent.notificationPublished(NotificationHub.CAMPUS, stored)));
+    }
+
+    // Restores state from the event log, or seeds the demo data into a new one
+    private void openEventLog(Path directory) {
+        try {
+            eventLog = UmsEventLog.open(directory, this::applyEvent);
+            if (eventLog.getRecoveredEvents() == 0) {
+                initializeData();
+                eventLog.snapshot(this::writeState);
+            } else {
+                loadCourseMaterials();
+                rebuildRegistrationEngine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open event log in " + directory, e);
+        }
+    }
+
+    // Maps the student, course, enrollment and result tables; rows are decoded on first lookup
+    private void loadColumnarSnapshot(Path file) {
+        try {
+            ColumnarSnapshot snapshot = ColumnarSnapshot.open(file);
+            students = new MappedStudentRepository(snapshot);
+            snapshot.courses().forEach(c -> courses.add(new Course(c.code(), c.name(), c.creditHours(), c.capacity())));
+            prerequisites = new HashMap<>(snapshot.prerequisites());
+            studentGPAs = new OverlayMap<>(snapshot.gpaView());
+            completedCredits = new OverlayMap<>(snapshot.completedCreditsView());
+            gpaStore = GpaStore.of(studentGPAs);
+            gpaEngine = newGpaEngine();
+            creditStore = CreditStore.of(completedCredits);
+            feeStatus = new OverlayMap<>(snapshot.feePaidView());
+            fypStatus = new OverlayMap<>(snapshot.fypStatusView());
+            degreeClearance = new OverlayMap<>(snapshot.degreeClearanceView());
+            enrolledCourses = new OverlayMap<>(snapshot.enrollmentView());
+            semesterResults = new OverlayMap<>(snapshot.resultView(), HashMap::new);
+            academicHistory = new OverlayMap<>(snapshot.academicHistoryView(), ArrayList::new);
+            snapshot.examSessions().forEach((code, session) ->
+                    setExamSlot(code, new ExamSlot(session.toLocalDate(), session.toLocalTime())));
+            loadCourseMaterials();
+            rebuildHistoryIndex();
+            rebuildRegistrationEngine(
+                    new CourseRegistrationEngine(enrolledCourses, this::maxCreditsFor, snapshot.seatsTaken()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map snapshot " + file, e);
+        }
+    }
+
+    // Feedback, notifications and assessments are not part of the columnar snapshot
+    private void saveColumnarSnapshot(Path file) {
+        ColumnarSnapshot.Writer writer = new ColumnarSnapshot.Writer();
+        students.findAll().forEach(writer::student);
+        courses.forEach(c -> writer.course(c.code, c.name, c.creditHours, c.capacity));
+        prerequisites.forEach(writer::prerequisites);
+        examSlots.forEach((code, slot) -> writer.exam(code, slot.date().atTime(slot.time())));
+        gpaStore.forEach(writer::gpa);
+        creditStore.forEach(writer::completedCredits);
+        feeStatus.forEach(writer::feePaid);
+        fypStatus.forEach(writer::fypRegistered);
+        degreeClearance.forEach(writer::degreeCleared);
+        enrolledCourses.forEach(writer::enrollments);
+        semesterResults.forEach((id, results) -> results.forEach((course, grade) -> writer.result(id, course, grade)));
+        academicHistory.forEach(writer::history);
+        try {
+            writer.write(file);
+        } catch (IOException e) {
+            System.out.println("Failed to write snapshot: " + e.getMessage());
+        }
+    }
+
+    private void closeEventLog() {
+        if (eventLog == null) {
+            return;
+        }
+        try {
+            eventLog.close();
+        } catch (IOException e) {
+            System.out.println("Failed to close event log: " + e.getMessage());
+        }
+    }
+
+    // Durable before returning; takes a snapshot once the log has grown past the threshold
+    private void journal(UmsEvent event) {
+        if (eventLog == null) {
+            return;
+        }
+        eventLog.append(event);
+        if (eventLog.getBytesSinceSnapshot() > SNAPSHOT_THRESHOLD_BYTES) {
+            try {
+                eventLog.snapshot(this::writeState);
+            } catch (IOException e) {
+                System.out.println("Snapshot failed, continuing with the log: " + e.getMessage());
+            }
+        }
+    }
+
+    private void journalAsync(UmsEvent event) {
+        if (eventLog != null) {
+            eventLog.appendAsync(event);
+        }
+    }
+
+    // Replay must be idempotent: a record can be both in a snapshot and in the log after it
+    private void applyEvent(UmsEvent event) {
+        String key = event.key();
+        switch (event.type()) {
+            case STUDENT_REGISTERED -> {
+                if (!students.existsById(key)) {
+                    students.add(new Student(key, event.arg(0), event.arg(1), event.arg(2)));
+                }
+            }
+            case COURSE_ADDED -> {
+                if (courses.stream().noneMatch(c -> c.code.equals(key))) {
+                    courses.add(new Course(key, event.arg(0),
+                            Integer.parseInt(event.arg(1)), Integer.parseInt(event.arg(2))));
+                }
+            }
+            case PREREQUISITES_SET -> applyPrerequisites(key, event.args());
+            case EXAM_SCHEDULED -> setExamSlot(key, event.args().isEmpty() ? null
+                    : new ExamSlot(LocalDate.parse(event.arg(0)), LocalTime.parse(event.arg(1))));
+            case FEE_PAID -> feeStatus.put(key, true);
+            case ENROLLED -> enrolledCourses.compute(key, (id, current) -> {
+                List<String> updated = new ArrayList<>(current == null ? List.of() : current);
+                if (!updated.contains(event.arg(0))) {
+                    updated.add(event.arg(0));
+                }
+                return Collections.unmodifiableList(updated);
+            });
+            case DROPPED -> enrolledCourses.computeIfPresent(key, (id, current) -> {
+                List<String> updated = new ArrayList<>(current);
+                updated.remove(event.arg(0));
+                return Collections.unmodifiableList(updated);
+            });
+            case FYP_REGISTERED -> fypStatus.put(key, true);
+            case CLEARANCE_GRANTED -> degreeClearance.put(key, true);
+            case RESULT_RECORDED -> applyResult(key, event.arg(0), event.value());
+            case GPA_UPDATED -> gpaStore.setGpa(key, event.value());
+            case CREDITS_UPDATED -> creditStore.setCredits(key, (int) event.value());
+            case HISTORY_ADDED -> restoreHistory(key, event.position(), event.arg(0));
+            case FEEDBACK_ADDED -> addAt(feedback.computeIfAbsent(key, id -> new ArrayList<>()),
+                    event.position(), event.arg(0));
+            case NOTIFICATION_PUBLISHED -> notificationHub.restore(key, (long) event.value(),
+                    NotificationCategory.valueOf(event.arg(1)), Long.parseLong(event.arg(2)), event.arg(0));
+            case ASSESSMENT_SUBMITTED -> addAt(studentAssessments.computeIfAbsent(key, id -> new ArrayList<>()),
+                    event.position(), new Assessment());
+        }
+    }
+
+    // Replayed through the index like live appends, so its records never go stale
+    private void restoreHistory(String studentId, int position, String entry) {
+        if (academicHistory.getOrDefault(studentId, List.of()).size() <= position) {
+            academicHistoryIndex.addEntry(studentId, entry);
+        }
+    }
+
+    private static <T> void addAt(List<T> list, int position, T entry) {
+        if (list.size() <= position) {
+            list.add(entry);
+        }
+    }
+
+    // Emits the journaled state as events; feeds snapshots
+    private void writeState(Consumer<UmsEvent> out) {
+        students.findAll().forEach(s -> out.accept(UmsEvent.studentRegistered(s)));
+        courses.forEach(c -> out.accept(UmsEvent.courseAdded(c.code, c.name, c.creditHours, c.capacity)));
+        prerequisites.forEach((code, prereqs) -> out.accept(UmsEvent.prerequisitesSet(code, prereqs)));
+        examSlots.forEach((code, slot) -> out.accept(UmsEvent.examScheduled(code, slot)));
+        gpaStore.forEach((id, gpa) -> out.accept(UmsEvent.gpaUpdated(id, gpa)));
+        creditStore.forEach((id, credits) -> out.accept(UmsEvent.creditsUpdated(id, credits)));
+        feeStatus.forEach((id, paid) -> {
+            if (paid) {
+                out.accept(UmsEvent.feePaid(id));
+            }
+        });
+        enrolledCourses.forEach((id, codes) -> codes.forEach(code -> out.accept(UmsEvent.enrolled(id, code))));
+        fypStatus.forEach((id, registered) -> {
+            if (registered) {
+                out.accept(UmsEvent.fypRegistered(id));
+            }
+        });
+        degreeClearance.forEach((id, granted) -> {
+            if (granted) {
+                out.accept(UmsEvent.clearanceGranted(id));
+            }
+        });
+        semesterResults.forEach((id, results) -> results.forEach(
+                (course, grade) -> out.accept(UmsEvent.resultRecorded(id, course, grade))));
+        academicHistory.forEach((id, entries) -> {
+            for (int i = 0; i < entries.size(); i++) {
+                out.accept(UmsEvent.historyAdded(id, entries.get(i), i));
+            }
+        });
+        feedback.forEach((id, entries) -> {
+            for (int i = 0; i < entries.size(); i++) {
+                out.accept(UmsEvent.feedbackAdded(id, entries.get(i), i));
+            }
+        });
+        notificationHub.forEach((topic, notification) -> out.accept(UmsEvent.notificationPublished(topic, notification)));
+        studentAssessments.forEach((id, assessments) -> {
+            for (int i = 0; i < assessments.size(); i++) {
+                out.accept(UmsEvent.assessmentSubmitted(id, i));
+            }
+        });
+    }
+
+    // Same prerequisite rules as interactive registration, re-checked on promotion.
+    // The credit limit is enforced by the engine itself when the seat is taken.
+    private boolean isEligibleForPromotion(String studentId, String courseCode) {
+        return academicHistoryIndex.meetsPrerequisites(studentId, courseCode);
+    }
+
+    // A student's results already on record are read once, when the engine first sees them
+    private CumulativeGpaEngine newGpaEngine() {
+        return new CumulativeGpaEngine(gpaStore, new GPAValidator(new NonNegativeGPARule()),
+                studentId -> semesterResults.getOrDefault(studentId, Map.of()).entrySet().stream()
+                        .map(result -> new CumulativeGpaEngine.PostedGrade(result.getKey(), RESULT_SEMESTER,
+                                creditHoursOf(result.getKey()), result.getValue()))
+                        .toList());
+    }
+
+    // Posted to the engine before it is stored, so a first-time load does not count it twice
+    private void applyResult(String studentId, String courseCode, double gradePoints) {
+        gpaEngine.postGrade(studentId, courseCode, RESULT_SEMESTER, creditHoursOf(courseCode), gradePoints);
+        semesterResults.computeIfAbsent(studentId, id -> new HashMap<>()).put(courseCode, gradePoints);
+    }
+
+    /**
+     * Records a course result, updating the student's CGPA, and journals it.
+     */
+    public void recordResult(String studentId, String courseCode, double gradePoints) {
+        applyResult(studentId, courseCode, gradePoints);
+        journal(UmsEvent.resultRecorded(studentId, courseCode, gradePoints));
+    }
+
+    private int creditHoursOf(String courseCode) {
+        return courses.stream().filter(c -> c.code.equals(courseCode)).mapToInt(c -> c.creditHours)
+                .findFirst().orElse(CourseRegistrationEngine.DEFAULT_CREDIT_HOURS);
+    }
+
+    private int maxCreditsFor(String studentId) {
+        return Advisor.calculateMaxCredits(gpaStore.getGpa(studentId, 0.0));
+    }
+
+    // Registers any course without a section yet; existing sections keep their seat counts
+    private void openSections() {
+        for (Course c : courses) {
+            registrationEngine.registerSection(c.code, c.capacity, c.creditHours);
+        }
     }
 
     private void manageCourses() {
@@ -115,35 +573,90 @@ public class UMS {
             System.out.println("1. Add Course");
             System.out.println("2. View All Courses");
             System.out.println("3. Set Prerequisites");
-            System.out.println("4. Back to Main Menu");
+            System.out.println("4. Publish Exam Schedule");
+            System.out.println("5. Record Result");
+            System.out.println("6. Post Campus Announcement");
+            System.out.println("7. Back to Main Menu");
 
             int choice = readInt("Enter choice: ");
 
             switch (choice) {
-                case 1 -> Course.addCourse(courses, scanner);
+                case 1 -> {
+                    int before = courses.size();
+                    Course.addCourse(courses, scanner);
+                    if (courses.size() > before) {
+                        Course added = courses.get(courses.size() - 1);
+                        journal(UmsEvent.courseAdded(added.code, added.name, added.creditHours, added.capacity));
+                    }
+                    openSections();
+                }
                 case 2 -> Course.viewAllCourses(courses);
                 case 3 -> {
-                    try {
-                        PrerequisiteManager.setPrerequisites(prerequisites, courses, scanner);
-                    } catch (Exception e) {
-                        System.out.println("Error setting prerequisites: " + e.getMessage());
+                    String courseCode = PrerequisiteManager.setPrerequisites(prerequisiteGraph, courses, scanner);
+                    if (courseCode != null) {
+                        List<String> prereqs = prerequisiteGraph.getPrerequisites(courseCode);
+                        applyPrerequisites(courseCode, prereqs);
+                        journal(UmsEvent.prerequisitesSet(courseCode, prereqs));
+                    }
+                }
+                case 4 -> {
+                    if (publishExamSchedule()) {
+                        System.out.println("Exam schedule published for " + examSlots.size() + " courses.");
                     }
                 }
-                case 4 -> { return; }
+                case 5 -> recordResultFromConsole();
+                case 6 -> {
+                    System.out.print("Enter Announcement: ");
+                    String message = scanner.nextLine().trim();
+                    if (message.isEmpty()) {
+                        System.out.println("Announcement cannot be empty.");
+                    } else {
+                        postAnnouncement(message);
+                        System.out.println("Announcement posted.");
+                    }
+                }
+                case 7 -> { return; }
                 default -> System.out.println("Invalid choice!");
             }
         }
     }
 
+    // A letter grade is both a result, which updates the CGPA, and a history entry, which counts for prerequisites
+    private void recordResultFromConsole() {
+        System.out.print("Enter Student ID: ");
+        Student student = findStudent(scanner.nextLine().trim());
+        if (student == null) {
+            System.out.println("Student not found.");
+            return;
+        }
+        String studentId = student.getId();
+        System.out.print("Enter Course Code: ");
+        String courseCode = scanner.nextLine().trim();
+        if (courses.stream().noneMatch(c -> c.code.equals(courseCode))) {
+            System.out.println("Course does not exist.");
+            return;
+        }
+        System.out.print("Enter Letter Grade (e.g., A, B+, F): ");
+        String entry = courseCode + ": " + scanner.nextLine().trim().toUpperCase();
+        double gradePoints = AcademicHistoryIndex.gradePointsOf(entry);
+        if (Double.isNaN(gradePoints)) {
+            System.out.println("Unknown letter grade.");
+            return;
+        }
+        recordResult(studentId, courseCode, gradePoints);
+        addHistoryEntry(studentId, entry);
+        System.out.printf("Result recorded. CGPA is now %.2f%n", gpaStore.getGpa(studentId, 0.0));
+    }
+
     private void studentOperations() {
         System.out.print("\nEnter Student ID: ");
-        String studentId = scanner.nextLine().trim();
-
-        Student student = findStudent(studentId);
+        Student student = findStudent(scanner.nextLine().trim());
         if (student == null) {
             System.out.println("Student not found!");
             return;
         }
+        // Lookups ignore case; every per-student record is keyed by the stored ID
+        String studentId = student.getId();
 
         System.out.println("\nWelcome, " + student.getName());
 
@@ -155,18 +668,40 @@ public class UMS {
             switch (choice) {
                 case 1 -> studentCourseRegistration(studentId);
                 case 2 -> viewAcademicStatus(studentId);
-                case 3 -> Finance.payFees(studentId, feeStatus);
+                case 3 -> {
+                    if (Finance.payFees(studentId, feeStatus)) {
+                        journal(UmsEvent.feePaid(studentId));
+                    }
+                }
                 case 4 -> CourseMaterial.accessMaterials(studentId, enrolledCourses, courseMaterials, scanner);
-                case 5 -> Assessment.submitAssessment(studentId, studentAssessments, scanner);
-                case 6 -> FYPManager.registerForFYP(studentId, completedCredits, fypStatus, enrolledCourses, prerequisites, scanner);
+                case 5 -> {
+                    Assessment.submitAssessment(studentId, studentAssessments, scanner);
+                    journal(UmsEvent.assessmentSubmitted(studentId, studentAssessments.get(studentId).size() - 1));
+                }
+                case 6 -> {
+                    if (FYPManager.registerForFYP(studentId, completedCredits, fypStatus, enrolledCourses, prerequisites, scanner)) {
+                        journal(UmsEvent.fypRegistered(studentId));
+                    }
+                }
                 case 7 -> Result.viewResults(studentId, semesterResults);
                 case 8 -> Scholarship.checkScholarship(studentId, studentGPAs);
-                case 9 -> DegreeClearance.applyForClearance(studentId, degreeClearance, feeStatus, completedCredits, scanner);
+                case 9 -> {
+                    if (DegreeClearance.applyForClearance(studentId, degreeClearance, feeStatus, completedCredits, scanner)) {
+                        journal(UmsEvent.clearanceGranted(studentId));
+                    }
+                }
                 case 10 -> Exam.viewExams(studentId, enrolledCourses, examSchedule);
-                case 11 -> Notification.viewNotifications(studentId, notifications);
-                case 12 -> Timetable.viewTimetable(studentId, timetables);
+                case 11 -> Notification.viewNotifications(studentId, notificationHub);
+                case 12 -> {
+                    timetables.put(studentId, clashIndex.weeklyTimetable(registrationEngine.getEnrolledCourses(studentId)));
+                    Timetable.viewTimetable(studentId, timetables);
+                }
                 case 13 -> AcademicHistory.viewHistory(studentId, academicHistory);
-                case 14 -> Feedback.submitFeedback(studentId, feedback, scanner);
+                case 14 -> {
+                    Feedback.submitFeedback(studentId, feedback, scanner);
+                    List<String> submitted = feedback.get(studentId);
+                    journal(UmsEvent.feedbackAdded(studentId, submitted.get(submitted.size() - 1), submitted.size() - 1));
+                }
                 case 15 -> Placement.viewPlacementInfo(studentId, placementInfo);
                 case 16 -> { return; }
                 default -> System.out.println("Invalid choice!");
@@ -195,10 +730,7 @@ public class UMS {
     }
 
     private Student findStudent(String studentId) {
-        return students.stream()
-                .filter(s -> s.getId().equals(studentId))
-                .findFirst()
-                .orElse(null);
+        return students.findById(studentId).orElse(null);
     }
 
     private void studentCourseRegistration(String studentId) {
@@ -207,22 +739,23 @@ public class UMS {
             return;
         }
 
-        double gpa = studentGPAs.getOrDefault(studentId, 0.0);
-        int maxCredits = Advisor.calculateMaxCredits(gpa);
-        int currentCredits = enrolledCourses.getOrDefault(studentId, new ArrayList<>()).size() * 3;
+        double gpa = gpaStore.getGpa(studentId, 0.0);
+        int maxCredits = registrationEngine.getMaxCredits(studentId);
+        int currentCredits = registrationEngine.getCreditLoad(studentId);
 
         System.out.println("\nCourse Registration");
         System.out.println("Your current GPA: " + gpa);
         System.out.println("Maximum credits allowed: " + maxCredits);
         System.out.println("Current registered credits: " + currentCredits);
 
-        CourseRegistration.registerCourses(studentId, courses, enrolledCourses, prerequisites, maxCredits, scanner);
+        CourseRegistration.registerCourses(studentId, courses, registrationEngine, waitlist, clashIndex,
+                academicHistoryIndex, scanner);
     }
 
     private void viewAcademicStatus(String studentId) {
         System.out.println("\nAcademic Status:");
-        System.out.println("GPA: " + studentGPAs.getOrDefault(studentId, 0.0));
-        System.out.println("Completed Credits: " + completedCredits.getOrDefault(studentId, 0));
+        System.out.println("GPA: " + gpaStore.getGpa(studentId, 0.0));
+        System.out.println("Completed Credits: " + creditStore.getCredits(studentId, 0));
         System.out.println("Fee Status: " + (feeStatus.getOrDefault(studentId, false) ? "Paid" : "Unpaid"));
     }
 
@@ -232,58 +765,25 @@ public class UMS {
         System.out.println("All tests completed successfully.");
     }
 
-    // --------- Inner classes for Student, Course, etc ----------
-
-    public static class Student {
-        private String id;
-        private String name;
-        private String email;
-        private String contact;
-
-        public Student(String id, String name, String email, String contact) {
-            this.id = id;
-            this.name = name;
-            this.email = email;
-            this.contact = contact;
-        }
-
-        public static void registerStudent(List<Student> students, Scanner scanner) {
-            System.out.print("Enter Student ID: ");
-            String id = scanner.nextLine().trim();
-
-            boolean exists = students.stream().anyMatch(s -> s.getId().equals(id));
-            if (exists) {
-                System.out.println("Student with this ID already exists.");
-                return;
-            }
-
-            System.out.print("Enter Name: ");
-            String name = scanner.nextLine().trim();
-
-            System.out.print("Enter Email: ");
-            String email = scanner.nextLine().trim();
-
-            System.out.print("Enter Contact Number: ");
-            String contact = scanner.nextLine().trim();
-
-            Student newStudent = new Student(id, name, email, contact);
-            students.add(newStudent);
-            System.out.println("Student registered successfully!");
-        }
-
-        public String getId() { return id; }
-        public String getName() { return name; }
-    }
+    // --------- Inner classes for Course, Advisor, etc ----------
 
     public static class Course {
+        public static final int DEFAULT_CAPACITY = 50;
+
         private String code;
         private String name;
         private int creditHours;
+        private int capacity;
 
         public Course(String code, String name, int creditHours) {
+            this(code, name, creditHours, DEFAULT_CAPACITY);
+        }
+
+        public Course(String code, String name, int creditHours, int capacity) {
             this.code = code;
             this.name = name;
             this.creditHours = creditHours;
+            this.capacity = capacity;
         }
 
         public static void addCourse(List<Course> courses, Scanner scanner) {
@@ -323,34 +823,45 @@ public class UMS {
     }
 
     public static class PrerequisiteManager {
-        public static void setPrerequisites(Map<String, List<String>> prerequisites, List<Course> courses, Scanner scanner) {
+        /**
+         * Reads a course's prerequisites into the graph, rejecting input that
+         * would create a cycle.
+         *
+         * @return the course whose prerequisites changed, or null if nothing changed
+         */
+        public static String setPrerequisites(PrerequisiteGraph graph, List<Course> courses, Scanner scanner) {
             System.out.print("Enter Course Code to set prerequisites for: ");
             String courseCode = scanner.nextLine().trim();
 
             boolean courseExists = courses.stream().anyMatch(c -> c.code.equals(courseCode));
             if (!courseExists) {
                 System.out.println("Course does not exist.");
-                return;
+                return null;
             }
 
             System.out.println("Enter prerequisite course codes separated by commas (e.g., CS101,CS201), or leave empty to remove:");
             String input = scanner.nextLine().trim();
 
-            if (input.isEmpty()) {
-                prerequisites.remove(courseCode);
-                System.out.println("Prerequisites removed for " + courseCode);
-            } else {
-                String[] prereqCodes = input.split(",");
-                for (String p : prereqCodes) {
-                    // p = p.trim();
-                    if (courses.stream().noneMatch(c -> c.code.equals(p))) {
-                        System.out.println("Prerequisite course " + p + " does not exist.");
-                        return;
+            List<String> prereqCodes = new ArrayList<>();
+            if (!input.isEmpty()) {
+                for (String p : input.split(",")) {
+                    String code = p.trim();
+                    if (courses.stream().noneMatch(c -> c.code.equals(code))) {
+                        System.out.println("Prerequisite course " + code + " does not exist.");
+                        return null;
                     }
+                    prereqCodes.add(code);
                 }
-                prerequisites.put(courseCode, Arrays.asList(prereqCodes));
-                System.out.println("Prerequisites set for " + courseCode);
             }
+            try {
+                graph.setPrerequisites(courseCode, prereqCodes);
+            } catch (IllegalArgumentException e) {
+                System.out.println("Prerequisites rejected: " + e.getMessage());
+                return null;
+            }
+            System.out.println(prereqCodes.isEmpty() ? "Prerequisites removed for " + courseCode
+                    : "Prerequisites set for " + courseCode);
+            return courseCode;
         }
     }
 
@@ -364,26 +875,39 @@ public class UMS {
     }
 
     public static class CourseRegistration {
-        public static void registerCourses(String studentId, List<Course> courses, Map<String, List<String>> enrolledCourses,
-                                           Map<String, List<String>> prerequisites, int maxCredits, Scanner scanner) {
+        public static void registerCourses(String studentId, List<Course> courses, CourseRegistrationEngine engine,
+                                           RegistrationWaitlist waitlist, TimetableClashIndex clashes,
+                                           AcademicHistoryIndex history, Scanner scanner) {
 
-            List<String> currentCourses = enrolledCourses.getOrDefault(studentId, new ArrayList<>());
-            int currentCredits = currentCourses.size() * 3;
+            List<String> currentCourses = engine.getEnrolledCourses(studentId);
+            int remainingCredits = engine.getMaxCredits(studentId) - engine.getCreditLoad(studentId);
 
             System.out.println("\nAvailable courses:");
             for (Course c : courses) {
-                System.out.println(c.code + " - " + c.name);
+                List<TimeSlot> slots = clashes.getSlots(c.code);
+                System.out.println(c.code + " - " + c.name + " (" + engine.getSeatsAvailable(c.code) + " seats left)"
+                        + (slots.isEmpty() ? "" : " " + slots));
             }
 
             System.out.println("Current enrolled courses: " + currentCourses);
-            System.out.println("You can register up to " + (maxCredits - currentCredits) + " more credits.");
+            System.out.println("You can register up to " + remainingCredits + " more credits.");
 
             while (true) {
-                System.out.print("Enter course code to add (or type 'done' to finish): ");
+                System.out.print("Enter course code to add, 'drop <code>' to drop (or type 'done' to finish): ");
                 String input = scanner.nextLine().trim();
 
                 if (input.equalsIgnoreCase("done")) break;
 
+                if (input.toLowerCase().startsWith("drop ")) {
+                    String dropCode = input.substring(5).trim();
+                    if (engine.drop(studentId, dropCode)) {
+                        System.out.println("Course dropped: " + dropCode);
+                    } else {
+                        System.out.println("You are not enrolled in this course.");
+                    }
+                    continue;
+                }
+
                 Optional<Course> optCourse = courses.stream().filter(c -> c.code.equals(input)).findFirst();
                 if (optCourse.isEmpty()) {
                     System.out.println("Course not found.");
@@ -392,44 +916,57 @@ public class UMS {
 
                 Course course = optCourse.get();
 
-                if (currentCourses.contains(course.code)) {
+                if (engine.getEnrolledCourses(studentId).contains(course.code)) {
                     System.out.println("Already enrolled in this course.");
                     continue;
                 }
 
-                // Check prerequisites
-                List<String> prereqs = prerequisites.getOrDefault(course.code, List.of());
-                boolean prereqMet = currentCourses.containsAll(prereqs);
-                if (!prereqMet) {
-                    System.out.println("You do not meet prerequisites: " + prereqs);
+                // Check the whole prerequisite chain against completed courses
+                List<String> missing = history.missingPrerequisites(studentId, course.code);
+                if (!missing.isEmpty()) {
+                    System.out.println("You do not meet prerequisites: " + missing);
                     continue;
                 }
 
-                // Check max credits
-                if (currentCredits + course.creditHours > maxCredits) {
-                    System.out.println("Exceeds max credit limit.");
+                Optional<TimetableClash> clash = clashes.findClash(studentId, course.code);
+                if (clash.isPresent()) {
+                    System.out.println("Timetable clash: " + clash.get().describe());
                     continue;
                 }
 
-                currentCourses.add(course.code);
-                currentCredits += course.creditHours;
-                System.out.println("Course added: " + course.code);
-
-                enrolledCourses.put(studentId, currentCourses);
+                RegistrationResult result = engine.enroll(studentId, course.code);
+                switch (result.status()) {
+                    case ENROLLED -> System.out.println("Course added: " + course.code);
+                    case CREDIT_LIMIT_EXCEEDED -> System.out.println("Exceeds max credit limit.");
+                    case COURSE_FULL -> {
+                        System.out.print("Course is full. Join the waitlist? (y/n): ");
+                        if (scanner.nextLine().trim().equalsIgnoreCase("y")) {
+                            System.out.println(waitlist.join(studentId, course.code)
+                                    ? "Added to the waitlist. You will be notified if a seat opens."
+                                    : "You are already on the waitlist for this course.");
+                        }
+                    }
+                    case ALREADY_ENROLLED -> System.out.println("Already enrolled in this course.");
+                    // A course added by another session since the check above
+                    case TIMETABLE_CLASH -> System.out.println("Timetable clash with a newly added course.");
+                    default -> System.out.println("Course is not open for registration.");
+                }
             }
 
-            System.out.println("Final enrolled courses: " + enrolledCourses.get(studentId));
+            System.out.println("Final enrolled courses: " + engine.getEnrolledCourses(studentId));
         }
     }
 
     public static class Finance {
-        public static void payFees(String studentId, Map<String, Boolean> feeStatus) {
+        // Returns true if the payment changed the fee status
+        public static boolean payFees(String studentId, Map<String, Boolean> feeStatus) {
             if (feeStatus.getOrDefault(studentId, false)) {
                 System.out.println("Fees already paid.");
-            } else {
-                feeStatus.put(studentId, true);
-                System.out.println("Fees payment successful.");
+                return false;
             }
+            feeStatus.put(studentId, true);
+            System.out.println("Fees payment successful.");
+            return true;
         }
     }
 
@@ -485,18 +1022,18 @@ public class UMS {
     }
 
     public static class FYPManager {
-        public static void registerForFYP(String studentId, Map<String, Integer> completedCredits,
+        public static boolean registerForFYP(String studentId, Map<String, Integer> completedCredits,
                                           Map<String, Boolean> fypStatus, Map<String, List<String>> enrolledCourses,
                                           Map<String, List<String>> prerequisites, Scanner scanner) {
             if (fypStatus.getOrDefault(studentId, false)) {
                 System.out.println("You are already registered for FYP.");
-                return;
+                return false;
             }
 
             int credits = completedCredits.getOrDefault(studentId, 0);
             if (credits < 90) {
                 System.out.println("You need at least 90 credits to register for FYP.");
-                return;
+                return false;
             }
 
             List<String> prereqs = prerequisites.getOrDefault("CS801", List.of());
@@ -504,11 +1041,12 @@ public class UMS {
 
             if (!courses.containsAll(prereqs)) {
                 System.out.println("You do not meet the prerequisites for FYP: " + prereqs);
-                return;
+                return false;
             }
 
             fypStatus.put(studentId, true);
             System.out.println("FYP registration successful.");
+            return true;
         }
     }
 
@@ -539,26 +1077,27 @@ public class UMS {
     }
 
     public static class DegreeClearance {
-        public static void applyForClearance(String studentId, Map<String, Boolean> degreeClearance,
+        public static boolean applyForClearance(String studentId, Map<String, Boolean> degreeClearance,
                                              Map<String, Boolean> feeStatus, Map<String, Integer> completedCredits, Scanner scanner) {
             if (degreeClearance.getOrDefault(studentId, false)) {
                 System.out.println("Degree clearance already granted.");
-                return;
+                return false;
             }
 
             if (!feeStatus.getOrDefault(studentId, false)) {
                 System.out.println("Please clear your fees first.");
-                return;
+                return false;
             }
 
             int credits = completedCredits.getOrDefault(studentId, 0);
             if (credits < 120) {
                 System.out.println("You have not completed required credits for graduation.");
-                return;
+                return false;
             }
 
             degreeClearance.put(studentId, true);
             System.out.println("Degree clearance granted.");
+            return true;
         }
     }
 
@@ -580,14 +1119,16 @@ public class UMS {
     }
 
     public static class Notification {
-        public static void viewNotifications(String studentId, Map<String, List<String>> notifications) {
-            List<String> notes = notifications.getOrDefault(studentId, new ArrayList<>());
+        // Marks read only up to the newest notification shown; later ones stay unread
+        public static void viewNotifications(String studentId, NotificationHub hub) {
+            List<StoredNotification> notes = hub.entries(studentId);
 
             if (notes.isEmpty()) {
                 System.out.println("No new notifications.");
             } else {
                 System.out.println("Notifications:");
-                notes.forEach(System.out::println);
+                notes.forEach(note -> System.out.println(note.message()));
+                hub.markReadThrough(studentId, notes.get(notes.size() - 1).sequence());
             }
         }
     }
@@ -661,11 +1202,15 @@ public class UMS {
     }
 
     public List<Student> getStudents() {
-        return students;
+        return students.findAll();
     }
 
     public void setStudents(List<Student> students) {
-        this.students = students;
+        this.students = new InMemoryStudentRepository(students);
+    }
+
+    public StudentRepository getStudentRepository() {
+        return students;
     }
 
     public List<Course> getCourses() {
@@ -682,6 +1227,7 @@ public class UMS {
 
     public void setPrerequisites(Map<String, List<String>> prerequisites) {
         this.prerequisites = prerequisites;
+        rebuildHistoryIndex();
     }
 
     public Map<String, Double> getStudentGPAs() {
@@ -690,6 +1236,8 @@ public class UMS {
 
     public void setStudentGPAs(Map<String, Double> studentGPAs) {
         this.studentGPAs = studentGPAs;
+        this.gpaStore = GpaStore.of(studentGPAs);
+        this.gpaEngine = newGpaEngine();
     }
 
     public Map<String, Integer> getCompletedCredits() {
@@ -698,6 +1246,7 @@ public class UMS {
 
     public void setCompletedCredits(Map<String, Integer> completedCredits) {
         this.completedCredits = completedCredits;
+        this.creditStore = CreditStore.of(completedCredits);
     }
 
     public Map<String, Boolean> getFeeStatus() {
@@ -713,7 +1262,12 @@ public class UMS {
     }
 
     public void setEnrolledCourses(Map<String, List<String>> enrolledCourses) {
-        this.enrolledCourses = enrolledCourses;
+        this.enrolledCourses = new ConcurrentHashMap<>(enrolledCourses);
+        rebuildRegistrationEngine();
+    }
+
+    public CourseRegistrationEngine getRegistrationEngine() {
+        return registrationEngine;
     }
 
     public Map<String, List<String>> getCourseMaterials() {
@@ -764,12 +1318,18 @@ public class UMS {
         this.examSchedule = examSchedule;
     }
 
+    // Read-only view of the hub's inboxes
     public Map<String, List<String>> getNotifications() {
-        return notifications;
+        return notificationHub.asMap();
     }
 
+    // Copies the map into a new hub; later changes to the map are not seen
     public void setNotifications(Map<String, List<String>> notifications) {
-        this.notifications = notifications;
+        this.notificationHub = NotificationHub.copyOf(NotificationRetentionPolicy.defaults(), notifications);
+    }
+
+    public NotificationHub getNotificationHub() {
+        return notificationHub;
     }
 
     public Map<String, Map<String, String>> getTimetables() {
@@ -782,6 +1342,21 @@ public class UMS {
 
     public void setAcademicHistory(Map<String, List<String>> academicHistory) {
         this.academicHistory = academicHistory;
+        rebuildHistoryIndex();
+    }
+
+    /**
+     * Appends an entry like "CS101: A" to the student's history, updating the
+     * prerequisite index and journaling it.
+     */
+    public void addHistoryEntry(String studentId, String entry) {
+        int position = academicHistory.getOrDefault(studentId, List.of()).size();
+        academicHistoryIndex.addEntry(studentId, entry);
+        journal(UmsEvent.historyAdded(studentId, entry, position));
+    }
+
+    public AcademicHistoryIndex getAcademicHistoryIndex() {
+        return academicHistoryIndex;
     }
 
     public Map<String, List<String>> getFeedback() {
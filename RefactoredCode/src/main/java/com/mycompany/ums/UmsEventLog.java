@@ -0,0 +1,716 @@
+package com.mycompany.ums;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead log for UMS state changes.
+ *
+ * Every mutation is encoded as a compact binary record (length, CRC32, type,
+ * key, arguments, value) and appended to ums.log through a FileChannel. A
+ * single flusher thread takes every record queued since its last write,
+ * writes them with one gathering write and forces them to disk once, so
+ * concurrent writers share the cost of each fsync (group commit).
+ *
+ * A snapshot rewrites the current state as events into ums.snapshot and
+ * starts a fresh log, so recovery replays at most one snapshot plus the
+ * events logged since. Both files carry a generation number; a log older than
+ * the snapshot, left behind by a crash between the two renames, is ignored.
+ * A torn record at the end of the log is truncated on recovery.
+ *
+ * If a write or fsync fails, the flusher truncates the log back to the end
+ * of the last durable batch before writing anything else, so no later record
+ * sits behind a partial one. If even that fails, the log is marked failed
+ * and every later append completes exceptionally.
+ */
+public final class UmsEventLog implements AutoCloseable {
+    static final String LOG_FILE = "ums.log";
+    static final String SNAPSHOT_FILE = "ums.snapshot";
+
+    private static final int MAGIC = 0x554D534C; // "UMSL"
+    private static final int FILE_HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    private static final int RECORD_HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+    private static final int IO_BUFFER_BYTES = 64 * 1024;
+
+    private final Path directory;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition queued = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final Thread flusher;
+    private final long recoveredEvents;
+
+    private List<PendingRecord> pending = new ArrayList<>();
+    private boolean flushing;
+    private boolean closed;
+    private IOException failure;
+    private FileChannel channel;
+    private long generation;
+    private long bytesSinceSnapshot;
+    private long flushes;
+
+    private UmsEventLog(Path directory, Consumer<UmsEvent> replay) throws IOException {
+        this.directory = directory;
+        long events = 0;
+
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshot)) {
+            try (FileChannel in = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+                generation = readHeader(in, snapshot);
+                RecordReader reader = new RecordReader(in);
+                for (UmsEvent event = reader.next(); event != null; event = reader.next()) {
+                    replay.accept(event);
+                    events++;
+                }
+                // Snapshots are renamed into place only when complete, so a bad record is real damage
+                if (reader.position() != in.size()) {
+                    throw new IOException("Corrupt snapshot record at offset " + reader.position() + " in " + snapshot);
+                }
+            }
+        }
+
+        Path log = directory.resolve(LOG_FILE);
+        if (Files.exists(log) && Files.size(log) >= FILE_HEADER_BYTES && logGeneration(log) == generation) {
+            channel = FileChannel.open(log, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            readHeader(channel, log);
+            RecordReader reader = new RecordReader(channel);
+            for (UmsEvent event = reader.next(); event != null; event = reader.next()) {
+                replay.accept(event);
+                events++;
+            }
+            long end = reader.position();
+            channel.truncate(end);
+            channel.position(end);
+            bytesSinceSnapshot = end - FILE_HEADER_BYTES;
+        } else {
+            channel = createFile(log, generation);
+        }
+        recoveredEvents = events;
+
+        flusher = new Thread(this::flushLoop, "ums-event-log");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Opens the log in the directory, replaying the snapshot and then the log
+     * through {@code replay} before returning.
+     */
+    public static UmsEventLog open(Path directory, Consumer<UmsEvent> replay) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null");
+        }
+        if (replay == null) {
+            throw new IllegalArgumentException("Replay handler cannot be null");
+        }
+        Files.createDirectories(directory);
+        return new UmsEventLog(directory, replay);
+    }
+
+    /**
+     * Number of events replayed by {@link #open}; zero for a new directory.
+     */
+    public long getRecoveredEvents() {
+        return recoveredEvents;
+    }
+
+    /**
+     * Queues the event without waiting for the disk; the future completes once
+     * the record is durable. Only a snapshot in progress can hold the caller up,
+     * so this is safe to call while holding other locks, in mutation order.
+     */
+    public CompletableFuture<Void> appendAsync(UmsEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        ByteBuffer record = encode(event);
+        CompletableFuture<Void> durable = new CompletableFuture<>();
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Event log is closed");
+            }
+            if (failure != null) {
+                durable.completeExceptionally(new UncheckedIOException("Event log has failed", failure));
+                return durable;
+            }
+            pending.add(new PendingRecord(record, durable));
+            queued.signal();
+        } finally {
+            lock.unlock();
+        }
+        return durable;
+    }
+
+    /**
+     * Appends the event and returns once it is durable.
+     *
+     * @throws UncheckedIOException if the write or fsync failed
+     */
+    public void append(UmsEvent event) {
+        try {
+            appendAsync(event).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw (UncheckedIOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the state emitted by {@code state} as a new snapshot and starts an
+     * empty log. Appends wait while the snapshot is written. Events that race
+     * with the snapshot may be both in it and in the new log, so replay of
+     * every event type must be idempotent.
+     */
+    public void snapshot(Consumer<Consumer<UmsEvent>> state) throws IOException {
+        if (state == null) {
+            throw new IllegalArgumentException("State writer cannot be null");
+        }
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Event log is closed");
+            }
+            while (flushing || !pending.isEmpty()) {
+                flushed.awaitUninterruptibly();
+            }
+            if (failure != null) {
+                throw new IOException("Event log has failed", failure);
+            }
+            long next = generation + 1;
+            Path snapshot = directory.resolve(SNAPSHOT_FILE);
+            Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeHeader(out, next);
+                ByteBuffer buffer = ByteBuffer.allocate(IO_BUFFER_BYTES);
+                try {
+                    state.accept(event -> bufferedWrite(out, buffer, encode(event)));
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                buffer.flip();
+                writeFully(out, buffer);
+                out.force(true);
+            }
+            Files.move(temp, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            FileChannel fresh = createFile(directory.resolve(LOG_FILE), next);
+            channel.close();
+            channel = fresh;
+            generation = next;
+            bytesSinceSnapshot = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Log bytes written since the last snapshot, for deciding when to take the next one.
+     */
+    public long getBytesSinceSnapshot() {
+        lock.lock();
+        try {
+            return bytesSinceSnapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of write+fsync rounds so far; appends divided by this is the average group size.
+     */
+    public long getFlushCount() {
+        lock.lock();
+        try {
+            return flushes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flushes everything already queued and closes the files.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queued.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    private void flushLoop() {
+        while (true) {
+            List<PendingRecord> batch;
+            FileChannel target;
+            IOException failed;
+            lock.lock();
+            try {
+                while (pending.isEmpty() && !closed) {
+                    queued.awaitUninterruptibly();
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                pending = new ArrayList<>(batch.size());
+                flushing = true;
+                target = channel;
+                failed = failure;
+            } finally {
+                lock.unlock();
+            }
+            if (failed != null) {
+                // Queued before the log failed; nothing more is written
+                finish(batch, false, 0, failed, failed);
+                continue;
+            }
+
+            ByteBuffer[] records = new ByteBuffer[batch.size()];
+            long bytes = 0;
+            for (int i = 0; i < records.length; i++) {
+                records[i] = batch.get(i).record;
+                bytes += records[i].remaining();
+            }
+            IOException writeFailure = null;
+            IOException logFailure = null;
+            long start = -1;
+            try {
+                start = target.position();
+                long written = 0;
+                while (written < bytes) {
+                    written += target.write(records);
+                }
+                target.force(false);
+            } catch (IOException e) {
+                writeFailure = e;
+                logFailure = rollBack(target, start, e);
+            }
+            finish(batch, true, writeFailure == null ? bytes : 0, writeFailure, logFailure);
+        }
+    }
+
+    // Cuts a partly written batch off the log so later batches follow the last durable record
+    private static IOException rollBack(FileChannel target, long start, IOException cause) {
+        if (start < 0) {
+            return cause;
+        }
+        try {
+            target.truncate(start);
+            target.position(start);
+            target.force(false);
+            return null;
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            return cause;
+        }
+    }
+
+    private void finish(List<PendingRecord> batch, boolean written, long bytes,
+                        IOException writeFailure, IOException logFailure) {
+        lock.lock();
+        try {
+            flushing = false;
+            if (written) {
+                flushes++;
+            }
+            bytesSinceSnapshot += bytes;
+            if (logFailure != null && failure == null) {
+                failure = logFailure;
+            }
+            flushed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (PendingRecord record : batch) {
+            if (writeFailure == null) {
+                record.durable.complete(null);
+            } else {
+                record.durable.completeExceptionally(new UncheckedIOException("Failed to write event log", writeFailure));
+            }
+        }
+    }
+
+    private FileChannel createFile(Path path, long fileGeneration) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeHeader(out, fileGeneration);
+            out.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory();
+        FileChannel created = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        created.position(created.size());
+        return created;
+    }
+
+    // Makes the renames durable; not every platform can open a directory, which is fine to skip
+    private void syncDirectory() {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static void writeHeader(FileChannel out, long fileGeneration) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES);
+        header.putInt(MAGIC).putLong(fileGeneration).flip();
+        writeFully(out, header);
+    }
+
+    private static long readHeader(FileChannel in, Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES);
+        while (header.hasRemaining()) {
+            if (in.read(header) < 0) {
+                throw new IOException("Truncated header in " + path);
+            }
+        }
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a UMS event file: " + path);
+        }
+        return header.getLong();
+    }
+
+    private static long logGeneration(Path log) throws IOException {
+        try (FileChannel in = FileChannel.open(log, StandardOpenOption.READ)) {
+            return readHeader(in, log);
+        }
+    }
+
+    private static void bufferedWrite(FileChannel out, ByteBuffer buffer, ByteBuffer record) {
+        try {
+            if (record.remaining() > buffer.remaining()) {
+                buffer.flip();
+                writeFully(out, buffer);
+                buffer.clear();
+            }
+            if (record.remaining() > buffer.remaining()) {
+                writeFully(out, record);
+            } else {
+                buffer.put(record);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * Record layout: int body length, int CRC32 of the body, then the body:
+     * type code, key, argument count, arguments, value. Strings are an
+     * unsigned short byte length followed by UTF-8.
+     */
+    static ByteBuffer encode(UmsEvent event) {
+        byte[] key = utf8(event.key());
+        byte[][] args = new byte[event.args().size()][];
+        int bodyLength = 1 + Short.BYTES + key.length + 1 + Double.BYTES;
+        for (int i = 0; i < args.length; i++) {
+            args[i] = utf8(event.args().get(i));
+            bodyLength += Short.BYTES + args[i].length;
+        }
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + bodyLength);
+        record.putInt(bodyLength).putInt(0);
+        record.put(event.type().code());
+        record.putShort((short) key.length).put(key);
+        record.put((byte) args.length);
+        for (byte[] arg : args) {
+            record.putShort((short) arg.length).put(arg);
+        }
+        record.putDouble(event.value());
+
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), RECORD_HEADER_BYTES, bodyLength);
+        record.putInt(Integer.BYTES, (int) crc.getValue());
+        return record.flip();
+    }
+
+    private static UmsEvent decode(ByteBuffer body) {
+        UmsEventType type = UmsEventType.fromCode(body.get());
+        String key = readString(body);
+        int argCount = Byte.toUnsignedInt(body.get());
+        List<String> args = new ArrayList<>(argCount);
+        for (int i = 0; i < argCount; i++) {
+            args.add(readString(body));
+        }
+        return new UmsEvent(type, key, args, body.getDouble());
+    }
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Event field too long: " + bytes.length + " bytes");
+        }
+        return bytes;
+    }
+
+    private static String readString(ByteBuffer body) {
+        int length = Short.toUnsignedInt(body.getShort());
+        String value = new String(body.array(), body.arrayOffset() + body.position(), length, StandardCharsets.UTF_8);
+        body.position(body.position() + length);
+        return value;
+    }
+
+    private static final class PendingRecord {
+        final ByteBuffer record;
+        final CompletableFuture<Void> durable;
+
+        PendingRecord(ByteBuffer record, CompletableFuture<Void> durable) {
+            this.record = record;
+            this.durable = durable;
+        }
+    }
+
+    /**
+     * Sequential reader that stops at end of file or at the first torn or corrupt record.
+     */
+    private static final class RecordReader {
+        private final FileChannel in;
+        private ByteBuffer buffer = ByteBuffer.allocate(IO_BUFFER_BYTES).flip();
+        private long position;
+        private boolean eof;
+
+        RecordReader(FileChannel in) throws IOException {
+            this.in = in;
+            this.position = in.position();
+        }
+
+        long position() {
+            return position;
+        }
+
+        UmsEvent next() throws IOException {
+            if (!fill(RECORD_HEADER_BYTES)) {
+                return null;
+            }
+            int start = buffer.position();
+            int bodyLength = buffer.getInt(start);
+            int expectedCrc = buffer.getInt(start + Integer.BYTES);
+            if (bodyLength <= 0 || bodyLength > MAX_RECORD_BYTES || !fill(RECORD_HEADER_BYTES + bodyLength)) {
+                return null;
+            }
+            start = buffer.position();
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), start + RECORD_HEADER_BYTES, bodyLength);
+            if ((int) crc.getValue() != expectedCrc) {
+                return null;
+            }
+            ByteBuffer body = ByteBuffer.wrap(buffer.array(), start + RECORD_HEADER_BYTES, bodyLength).slice();
+            UmsEvent event;
+            try {
+                event = decode(body);
+            } catch (RuntimeException e) {
+                return null;
+            }
+            buffer.position(start + RECORD_HEADER_BYTES + bodyLength);
+            position += RECORD_HEADER_BYTES + bodyLength;
+            return event;
+        }
+
+        private boolean fill(int needed) throws IOException {
+            if (buffer.remaining() >= needed) {
+                return true;
+            }
+            if (needed > buffer.capacity()) {
+                ByteBuffer larger = ByteBuffer.allocate(needed);
+                larger.put(buffer).flip();
+                buffer = larger;
+            }
+            buffer.compact();
+            while (!eof && buffer.position() < needed) {
+                if (in.read(buffer) < 0) {
+                    eof = true;
+                }
+            }
+            buffer.flip();
+            return buffer.remaining() >= needed;
+        }
+    }
+}
+
+/**
+ * Kinds of logged mutation, with their stable on-disk codes.
+ */
+enum UmsEventType {
+    STUDENT_REGISTERED(1),
+    COURSE_ADDED(2),
+    PREREQUISITES_SET(3),
+    FEE_PAID(4),
+    ENROLLED(5),
+    DROPPED(6),
+    FYP_REGISTERED(7),
+    CLEARANCE_GRANTED(8),
+    RESULT_RECORDED(9),
+    GPA_UPDATED(10),
+    CREDITS_UPDATED(11),
+    HISTORY_ADDED(12),
+    FEEDBACK_ADDED(13),
+    NOTIFICATION_PUBLISHED(14),
+    ASSESSMENT_SUBMITTED(15),
+    EXAM_SCHEDULED(16);
+
+    private static final UmsEventType[] BY_CODE = new UmsEventType[17];
+
+    static {
+        for (UmsEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+
+    UmsEventType(int code) {
+        this.code = (byte) code;
+    }
+
+    byte code() {
+        return code;
+    }
+
+    static UmsEventType fromCode(byte code) {
+        UmsEventType type = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown event type code: " + code);
+        }
+        return type;
+    }
+}
+
+/**
+ * One logged mutation. The key is the student ID, the course code for
+ * catalog events, or the topic for published notifications. Events that append to a list carry the entry's position in
+ * {@code value}, so replaying them twice does not duplicate the entry.
+ */
+record UmsEvent(UmsEventType type, String key, List<String> args, double value) {
+    UmsEvent {
+        if (type == null) {
+            throw new IllegalArgumentException("Event type cannot be null");
+        }
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Event key cannot be null or empty");
+        }
+        args = List.copyOf(args);
+        if (args.size() > 0xFF) {
+            throw new IllegalArgumentException("Too many event arguments: " + args.size());
+        }
+    }
+
+    static UmsEvent studentRegistered(Student student) {
+        return new UmsEvent(UmsEventType.STUDENT_REGISTERED, student.getId(),
+                List.of(student.getName(), student.getEmail(), student.getPhone()), 0);
+    }
+
+    static UmsEvent courseAdded(String code, String name, int creditHours, int capacity) {
+        return new UmsEvent(UmsEventType.COURSE_ADDED, code,
+                List.of(name, Integer.toString(creditHours), Integer.toString(capacity)), 0);
+    }
+
+    static UmsEvent prerequisitesSet(String courseCode, List<String> prerequisites) {
+        return new UmsEvent(UmsEventType.PREREQUISITES_SET, courseCode, prerequisites, 0);
+    }
+
+    static UmsEvent feePaid(String studentId) {
+        return new UmsEvent(UmsEventType.FEE_PAID, studentId, List.of(), 0);
+    }
+
+    static UmsEvent enrolled(String studentId, String courseCode) {
+        return new UmsEvent(UmsEventType.ENROLLED, studentId, List.of(courseCode), 0);
+    }
+
+    static UmsEvent dropped(String studentId, String courseCode) {
+        return new UmsEvent(UmsEventType.DROPPED, studentId, List.of(courseCode), 0);
+    }
+
+    static UmsEvent fypRegistered(String studentId) {
+        return new UmsEvent(UmsEventType.FYP_REGISTERED, studentId, List.of(), 0);
+    }
+
+    static UmsEvent clearanceGranted(String studentId) {
+        return new UmsEvent(UmsEventType.CLEARANCE_GRANTED, studentId, List.of(), 0);
+    }
+
+    static UmsEvent resultRecorded(String studentId, String courseCode, double grade) {
+        return new UmsEvent(UmsEventType.RESULT_RECORDED, studentId, List.of(courseCode), grade);
+    }
+
+    static UmsEvent gpaUpdated(String studentId, double gpa) {
+        return new UmsEvent(UmsEventType.GPA_UPDATED, studentId, List.of(), gpa);
+    }
+
+    static UmsEvent creditsUpdated(String studentId, int credits) {
+        return new UmsEvent(UmsEventType.CREDITS_UPDATED, studentId, List.of(), credits);
+    }
+
+    static UmsEvent historyAdded(String studentId, String entry, int position) {
+        return new UmsEvent(UmsEventType.HISTORY_ADDED, studentId, List.of(entry), position);
+    }
+
+    static UmsEvent feedbackAdded(String studentId, String feedback, int position) {
+        return new UmsEvent(UmsEventType.FEEDBACK_ADDED, studentId, List.of(feedback), position);
+    }
+
+    /**
+     * A notification published to a hub topic, keyed by the topic. Carries
+     * the hub-wide sequence rather than a list position, as topics shrink
+     * when notifications expire.
+     */
+    static UmsEvent notificationPublished(String topic, StoredNotification notification) {
+        return new UmsEvent(UmsEventType.NOTIFICATION_PUBLISHED, topic, List.of(notification.message(),
+                notification.category().name(), Long.toString(notification.postedAt())), notification.sequence());
+    }
+
+    static UmsEvent assessmentSubmitted(String studentId, int position) {
+        return new UmsEvent(UmsEventType.ASSESSMENT_SUBMITTED, studentId, List.of(), position);
+    }
+
+    /**
+     * The course's exam session as date and time, or no arguments if it has none.
+     */
+    static UmsEvent examScheduled(String courseCode, ExamSlot slot) {
+        return new UmsEvent(UmsEventType.EXAM_SCHEDULED, courseCode,
+                slot == null ? List.of() : List.of(slot.date().toString(), slot.time().toString()), 0);
+    }
+
+    String arg(int index) {
+        return args.get(index);
+    }
+
+    int position() {
+        return (int) value;
+    }
+}
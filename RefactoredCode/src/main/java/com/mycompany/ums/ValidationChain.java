@@ -0,0 +1,55 @@
+package com.mycompany.ums;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Validators applied in order, stopping at the first failure. A chain is
+ * itself a Validator, so chains nest and can be passed wherever a
+ * Validator<T> is expected, e.g.
+ * {@code ValidationChain.all(idRules).and(feesRule)}.
+ */
+final class ValidationChain<T> implements Validator<T> {
+    private final List<Validator<? super T>> validators;
+
+    private ValidationChain(List<Validator<? super T>> validators) {
+        this.validators = validators;
+    }
+
+    static <T> ValidationChain<T> all(List<? extends Validator<? super T>> validators) {
+        if (validators == null) {
+            throw new IllegalArgumentException("Validators cannot be null");
+        }
+        for (Validator<? super T> validator : validators) {
+            Objects.requireNonNull(validator, "Validator cannot be null");
+        }
+        return new ValidationChain<T>(List.copyOf(validators));
+    }
+
+    /**
+     * A new chain that runs next after this one's validators.
+     */
+    ValidationChain<T> and(Validator<? super T> next) {
+        Objects.requireNonNull(next, "Validator cannot be null");
+        List<Validator<? super T>> extended = new ArrayList<>(validators);
+        extended.add(next);
+        return new ValidationChain<T>(List.copyOf(extended));
+    }
+
+    @Override
+    public void validate(T input) {
+        check(input).orThrow();
+    }
+
+    @Override
+    public ValidationResult check(T input) {
+        for (Validator<? super T> validator : validators) {
+            ValidationResult result = validator.check(input);
+            if (!result.isValid()) {
+                return result;
+            }
+        }
+        return ValidationResult.valid();
+    }
+}
@@ -0,0 +1,108 @@
+package com.mycompany.ums;
+
+import java.util.Objects;
+
+/**
+ * Outcome of a Validator's check(): valid, or a failure with an error code
+ * and the message validate() would have thrown.
+ *
+ * Results are plain immutable values, not exceptions, so bulk jobs where
+ * failures are common pay no stack-trace capture. Validators keep their
+ * failures in constants, so a rejected input allocates nothing either.
+ * Callers that still want an exception call {@link #orThrow()}.
+ */
+public final class ValidationResult {
+    private static final ValidationResult VALID = new ValidationResult(null, null);
+
+    private final ErrorCode code;
+    private final String message;
+
+    private ValidationResult(ErrorCode code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+
+    public static ValidationResult valid() {
+        return VALID;
+    }
+
+    public static ValidationResult failure(ErrorCode code, String message) {
+        Objects.requireNonNull(code, "Error code cannot be null");
+        if (message == null || message.isBlank()) {
+            throw new IllegalArgumentException("Failure message cannot be null or empty");
+        }
+        return new ValidationResult(code, message);
+    }
+
+    /**
+     * Runs a validator that throws and captures its IllegalArgumentException
+     * as a REJECTED failure with the same message. Any other exception is a
+     * bug, not a rejection, and propagates. This is the adapter for
+     * validators without a check() of their own; it still pays for the
+     * exception.
+     */
+    public static ValidationResult capture(Runnable validation) {
+        try {
+            validation.run();
+            return VALID;
+        } catch (IllegalArgumentException e) {
+            return new ValidationResult(CommonErrorCode.REJECTED,
+                    e.getMessage() == null ? CommonErrorCode.REJECTED.name() : e.getMessage());
+        }
+    }
+
+    public boolean isValid() {
+        return code == null;
+    }
+
+    /**
+     * Error code, or null when valid.
+     */
+    public ErrorCode code() {
+        return code;
+    }
+
+    /**
+     * The message validate() throws for this failure, or null when valid.
+     */
+    public String message() {
+        return message;
+    }
+
+    /**
+     * Throws IllegalArgumentException with this failure's message; does
+     * nothing when valid.
+     */
+    public void orThrow() {
+        if (code != null) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return code == null ? "VALID" : code.name() + ": " + message;
+    }
+}
+
+/**
+ * Machine-readable failure reason. Domains declare their own enums
+ * implementing this, e.g. ClearanceFailure.
+ */
+interface ErrorCode {
+    String name();
+}
+
+/**
+ * Failure reasons shared by validators across modules.
+ */
+enum CommonErrorCode implements ErrorCode {
+    /** A required value is null or blank. */
+    MISSING,
+    /** A number is below its allowed minimum. */
+    NEGATIVE,
+    /** A value is present but not acceptable. */
+    INVALID,
+    /** A throwing validator was adapted; the message is its exception message. */
+    REJECTED
+}